@@ -0,0 +1,139 @@
+package benchmark;
+
+import java.util.Locale;
+
+/**
+ * Data class keeping in memory the measures of one benchmark on one map, measured by {@link BenchmarkRunner}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class BenchmarkResult {
+
+    /**
+     * Student's t values for a 99.9% confidence interval, by degrees of freedom (from 1 to 10).
+     */
+    private static final double[] STUDENT_T_999 = {636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587};
+
+    /**
+     * Student's t value for a 99.9% confidence interval with more than 10 degrees of freedom.
+     */
+    private static final double STUDENT_T_999_LARGE = 3.291;
+
+    private final String benchmark;
+
+    private final String mapTitle;
+
+    /**
+     * The amount of cells of the map.
+     */
+    private final int cells;
+
+    /**
+     * The average duration in nanoseconds of one operation during each measurement iteration.
+     */
+    private final double[] iterationScores;
+
+    /**
+     * The amount of operations measured during all measurement iterations.
+     */
+    private final long operations;
+
+    /**
+     * The amount of bytes allocated by an operation on average, -1 when the JVM can't measure it.
+     */
+    private final double allocatedBytesPerOperation;
+
+    /**
+     * @param benchmark                  the name of the benchmark.
+     * @param mapTitle                   the title of the map on which the benchmark is measured.
+     * @param cells                      the amount of cells of the map.
+     * @param iterationScores            the average duration in ns of one operation during each measurement iteration.
+     * @param operations                 the amount of operations measured.
+     * @param allocatedBytesPerOperation the amount of bytes allocated by an operation, -1 when unknown.
+     * @throws IllegalArgumentException if there is no iteration score.
+     */
+    public BenchmarkResult(String benchmark, String mapTitle, int cells, double[] iterationScores, long operations,
+                           double allocatedBytesPerOperation) throws IllegalArgumentException {
+        if (benchmark == null || mapTitle == null || iterationScores == null || iterationScores.length == 0) {
+            throw new IllegalArgumentException();
+        }
+        this.benchmark = benchmark;
+        this.mapTitle = mapTitle;
+        this.cells = cells;
+        this.iterationScores = iterationScores.clone();
+        this.operations = operations;
+        this.allocatedBytesPerOperation = allocatedBytesPerOperation;
+    }
+
+    /**
+     * @return the average duration in ns of one operation over all measurement iterations.
+     */
+    public double getScore() {
+        double sum = 0;
+        for (double score : iterationScores) {
+            sum += score;
+        }
+        return sum / iterationScores.length;
+    }
+
+    /**
+     * @return the half width in ns of the 99.9% confidence interval of the score, 0 with a single iteration.
+     */
+    public double getScoreError() {
+        int degrees = iterationScores.length - 1;
+        if (degrees < 1) {
+            return 0;
+        }
+        double score = getScore();
+        double variance = 0;
+        for (double iterationScore : iterationScores) {
+            variance += (iterationScore - score) * (iterationScore - score);
+        }
+        variance /= degrees;
+        double t = degrees <= STUDENT_T_999.length ? STUDENT_T_999[degrees - 1] : STUDENT_T_999_LARGE;
+        return t * Math.sqrt(variance / iterationScores.length);
+    }
+
+    public double getMinScore() {
+        double min = Double.MAX_VALUE;
+        for (double score : iterationScores) {
+            min = Math.min(min, score);
+        }
+        return min;
+    }
+
+    public double getMaxScore() {
+        double max = 0;
+        for (double score : iterationScores) {
+            max = Math.max(max, score);
+        }
+        return max;
+    }
+
+    public String getBenchmark() {
+        return benchmark;
+    }
+
+    public String getMapTitle() {
+        return mapTitle;
+    }
+
+    /**
+     * @return the header of the CSV lines returned by {@link #toCsvLine()}.
+     */
+    public static String csvHeader() {
+        return "benchmark;map;cells;iterations;operations;ns_per_op;error_ns;min_ns;max_ns;bytes_per_op";
+    }
+
+    /**
+     * @return the measures as a CSV line, separated by semicolons.
+     */
+    public String toCsvLine() {
+        return benchmark + ';' + mapTitle + ';' + cells + ';' + iterationScores.length + ';' + operations
+                + ';' + String.format(Locale.ROOT, "%.1f", getScore())
+                + ';' + String.format(Locale.ROOT, "%.1f", getScoreError())
+                + ';' + String.format(Locale.ROOT, "%.1f", getMinScore())
+                + ';' + String.format(Locale.ROOT, "%.1f", getMaxScore())
+                + ';' + String.format(Locale.ROOT, "%.0f", allocatedBytesPerOperation);
+    }
+}
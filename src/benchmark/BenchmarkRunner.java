@@ -0,0 +1,136 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Supplier;
+
+/**
+ * Measures the average duration of an operation, in the way of JMH "average time" mode : warmup iterations let the JIT
+ * compile the measured code, then each measurement iteration runs the operation for a given time and gives one score.
+ * <p>
+ * Operations are run by batches timed as a whole, so the cost of reading the clock is negligible even for operations
+ * lasting less than a microsecond. The result of each operation is kept in a volatile field so the JIT can't remove the
+ * computation of a result which is never used.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * An operation to measure, it returns its result so it is not removed by the JIT.
+     */
+    public interface Operation {
+        Object run();
+    }
+
+    /**
+     * Batches lasting less than this time in ns are doubled.
+     */
+    private static final long MIN_BATCH_TIME = 10_000;
+
+    /**
+     * Keeps the result of the last operation, never read.
+     */
+    private static volatile Object sink;
+
+    private final int warmupIterations;
+
+    private final int measurementIterations;
+
+    /**
+     * Time in ns during which an operation is run in each iteration.
+     */
+    private final long iterationTime;
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * @param warmupIterations      the amount of iterations run before measuring.
+     * @param measurementIterations the amount of measured iterations.
+     * @param iterationTimeMillis   the time in ms during which an operation is run in each iteration.
+     * @throws IllegalArgumentException if an amount is not valid.
+     */
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationTimeMillis) throws IllegalArgumentException {
+        if (warmupIterations < 0 || measurementIterations <= 0 || iterationTimeMillis <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationTime = iterationTimeMillis * 1_000_000;
+    }
+
+    /**
+     * @param benchmark     the name of the benchmark.
+     * @param mapTitle      the title of the map on which the benchmark is measured.
+     * @param cells         the amount of cells of the map.
+     * @param setup         creates the operation before each iteration, its time is not measured.
+     * @param maxOperations the maximum amount of operations of an iteration, used when each operation changes the
+     *                      state given by the setup (like playing a turn).
+     * @return the measures of the benchmark.
+     */
+    public BenchmarkResult run(String benchmark, String mapTitle, int cells, Supplier<Operation> setup, long maxOperations) {
+        for (int iteration = 0; iteration < warmupIterations; iteration++) {
+            runIteration(setup.get(), maxOperations, null);
+        }
+
+        double[] scores = new double[measurementIterations];
+        long[] counters = new long[2];
+        for (int iteration = 0; iteration < measurementIterations; iteration++) {
+            scores[iteration] = runIteration(setup.get(), maxOperations, counters);
+        }
+
+        double allocatedBytesPerOperation = counters[1] >= 0 && counters[0] > 0 ? (double) counters[1] / counters[0] : -1;
+        return new BenchmarkResult(benchmark, mapTitle, cells, scores, counters[0], allocatedBytesPerOperation);
+    }
+
+    /**
+     * Runs the operation by batches until the iteration time or the maximum amount of operations is reached.
+     *
+     * @param counters when not null, the amount of operations is added to the first counter and the amount of
+     *                 allocated bytes to the second one (set to -1 when allocations can't be measured).
+     * @return the average duration in ns of one operation.
+     */
+    private double runIteration(Operation operation, long maxOperations, long[] counters) {
+        long allocatedBefore = getAllocatedBytes();
+        long operations = 0;
+        long elapsed = 0;
+        long batch = 1;
+
+        while (elapsed < iterationTime && operations < maxOperations) {
+            long batchOperations = Math.min(batch, maxOperations - operations);
+            long start = System.nanoTime();
+            for (long index = 0; index < batchOperations; index++) {
+                sink = operation.run();
+            }
+            long batchTime = System.nanoTime() - start;
+
+            elapsed += batchTime;
+            operations += batchOperations;
+            if (batchTime < MIN_BATCH_TIME) {
+                batch *= 2;
+            }
+        }
+
+        if (counters != null) {
+            long allocatedAfter = getAllocatedBytes();
+            counters[0] += operations;
+            if (allocatedBefore < 0 || allocatedAfter < 0 || counters[1] < 0) {
+                counters[1] = -1;
+            } else {
+                counters[1] += allocatedAfter - allocatedBefore;
+            }
+        }
+        return (double) elapsed / operations;
+    }
+
+    /**
+     * @return the amount of bytes allocated by the current thread since its start, -1 if the JVM can't measure it.
+     */
+    private long getAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
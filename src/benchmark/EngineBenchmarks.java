@@ -0,0 +1,291 @@
+package benchmark;
+
+import configuration.GameplayConfig;
+import configuration.MapsConfig;
+import data.board.Block;
+import data.board.GameMap;
+import data.element.Soldier;
+import data.player.Player;
+import engine.datasearch.BlockFinder;
+import engine.datasearch.ElementsFinder;
+import engine.datasearch.pathfinder.PathFinder;
+import engine.process.BotAction;
+import engine.process.MapBuilder;
+import engine.process.PlayersManager;
+import engine.util.GameRandom;
+import log.LoggerUtility;
+import main.game.GameManager;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks of the hot paths of the engine, measured with {@link BenchmarkRunner} on every map of
+ * {@link MapsConfig#AVAILABLE_MAPS_LIST} and on large rectangular maps. Each game is created with a fixed seed then
+ * played by bots during a few turns, so benchmarks run again on the same commit measure the same positions.
+ * <p>
+ * Searches are measured on one game per map, cycling through queries prepared from the soldiers and bases of the
+ * game. Operations changing the game (skipping a turn, playing the turn of a bot) get a new game at each iteration.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class EngineBenchmarks {
+
+    private static final Logger logger = LoggerUtility.getLogger(EngineBenchmarks.class);
+
+    /**
+     * Columns and lines of the rectangular maps added to the available maps.
+     */
+    public static final int[][] SYNTHETIC_MAP_SIZES = {{100, 60}, {200, 120}};
+
+    /**
+     * Amount of turns played by bots before measuring, so the game has soldiers, structures and territories.
+     */
+    private static final int PREPARATION_TURNS = 40;
+
+    private static final int DIFFICULT_LEVEL = 1;
+
+    /**
+     * Maximum amount of queries prepared for each search benchmark.
+     */
+    private static final int TOTAL_QUERIES = 64;
+
+    /**
+     * Maximum amount of turns played in an iteration, a game then has still less turns than a usual game.
+     */
+    private static final long TURNS_PER_ITERATION = 200;
+
+    /**
+     * Range of adjacent blocks searched, the range of a soldier move.
+     */
+    private static final int ADJACENT_BLOCKS_RANGE = GameplayConfig.BLOCKS_RANGE_SOLDIER_MOVE;
+
+    /**
+     * Amount of soldiers searched by the nearest soldiers benchmark.
+     */
+    private static final int NEAREST_SOLDIERS_AMOUNT = 3;
+
+    /**
+     * A map on which benchmarks are measured : an available map, or a rectangular map when there is no template.
+     */
+    private record BenchmarkMap(String title, GameMap template, int columns, int lines) {
+
+        private GameMap build() {
+            if (template != null) {
+                GameMap map = new GameMap(template.getTitle(), template.getShapeFilePath(), template.getBackgroundFilePath());
+                MapBuilder.buildMap(map);
+                return map;
+            }
+            GameMap map = new GameMap(title, null, null);
+            MapBuilder.buildRectMap(map, columns, lines);
+            return map;
+        }
+    }
+
+    private final BenchmarkRunner runner;
+
+    /**
+     * Only benchmarks whose name contains this pattern are measured.
+     */
+    private final Pattern filter;
+
+    /**
+     * The seed of all games.
+     */
+    private final long seed;
+
+    /**
+     * @param runner the runner measuring benchmarks.
+     * @param filter only benchmarks whose name contains this regular expression are measured.
+     * @param seed   the seed of all games.
+     * @throws IllegalArgumentException if runner or filter is null.
+     */
+    public EngineBenchmarks(BenchmarkRunner runner, String filter, long seed) throws IllegalArgumentException {
+        if (runner == null || filter == null) {
+            throw new IllegalArgumentException();
+        }
+        this.runner = runner;
+        this.filter = Pattern.compile(filter);
+        this.seed = seed;
+    }
+
+    /**
+     * @return the available maps then the rectangular maps of SYNTHETIC_MAP_SIZES.
+     */
+    private static ArrayList<BenchmarkMap> createMaps() {
+        ArrayList<BenchmarkMap> maps = new ArrayList<>();
+        for (GameMap map : MapsConfig.AVAILABLE_MAPS_LIST) {
+            maps.add(new BenchmarkMap(map.getTitle(), map, 0, 0));
+        }
+        for (int[] size : SYNTHETIC_MAP_SIZES) {
+            maps.add(new BenchmarkMap("Synthetic " + size[0] + "x" + size[1], null, size[0], size[1]));
+        }
+        return maps;
+    }
+
+    /**
+     * Creates a game between bots on a new copy of the map, then plays the preparation turns.
+     */
+    private GameManager createGame(BenchmarkMap benchmarkMap) {
+        GameMap map = benchmarkMap.build();
+        PlayersManager playersManager = new PlayersManager(map, new GameRandom(seed));
+        for (int i = 0; i < GameplayConfig.MAX_PLAYERS; i++) {
+            playersManager.addNewBotToQueue();
+        }
+        playersManager.randomizePlayerQueue();
+
+        GameManager gameManager = new GameManager(map, playersManager);
+        for (Player player : playersManager.getPlayerList()) {
+            player.setDifficultLevel(DIFFICULT_LEVEL);
+        }
+
+        BotAction botAction = new BotAction(gameManager);
+        for (int turn = 0; turn < PREPARATION_TURNS && !playersManager.playerHasWin(); turn++) {
+            botAction.runAction();
+            gameManager.skipTurn();
+        }
+        return gameManager;
+    }
+
+    /**
+     * @return at most TOTAL_QUERIES soldiers of the game, spread over the list of soldiers.
+     */
+    private static ArrayList<Soldier> selectSoldiers(GameManager gameManager) {
+        ArrayList<Soldier> soldiers = gameManager.getElementsFinder().elementMapToList(Soldier.class);
+        ArrayList<Soldier> selection = new ArrayList<>();
+        int step = Math.max(1, soldiers.size() / TOTAL_QUERIES);
+        for (int index = 0; index < soldiers.size() && selection.size() < TOTAL_QUERIES; index += step) {
+            selection.add(soldiers.get(index));
+        }
+        return selection;
+    }
+
+    /**
+     * @return at most TOTAL_QUERIES blocks of the map which are not removed, spread over the map.
+     */
+    private static ArrayList<Block> selectBlocks(GameMap map) {
+        ArrayList<Block> blocks = new ArrayList<>();
+        int step = Math.max(1, map.getTotalCells() / TOTAL_QUERIES);
+        for (int cell = 0; cell < map.getTotalCells(); cell += step) {
+            Block block = map.getBlockByCell(cell);
+            if (!block.isRemoved()) {
+                blocks.add(block);
+            }
+        }
+        return blocks;
+    }
+
+    private boolean isSelected(String benchmark) {
+        return filter.matcher(benchmark).find();
+    }
+
+    /**
+     * Measures a benchmark on one map when it is selected, the setup is called before each iteration.
+     */
+    private void measure(ArrayList<BenchmarkResult> results, String benchmark, BenchmarkMap benchmarkMap, int cells,
+                         Supplier<BenchmarkRunner.Operation> setup, long maxOperations) {
+        if (isSelected(benchmark)) {
+            BenchmarkResult result = runner.run(benchmark, benchmarkMap.title(), cells, setup, maxOperations);
+            logger.info("Benchmark " + benchmark + " measured on map : " + benchmarkMap.title() + ".");
+            results.add(result);
+        }
+    }
+
+    /**
+     * Measures a search on one game, the operation cycles through the queries.
+     */
+    private void measureSearch(ArrayList<BenchmarkResult> results, String benchmark, BenchmarkMap benchmarkMap,
+                               int cells, int totalQueries, IntFunction<Object> search) {
+        if (totalQueries > 0) {
+            int[] query = {0};
+            BenchmarkRunner.Operation operation = () -> {
+                query[0] = query[0] + 1 < totalQueries ? query[0] + 1 : 0;
+                return search.apply(query[0]);
+            };
+            measure(results, benchmark, benchmarkMap, cells, () -> operation, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Measures all selected benchmarks on all maps.
+     *
+     * @return the measures of each benchmark on each map.
+     */
+    public ArrayList<BenchmarkResult> run() {
+        ArrayList<BenchmarkResult> results = new ArrayList<>();
+
+        for (BenchmarkMap benchmarkMap : createMaps()) {
+            GameManager gameManager = createGame(benchmarkMap);
+            GameMap map = gameManager.getMap();
+            int cells = map.getTotalCells();
+            PlayersManager playersManager = gameManager.getPlayersManager();
+            BlockFinder blockFinder = gameManager.getBlockFinder();
+            ElementsFinder elementsFinder = gameManager.getElementsFinder();
+            PathFinder pathFinder = new PathFinder(elementsFinder, map);
+
+            ArrayList<Soldier> soldiers = selectSoldiers(gameManager);
+            ArrayList<Player> owners = new ArrayList<>();
+            for (Soldier soldier : soldiers) {
+                owners.add(playersManager.getPlayerOwnsElement(soldier));
+            }
+            ArrayList<Block> blocks = selectBlocks(map);
+
+            //paths from each base to the bases of the other players
+            ArrayList<Player> players = playersManager.getPlayerList();
+            ArrayList<Player> pathPlayers = new ArrayList<>();
+            ArrayList<Block> pathStarts = new ArrayList<>();
+            ArrayList<Block> pathEnds = new ArrayList<>();
+            for (Player player : players) {
+                for (Player enemy : players) {
+                    if (player != enemy && player.getBaseBlock() != null && enemy.getBaseBlock() != null) {
+                        pathPlayers.add(player);
+                        pathStarts.add(player.getBaseBlock());
+                        pathEnds.add(enemy.getBaseBlock());
+                    }
+                }
+            }
+
+            measureSearch(results, "PathFinder.findDirectionAStar", benchmarkMap, cells, pathStarts.size(),
+                    query -> pathFinder.findDirectionAStar(pathPlayers.get(query), pathStarts.get(query), pathEnds.get(query)));
+
+            measureSearch(results, "BlockFinder.findAdjacentBlocks", benchmarkMap, cells, blocks.size(),
+                    query -> blockFinder.findAdjacentBlocks(blocks.get(query), ADJACENT_BLOCKS_RANGE, true));
+
+            measureSearch(results, "BlockFinder.findPossibleMoveBlocksSoldier", benchmarkMap, cells, soldiers.size(),
+                    query -> blockFinder.findPossibleMoveBlocksSoldier(soldiers.get(query), owners.get(query)));
+
+            measureSearch(results, "ElementsFinder.findNearestEnemySoldier", benchmarkMap, cells, soldiers.size(),
+                    query -> elementsFinder.findNearestEnemySoldier(soldiers.get(query), owners.get(query)));
+
+            measureSearch(results, "ElementsFinder.findNearestOwnedElements", benchmarkMap, cells, soldiers.size(),
+                    query -> elementsFinder.findNearestOwnedElements(soldiers.get(query), Soldier.class, owners.get(query),
+                            true, NEAREST_SOLDIERS_AMOUNT));
+
+            measure(results, "GameManager.skipTurn", benchmarkMap, cells, () -> {
+                GameManager game = createGame(benchmarkMap);
+                return () -> {
+                    game.skipTurn();
+                    return game;
+                };
+            }, TURNS_PER_ITERATION);
+
+            //a turn of a bot is always followed by a skipped turn, so each operation plays the turn of the next bot,
+            //once a bot has won only turns are skipped
+            measure(results, "BotAction.runAction", benchmarkMap, cells, () -> {
+                GameManager game = createGame(benchmarkMap);
+                BotAction botAction = new BotAction(game);
+                return () -> {
+                    if (!game.getPlayersManager().playerHasWin()) {
+                        botAction.runAction();
+                    }
+                    game.skipTurn();
+                    return game;
+                };
+            }, TURNS_PER_ITERATION);
+        }
+        return results;
+    }
+}
@@ -59,4 +59,10 @@ public class GameplayConfig {
             new PlayerColor("White", 175, 175, 175),
             new PlayerColor("Purple", 110, 60, 200)};
     public static final long BOT_PLAYING_ANIMATION_TIME = 40;
+
+    //Maximum time in ms a bot can spend to play a turn in a game with a display
+    public static final long BOT_TURN_TIME_BUDGET = 1500;
+
+    //Amount of skipped turns between two automatic saves of a game with a display
+    public static final int AUTOSAVE_TURNS_PERIOD = 4;
 }
@@ -11,7 +11,7 @@ import java.awt.*;
  */
 public class IHMConfig {
 
-    public static final Dimension SCREEN_SIZE = Toolkit.getDefaultToolkit().getScreenSize();
+    public static final Dimension SCREEN_SIZE = IHMScaling.SCREEN_SIZE;
 
     public static final Dimension GAME_BUTTON_DIMENSION = new Dimension(IHMScaling.scale(185), IHMScaling.scale(60));
 
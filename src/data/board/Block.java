@@ -7,63 +7,69 @@ import engine.util.ConversionUtility;
 import java.io.Serializable;
 
 /**
- * Representing a block on {@link GameMap}.
+ * Representing a block on {@link GameMap}, the state of the block is kept in a cell of a {@link BoardStore}.
  *
  * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
  */
 public class Block implements Serializable {
 
     /**
-     * Position x of the Block in pixels.
+     * The store in which the state of this Block is kept.
      */
-    private final int x;
+    private final BoardStore board;
 
     /**
-     * Position y of the Block in pixels.
+     * Index of the cell of this Block in the store.
      */
-    private final int y;
+    private final int cell;
 
     /**
-     * When true it prevents existence of {@link Element} on this Block.
+     * The x coordinate in the two-dimensional array of {@link Block}.
      */
-    private Boolean isRemoved;
+    private final int indexX;
 
     /**
-     * When true a {@link Base} can spawn on this Block at the start of the game.
+     * The y coordinate in the two-dimensional array of {@link Block}.
      */
-    private Boolean isAvailableSpawn;
-
-    /**
-     * When true there are no {@link Element} on this Block.
-     */
-    private Boolean isEmpty;
-
-    /**
-     * When true {@link Element} on this block obtains bonus.
-     */
-    private Boolean isSpecial;
+    private final int indexY;
 
     /**
+     * Creates a Block not attached to a {@link GameMap}, its state is kept in its own store.
      * By default, a new Block is defines as empty as not spawn, as not removed and as not special.
      *
      * @param x Position x of the Block in pixels.
      * @param y Position x of the Block in pixels.
      */
     public Block(int x, int y) {
-        this.x = x;
-        this.y = y;
-        isRemoved = false;
-        isAvailableSpawn = false;
-        isEmpty = true;
-        isSpecial = false;
+        this.board = new BoardStore(1, 1);
+        this.cell = 0;
+        this.indexX = ConversionUtility.PixelToIndex(x);
+        this.indexY = ConversionUtility.PixelToIndex(y);
+    }
+
+    /**
+     * Creates a Block as a view on a cell of a {@link BoardStore}.
+     *
+     * @param board  the store in which the state of the Block is kept.
+     * @param indexX the x coordinate in the two-dimensional array of {@link Block}.
+     * @param indexY the y coordinate in the two-dimensional array of {@link Block}.
+     */
+    public Block(BoardStore board, int indexX, int indexY) throws IllegalArgumentException {
+        if (board == null) {
+            throw new IllegalArgumentException("A block can't be created without board.");
+        }
+        this.board = board;
+        this.cell = board.toCellIndex(indexX, indexY);
+        this.indexX = indexX;
+        this.indexY = indexY;
     }
 
     /**
      * Prevents existence of {@link Element} on this Block.
      */
     public void remove() {
-        isAvailableSpawn = false;
-        isRemoved = true;
+        board.setFlag(cell, BoardStore.FLAG_SPAWN, false);
+        board.setFlag(cell, BoardStore.FLAG_REMOVED, true);
     }
 
 
@@ -71,78 +77,115 @@ public class Block implements Serializable {
      * Define this block as spawn to allow {@link Base} to spawn on this Block at the start of the game.
      */
     public void setAsSpawn() {
-        isAvailableSpawn = true;
-        isRemoved = false;
+        board.setFlag(cell, BoardStore.FLAG_SPAWN, true);
+        board.setFlag(cell, BoardStore.FLAG_REMOVED, false);
     }
 
     /**
      * Define this block as not spawn, no {@link Base} can spawns on this block at the start of the game.
      */
     public void setAsNotSpawn() {
-        isAvailableSpawn = false;
-        isRemoved = false;
+        board.setFlag(cell, BoardStore.FLAG_SPAWN, false);
+        board.setFlag(cell, BoardStore.FLAG_REMOVED, false);
     }
 
     public void setOccupied() {
-        isEmpty = false;
+        board.setFlag(cell, BoardStore.FLAG_OCCUPIED, true);
     }
 
     public void setFree() {
-        isEmpty = true;
+        board.setFlag(cell, BoardStore.FLAG_OCCUPIED, false);
+        board.setOccupant(cell, BoardStore.OCCUPANT_NONE);
     }
 
     public void setSpecial(Boolean bool) {
-        isSpecial = bool;
+        board.setFlag(cell, BoardStore.FLAG_SPECIAL, bool);
     }
 
     /**
      * @return true when existence of {@link Element} on this Block is prevents.
      */
     public Boolean isRemoved() {
-        return isRemoved;
+        return board.hasFlag(cell, BoardStore.FLAG_REMOVED);
     }
 
     /**
      * @return true when a player's {@link Base} can spawn on this Block at the start of the game.
      */
     public Boolean isSpawn() {
-        return isAvailableSpawn;
+        return board.hasFlag(cell, BoardStore.FLAG_SPAWN);
     }
 
     /**
      * @return true when no {@link Element} exists on this Block.
      */
     public Boolean isEmpty() {
-        return isEmpty;
+        return !board.hasFlag(cell, BoardStore.FLAG_OCCUPIED);
     }
 
     /**
      * @return true when this {@link Block give a bonus multiplier to {@link Element}} on it.
      */
     public Boolean isSpecial() {
-        return isSpecial;
+        return board.hasFlag(cell, BoardStore.FLAG_SPECIAL);
+    }
+
+    /**
+     * @return the occupant code (see {@link BoardStore}) of the {@link Element} on this Block.
+     */
+    public byte getOccupant() {
+        return board.getOccupant(cell);
+    }
+
+    public void setOccupant(byte occupant) {
+        board.setOccupant(cell, occupant);
+    }
+
+    /**
+     * @return the id of the player which owns this Block, {@link BoardStore#NO_OWNER} when owned by no player.
+     */
+    public int getOwnerId() {
+        return board.getOwner(cell);
+    }
+
+    public void setOwnerId(int ownerId) {
+        board.setOwner(cell, ownerId);
     }
 
     public int getX() {
-        return x;
+        return ConversionUtility.IndexToPixel(indexX);
     }
 
     public int getY() {
-        return y;
+        return ConversionUtility.IndexToPixel(indexY);
     }
 
     /**
-     * @return position x of the block converted in array index.
+     * @return position x of the block in the two-dimensional array of {@link Block}.
      */
     public int getIndexX() {
-        return ConversionUtility.PixelToIndex(x);
+        return indexX;
     }
 
     /**
-     * @return position y of the block converted in array index.
+     * @return position y of the block in the two-dimensional array of {@link Block}.
      */
     public int getIndexY() {
-        return ConversionUtility.PixelToIndex(y);
+        return indexY;
+    }
+
+    /**
+     * @return the store in which the state of this block is kept.
+     */
+    public BoardStore getBoard() {
+        return board;
+    }
+
+    /**
+     * @return index of the cell of this block in its {@link BoardStore}.
+     */
+    public int getCell() {
+        return cell;
     }
 
     public String positionToString() {
@@ -0,0 +1,255 @@
+package data.board;
+
+import data.element.Element;
+import data.element.Soldier;
+import data.player.Player;
+
+import java.awt.*;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable copy of the state of a {@link BoardStore} and of the {@link Element} on it at a given time, kept in flat
+ * primitive arrays indexed by cell. A snapshot is never modified once created, so it can be read from any thread
+ * without synchronization while the game goes on (the display paints the last snapshot published by the game).
+ * <p>
+ * Elements of the snapshot are identified by their index in the snapshot, see {@link #getElementAt(int)}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public final class BoardSnapshot implements Serializable {
+
+    /**
+     * Index of the element on a cell without element.
+     */
+    public static final int NO_ELEMENT = -1;
+
+    private final int columns;
+
+    private final int lines;
+
+    /**
+     * Combination of {@link BoardStore} FLAG_* of each cell.
+     */
+    private final byte[] flags;
+
+    /**
+     * Id of the player which owns each cell, {@link BoardStore#NO_OWNER} when the cell is owned by no player.
+     */
+    private final int[] owners;
+
+    /**
+     * Occupant code of each cell.
+     */
+    private final byte[] occupants;
+
+    /**
+     * Index of the element on each cell, NO_ELEMENT when the cell has no element.
+     */
+    private final int[] elementByCell;
+
+    /**
+     * Statistics of elements by index of element.
+     */
+    private final int[] elementCells;
+    private final int[] elementOwners;
+    private final int[] healthPoints;
+    private final int[] maxHealthPoints;
+    private final int[] attackPoints;
+    private final boolean[] canMove;
+    private final boolean[] lastMoveRight;
+
+    /**
+     * Colors of players by player id.
+     */
+    private final Color[] playerColors;
+    private final String[] playerColorNames;
+
+    private final int currentPlayerId;
+
+    private final boolean currentPlayerIsBot;
+
+    /**
+     * @param board         the board to copy.
+     * @param elements      the elements on the board.
+     * @param players       all players of the game.
+     * @param currentPlayer the player which is playing (can be null).
+     * @throws IllegalArgumentException if board, elements or players is null.
+     */
+    public BoardSnapshot(BoardStore board, Collection<Element> elements, List<Player> players, Player currentPlayer)
+            throws IllegalArgumentException {
+        if (board == null || elements == null || players == null) {
+            throw new IllegalArgumentException();
+        }
+        columns = board.getColumns();
+        lines = board.getLines();
+        flags = board.copyFlags();
+        owners = board.copyOwners();
+        occupants = board.copyOccupants();
+
+        elementByCell = new int[board.getTotalCells()];
+        Arrays.fill(elementByCell, NO_ELEMENT);
+
+        int amount = elements.size();
+        elementCells = new int[amount];
+        elementOwners = new int[amount];
+        healthPoints = new int[amount];
+        maxHealthPoints = new int[amount];
+        attackPoints = new int[amount];
+        canMove = new boolean[amount];
+        lastMoveRight = new boolean[amount];
+
+        int index = 0;
+        for (Element element : elements) {
+            int cell = board.toCellIndex(element.getIndexX(), element.getIndexY());
+            elementByCell[cell] = index;
+            elementCells[index] = cell;
+            elementOwners[index] = element.getOwnerId();
+            healthPoints[index] = element.getHealthPoint();
+            maxHealthPoints[index] = element.getMaxHealthPoint();
+            if (element instanceof Soldier soldier) {
+                attackPoints[index] = soldier.getAttackPoint();
+                canMove[index] = soldier.canMove();
+                lastMoveRight[index] = soldier.lastMoveWasRight();
+            }
+            index++;
+        }
+
+        int totalPlayers = 0;
+        for (Player player : players) {
+            totalPlayers = Math.max(totalPlayers, player.getId() + 1);
+        }
+        playerColors = new Color[totalPlayers];
+        playerColorNames = new String[totalPlayers];
+        for (Player player : players) {
+            playerColors[player.getId()] = player.getColor();
+            playerColorNames[player.getId()] = player.getColorName();
+        }
+
+        currentPlayerId = currentPlayer != null ? currentPlayer.getId() : BoardStore.NO_OWNER;
+        currentPlayerIsBot = currentPlayer != null && currentPlayer.isBot();
+    }
+
+    public int toCellIndex(int indexX, int indexY) {
+        return indexY * columns + indexX;
+    }
+
+    public boolean isRemoved(int cell) {
+        return (flags[cell] & BoardStore.FLAG_REMOVED) != 0;
+    }
+
+    public boolean isOccupied(int cell) {
+        return (flags[cell] & BoardStore.FLAG_OCCUPIED) != 0;
+    }
+
+    public boolean isSpecial(int cell) {
+        return (flags[cell] & BoardStore.FLAG_SPECIAL) != 0;
+    }
+
+    public int getOwner(int cell) {
+        return owners[cell];
+    }
+
+    public byte getOccupant(int cell) {
+        return occupants[cell];
+    }
+
+    /**
+     * @param ownerId the id of a player.
+     * @return the amount of cells owned by the player.
+     */
+    public int countOwnedCells(int ownerId) {
+        int count = 0;
+        for (int owner : owners) {
+            if (owner == ownerId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param cell the cell index.
+     * @return the index of the element on the cell, NO_ELEMENT when the cell has no element.
+     */
+    public int getElementAt(int cell) {
+        return elementByCell[cell];
+    }
+
+    public int getTotalElements() {
+        return elementCells.length;
+    }
+
+    public int getElementCell(int element) {
+        return elementCells[element];
+    }
+
+    public int getElementOwner(int element) {
+        return elementOwners[element];
+    }
+
+    public int getHealthPoint(int element) {
+        return healthPoints[element];
+    }
+
+    public int getMaxHealthPoint(int element) {
+        return maxHealthPoints[element];
+    }
+
+    /**
+     * @param element the index of the element.
+     * @return the attack points of the element, 0 if the element is not a {@link Soldier}.
+     */
+    public int getAttackPoint(int element) {
+        return attackPoints[element];
+    }
+
+    public boolean canMove(int element) {
+        return canMove[element];
+    }
+
+    public boolean lastMoveWasRight(int element) {
+        return lastMoveRight[element];
+    }
+
+    /**
+     * @param playerId the id of a player.
+     * @return the color of the player, null when no player has this id.
+     */
+    public Color getPlayerColor(int playerId) {
+        return playerId >= 0 && playerId < playerColors.length ? playerColors[playerId] : null;
+    }
+
+    /**
+     * @param playerId the id of a player.
+     * @return the color name of the player, an empty string when no player has this id.
+     */
+    public String getPlayerColorName(int playerId) {
+        return playerId >= 0 && playerId < playerColorNames.length ? playerColorNames[playerId] : "";
+    }
+
+    /**
+     * @return the id of the player which was playing, {@link BoardStore#NO_OWNER} when unknown.
+     */
+    public int getCurrentPlayerId() {
+        return currentPlayerId;
+    }
+
+    public boolean currentPlayerIsBot() {
+        return currentPlayerIsBot;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getTotalCells() {
+        return flags.length;
+    }
+}
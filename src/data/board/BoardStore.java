@@ -0,0 +1,245 @@
+package data.board;
+
+import data.element.Element;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Keeps the state of all {@link Block} of a {@link GameMap} in flat primitive arrays indexed by cell
+ * (see {@link GameMap#toCellIndex(int, int)}), a {@link Block} is only a view on one cell of the store.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class BoardStore implements Serializable {
+
+    /**
+     * Flag set when existence of {@link Element} on the cell is prevented.
+     */
+    public static final byte FLAG_REMOVED = 1;
+
+    /**
+     * Flag set when a base can spawn on the cell at the start of the game.
+     */
+    public static final byte FLAG_SPAWN = 1 << 1;
+
+    /**
+     * Flag set when an {@link Element} exists on the cell.
+     */
+    public static final byte FLAG_OCCUPIED = 1 << 2;
+
+    /**
+     * Flag set when the cell gives a bonus to the {@link Element} on it.
+     */
+    public static final byte FLAG_SPECIAL = 1 << 3;
+
+    /**
+     * Owner id of a cell owned by no player.
+     */
+    public static final int NO_OWNER = -1;
+
+    /**
+     * Occupant codes, defining the type of the {@link Element} on a cell.
+     */
+    public static final byte OCCUPANT_NONE = 0;
+    public static final byte OCCUPANT_BASE = 1;
+    public static final byte OCCUPANT_SOLDIER = 2;
+    public static final byte OCCUPANT_HOUSE = 3;
+    public static final byte OCCUPANT_ATTACK_TOWER = 4;
+    public static final byte OCCUPANT_DEFENSE_TOWER = 5;
+    public static final byte OCCUPANT_FOREST_TREE = 6;
+
+    private final int columns;
+
+    private final int lines;
+
+    /**
+     * Combination of FLAG_* of each cell.
+     */
+    private final byte[] flags;
+
+    /**
+     * Id of the player which owns each cell, NO_OWNER when the cell is owned by no player.
+     */
+    private final int[] owners;
+
+    /**
+     * Occupant code of each cell.
+     */
+    private final byte[] occupants;
+
+    /**
+     * Cells neither removed nor occupied.
+     */
+    private final CellSet freeCells;
+
+    /**
+     * Notified each time the state of a cell changes, not saved with the board.
+     */
+    private transient CellChangeListener changeListener = null;
+
+    /**
+     * By default all cells are empty, not spawn, not removed, not special and owned by no player.
+     *
+     * @param columns the amount of columns of the board.
+     * @param lines   the amount of lines of the board.
+     */
+    public BoardStore(int columns, int lines) throws IllegalArgumentException {
+        if (columns <= 0 || lines <= 0) {
+            throw new IllegalArgumentException("A board must have at least one column and one line.");
+        }
+        this.columns = columns;
+        this.lines = lines;
+        flags = new byte[columns * lines];
+        owners = new int[columns * lines];
+        occupants = new byte[columns * lines];
+        Arrays.fill(owners, NO_OWNER);
+
+        freeCells = new CellSet(columns * lines);
+        for (int cell = 0; cell < columns * lines; cell++) {
+            freeCells.add(cell);
+        }
+    }
+
+    /**
+     * @param indexX the x index of the cell.
+     * @param indexY the y index of the cell.
+     * @return the cell index, cells of a same line have consecutive indexes.
+     */
+    public int toCellIndex(int indexX, int indexY) {
+        return indexY * columns + indexX;
+    }
+
+    /**
+     * @param cell the cell index.
+     * @param flag one of FLAG_*.
+     * @return true when the flag is set on the cell.
+     */
+    public boolean hasFlag(int cell, byte flag) {
+        return (flags[cell] & flag) != 0;
+    }
+
+    /**
+     * @param cell  the cell index.
+     * @param flag  one of FLAG_*.
+     * @param value true to set the flag, false to clear it.
+     */
+    public void setFlag(int cell, byte flag, boolean value) {
+        if (hasFlag(cell, flag) == value) {
+            return;
+        }
+        boolean wasFree = isFree(cell);
+        if (value) {
+            flags[cell] |= flag;
+        } else {
+            flags[cell] &= (byte) ~flag;
+        }
+        markChanged(cell);
+        boolean free = isFree(cell);
+        if (free && !wasFree) {
+            freeCells.add(cell);
+        } else if (!free && wasFree) {
+            freeCells.remove(cell);
+        }
+    }
+
+    /**
+     * @param cell the cell index.
+     * @return true when the cell is neither removed nor occupied.
+     */
+    public boolean isFree(int cell) {
+        return (flags[cell] & (FLAG_REMOVED | FLAG_OCCUPIED)) == 0;
+    }
+
+    /**
+     * @return the amount of cells neither removed nor occupied.
+     */
+    public int getFreeCellsCount() {
+        return freeCells.size();
+    }
+
+    /**
+     * Gives access to free cells by position, positions change when cells become free or not free.
+     *
+     * @param position a position between 0 (inclusive) and {@link #getFreeCellsCount()} (exclusive).
+     * @return the cell index of the free cell at this position.
+     */
+    public int getFreeCell(int position) {
+        return freeCells.get(position);
+    }
+
+    public int getOwner(int cell) {
+        return owners[cell];
+    }
+
+    public void setOwner(int cell, int ownerId) {
+        if (owners[cell] != ownerId) {
+            owners[cell] = ownerId;
+            markChanged(cell);
+        }
+    }
+
+    public byte getOccupant(int cell) {
+        return occupants[cell];
+    }
+
+    public void setOccupant(int cell, byte occupant) {
+        if (occupants[cell] != occupant) {
+            occupants[cell] = occupant;
+            markChanged(cell);
+        }
+    }
+
+    /**
+     * Notifies the listener that the state of a cell changed. Flags, owners and occupants changes are notified by the
+     * store, changes of the {@link Element} on the cell must be notified by the code changing the element.
+     *
+     * @param cell the cell index.
+     */
+    public void markChanged(int cell) {
+        if (changeListener != null) {
+            changeListener.cellChanged(cell);
+        }
+    }
+
+    /**
+     * @param changeListener notified each time the state of a cell changes (can be null), it is called by the thread
+     *                       modifying the board.
+     */
+    public void setChangeListener(CellChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * @return a copy of the flags of all cells.
+     */
+    byte[] copyFlags() {
+        return flags.clone();
+    }
+
+    /**
+     * @return a copy of the owner id of all cells.
+     */
+    int[] copyOwners() {
+        return owners.clone();
+    }
+
+    /**
+     * @return a copy of the occupant code of all cells.
+     */
+    byte[] copyOccupants() {
+        return occupants.clone();
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getTotalCells() {
+        return flags.length;
+    }
+}
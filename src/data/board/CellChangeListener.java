@@ -0,0 +1,14 @@
+package data.board;
+
+/**
+ * Listener notified by a {@link BoardStore} when the state of one of its cells changes.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public interface CellChangeListener {
+
+    /**
+     * @param cell the index of the cell which changed.
+     */
+    void cellChanged(int cell);
+}
@@ -0,0 +1,96 @@
+package data.board;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Set of cell indexes of a {@link BoardStore} (see {@link GameMap#toCellIndex(int, int)}) in which adding, removing
+ * and testing a cell is done in constant time. Cells are kept in a dense array, a cell is removed by swapping it with
+ * the last cell of the array.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class CellSet implements Serializable {
+
+    /**
+     * Cells of the set, only the size first values are used.
+     */
+    private final int[] cells;
+
+    /**
+     * Position of each cell in cells, -1 when the cell is not in the set.
+     */
+    private final int[] positions;
+
+    private int size = 0;
+
+    /**
+     * Creates an empty set.
+     *
+     * @param totalCells the amount of cells of the board.
+     */
+    public CellSet(int totalCells) {
+        cells = new int[totalCells];
+        positions = new int[totalCells];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * @param cell the cell to add.
+     * @return true if the cell was not in the set.
+     */
+    public boolean add(int cell) {
+        if (positions[cell] != -1) {
+            return false;
+        }
+        cells[size] = cell;
+        positions[cell] = size;
+        size++;
+        return true;
+    }
+
+    /**
+     * @param cell the cell to remove.
+     * @return true if the cell was in the set.
+     */
+    public boolean remove(int cell) {
+        int position = positions[cell];
+        if (position == -1) {
+            return false;
+        }
+        int lastCell = cells[size - 1];
+        cells[position] = lastCell;
+        positions[lastCell] = position;
+        positions[cell] = -1;
+        size--;
+        return true;
+    }
+
+    public boolean contains(int cell) {
+        return positions[cell] != -1;
+    }
+
+    /**
+     * Removes all cells of the set.
+     */
+    public void clear() {
+        for (int position = 0; position < size; position++) {
+            positions[cells[position]] = -1;
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gives access to cells by position, positions change when cells are added or removed.
+     *
+     * @param position a position between 0 (inclusive) and {@link #size()} (exclusive).
+     * @return the cell at this position.
+     */
+    public int get(int position) {
+        return cells[position];
+    }
+}
@@ -36,6 +36,11 @@ public class GameMap implements Serializable {
      */
     private Block[][] blocks;
 
+    /**
+     * The store in which the state of all {@link Block} is kept.
+     */
+    private BoardStore board;
+
     /**
      * This constructor only defines the shape the Map should have without build it.
      * It's necessary to use {@link MapBuilder} to fill Block[][] array.
@@ -96,27 +101,58 @@ public class GameMap implements Serializable {
     }
 
     /**
-     * @return true if the map is full.
+     * Retrieve a block in this map by giving its cell index.
+     *
+     * @param cell the cell index of the block, see {@link #toCellIndex(int, int)}.
+     * @return the block at this cell, when the block doesn't exist return null.
      */
-    public Boolean mapIsFull() {
-        for (int i = 0; i < getColumns(); i++) {
-            for (int j = 0; j < getLines(); j++) {
-                if (getBlock(i, j) != null) {
-                    if (!getBlock(i, j).isRemoved()) {
-                        if (getBlock(i, i).isEmpty()) {
-                            return false;
-                        }
-                    }
-                }
-            }
+    public Block getBlockByCell(int cell) {
+        if (cell >= 0 && cell < getTotalCells()) {
+            return blocks[cell % getColumns()][cell / getColumns()];
         }
-        return true;
+        return null;
+    }
+
+    /**
+     * Flattens x and y index of a block in a single cell index, blocks of a same line have consecutive cell indexes.
+     *
+     * @param indexX the x coordinate in the two-dimensional array of {@link Block}.
+     * @param indexY the y coordinate in the two-dimensional array of {@link Block}.
+     * @return the cell index of the block.
+     */
+    public int toCellIndex(int indexX, int indexY) {
+        return indexY * getColumns() + indexX;
     }
 
-    public void setBlocks(Block[][] blocks) {
+    /**
+     * @return the amount of cells in the map, including removed blocks.
+     */
+    public int getTotalCells() {
+        return getColumns() * getLines();
+    }
+
+    /**
+     * @return true if the map is full (no block is neither removed nor occupied).
+     */
+    public Boolean mapIsFull() {
+        return board == null || board.getFreeCellsCount() == 0;
+    }
+
+    /**
+     * Defines the blocks of this map, each block must be a view on a cell of the given store.
+     *
+     * @param board  the store in which the state of all blocks is kept.
+     * @param blocks the two-dimensional array of blocks.
+     */
+    public void setBoard(BoardStore board, Block[][] blocks) {
+        this.board = board;
         this.blocks = blocks;
     }
 
+    public BoardStore getBoard() {
+        return board;
+    }
+
     public void setTotalBlocks(int totalBlocks) {
         this.totalBlocks = totalBlocks;
     }
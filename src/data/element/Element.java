@@ -1,6 +1,7 @@
 package data.element;
 
 import data.board.Block;
+import data.board.BoardStore;
 import engine.util.ConversionUtility;
 
 import java.io.Serializable;
@@ -29,6 +30,16 @@ public abstract class Element implements Serializable {
 
     private int maxHealthPoint;
 
+    /**
+     * Id of the player which owns this Element, {@link BoardStore#NO_OWNER} when owned by no player.
+     */
+    private int ownerId = BoardStore.NO_OWNER;
+
+    /**
+     * The elements map on which this Element has been put last, its indexes are updated when the owner changes.
+     */
+    private ElementsMap elementsMap = null;
+
     /**
      * @param x           Position x of the Element in pixels.
      * @param y           Position y of the Element in pixels.
@@ -76,6 +87,28 @@ public abstract class Element implements Serializable {
         this.healthPoint = healthPoint;
     }
 
+    public int getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(int ownerId) {
+        if (this.ownerId != ownerId) {
+            int previousOwnerId = this.ownerId;
+            this.ownerId = ownerId;
+            if (elementsMap != null) {
+                elementsMap.ownerChanged(this, previousOwnerId);
+            }
+        }
+    }
+
+    ElementsMap getElementsMap() {
+        return elementsMap;
+    }
+
+    void setElementsMap(ElementsMap elementsMap) {
+        this.elementsMap = elementsMap;
+    }
+
     /**
      * @return position x of the block converted in array index.
      */
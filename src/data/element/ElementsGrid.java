@@ -0,0 +1,165 @@
+package data.element;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Spatial index of {@link Element} by position : the map is split into square buckets of BUCKET_SIZE blocks, and only
+ * buckets containing elements are kept in memory. Nearest elements are searched ring of buckets by ring of buckets
+ * around a position, and the search stops as soon as farther rings can't contain a nearer element.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class ElementsGrid implements Serializable {
+
+    /**
+     * Width and height of a bucket in blocks.
+     */
+    private static final int BUCKET_SIZE = 4;
+
+    private final HashMap<Integer, ArrayList<Element>> buckets = new HashMap<>();
+
+    private int size = 0;
+
+    private static int toBucketKey(int bucketX, int bucketY) {
+        return (bucketX << 16) ^ (bucketY & 0xFFFF);
+    }
+
+    private static int toBucket(int index) {
+        return Math.floorDiv(index, BUCKET_SIZE);
+    }
+
+    /**
+     * @param element the element to add.
+     * @param indexX  the x index of the block of the element.
+     * @param indexY  the y index of the block of the element.
+     */
+    public void add(Element element, int indexX, int indexY) {
+        buckets.computeIfAbsent(toBucketKey(toBucket(indexX), toBucket(indexY)), key -> new ArrayList<>()).add(element);
+        size++;
+    }
+
+    /**
+     * @param element the element to remove.
+     * @param indexX  the x index of the block of the element when it has been added or moved.
+     * @param indexY  the y index of the block of the element when it has been added or moved.
+     * @return true if the element was in this grid.
+     */
+    public boolean remove(Element element, int indexX, int indexY) {
+        int key = toBucketKey(toBucket(indexX), toBucket(indexY));
+        ArrayList<Element> bucket = buckets.get(key);
+        if (bucket != null && bucket.remove(element)) {
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Candidate element found during a search, ordered by squared distance then by position (line then column).
+     */
+    private record Candidate(Element element, int squaredDistance, int indexX, int indexY) {
+
+        boolean isNearerThan(Candidate other) {
+            if (squaredDistance != other.squaredDistance) {
+                return squaredDistance < other.squaredDistance;
+            }
+            if (indexY != other.indexY) {
+                return indexY < other.indexY;
+            }
+            return indexX < other.indexX;
+        }
+    }
+
+    /**
+     * Finds the nearest elements of several grids to a position. Elements at the same distance are ordered by
+     * position (line then column), so the result doesn't depend on the order in which elements have been added.
+     *
+     * @param grids    the grids in which elements are searched.
+     * @param indexX   the x index of the position.
+     * @param indexY   the y index of the position.
+     * @param amount   the maximum amount of elements to find.
+     * @param excluded an element that must not be in the result (can be null).
+     * @return the nearest elements, from the nearest to the farthest.
+     */
+    public static List<Element> findNearest(List<ElementsGrid> grids, int indexX, int indexY, int amount,
+                                            Element excluded) {
+        ArrayList<Candidate> nearest = new ArrayList<>(Math.max(amount, 0));
+        if (amount <= 0) {
+            return new ArrayList<>();
+        }
+
+        int remaining = 0;
+        for (ElementsGrid grid : grids) {
+            remaining += grid.size;
+        }
+
+        int bucketX = toBucket(indexX);
+        int bucketY = toBucket(indexY);
+
+        for (int ring = 0; remaining > 0; ring++) {
+            for (ElementsGrid grid : grids) {
+                for (int x = bucketX - ring; x <= bucketX + ring; x++) {
+                    //only the border of the ring is visited, inner buckets have been visited before
+                    int step = (x == bucketX - ring || x == bucketX + ring) ? 1 : Math.max(2 * ring, 1);
+                    for (int y = bucketY - ring; y <= bucketY + ring; y += step) {
+                        ArrayList<Element> bucket = grid.buckets.get(toBucketKey(x, y));
+                        if (bucket != null) {
+                            remaining -= bucket.size();
+                            for (Element element : bucket) {
+                                if (element != excluded) {
+                                    insertCandidate(nearest, amount, element, indexX, indexY);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            //elements of the next ring are at least at this distance of the position
+            int nextRingDistance = ring * BUCKET_SIZE + 1;
+            if (nearest.size() == amount
+                    && nearest.get(amount - 1).squaredDistance < nextRingDistance * nextRingDistance) {
+                break;
+            }
+        }
+
+        ArrayList<Element> result = new ArrayList<>(nearest.size());
+        for (Candidate candidate : nearest) {
+            result.add(candidate.element);
+        }
+        return result;
+    }
+
+    /**
+     * Inserts an element in a sorted list of candidates limited to an amount of candidates.
+     */
+    private static void insertCandidate(ArrayList<Candidate> nearest, int amount, Element element,
+                                        int indexX, int indexY) {
+        int elementX = element.getIndexX();
+        int elementY = element.getIndexY();
+        Candidate candidate = new Candidate(element, (elementX - indexX) * (elementX - indexX)
+                + (elementY - indexY) * (elementY - indexY), elementX, elementY);
+
+        if (nearest.size() == amount && !candidate.isNearerThan(nearest.get(amount - 1))) {
+            return;
+        }
+        int position = nearest.size();
+        while (position > 0 && candidate.isNearerThan(nearest.get(position - 1))) {
+            position--;
+        }
+        nearest.add(position, candidate);
+        if (nearest.size() > amount) {
+            nearest.remove(amount);
+        }
+    }
+}
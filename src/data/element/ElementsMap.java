@@ -1,24 +1,104 @@
 package data.element;
 
 import data.board.Block;
+import data.board.BoardStore;
 
 import java.io.Serializable;
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.*;
 
 /**
  * The ElementsMap class provides a way to reference elements on blocks on the game map.
  * The class contains methods to add, change and remove an element to a block.
+ * Elements are also indexed by type (occupant code, see {@link BoardStore}) and by owner, so that filtered queries
+ * only visit the elements they return. An element put on a block notifies this map when its owner changes (see
+ * {@link Element#setOwnerId(int)}), so it is indexed with its current owner whenever the owner is defined.
  *
  * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
  */
 public class ElementsMap implements Serializable {
 
-    private final HashMap<Block, Element> elementsMap = new HashMap<>();
+    /**
+     * Amount of occupant codes defined in {@link BoardStore}.
+     */
+    private static final int TOTAL_OCCUPANT_CODES = BoardStore.OCCUPANT_FOREST_TREE + 1;
+
+    private final LinkedHashMap<Block, Element> elementsMap = new LinkedHashMap<>();
+
+    /**
+     * Elements by occupant code.
+     */
+    private final ArrayList<LinkedHashSet<Element>> elementsByType = createTypeIndex();
+
+    /**
+     * Elements by owner id then by occupant code.
+     */
+    private final HashMap<Integer, ArrayList<LinkedHashSet<Element>>> elementsByOwner = new HashMap<>();
+
+    /**
+     * Spatial index of soldiers by owner id.
+     */
+    private final HashMap<Integer, ElementsGrid> soldiersGridByOwner = new HashMap<>();
 
     public ElementsMap() {
     }
 
+    private static ArrayList<LinkedHashSet<Element>> createTypeIndex() {
+        ArrayList<LinkedHashSet<Element>> index = new ArrayList<>(TOTAL_OCCUPANT_CODES);
+        for (int i = 0; i < TOTAL_OCCUPANT_CODES; i++) {
+            index.add(new LinkedHashSet<>());
+        }
+        return index;
+    }
+
+    private void addToIndexes(Element element, Block block) {
+        elementsByType.get(toOccupantCode(element)).add(element);
+        addToOwnerIndexes(element, element.getOwnerId(), block.getIndexX(), block.getIndexY());
+        element.setElementsMap(this);
+    }
+
+    private void removeFromIndexes(Element element, Block block) {
+        elementsByType.get(toOccupantCode(element)).remove(element);
+        removeFromOwnerIndexes(element, element.getOwnerId(), block.getIndexX(), block.getIndexY());
+        if (element.getElementsMap() == this) {
+            element.setElementsMap(null);
+        }
+    }
+
+    private void addToOwnerIndexes(Element element, int ownerId, int indexX, int indexY) {
+        if (ownerId != BoardStore.NO_OWNER) {
+            byte occupant = toOccupantCode(element);
+            elementsByOwner.computeIfAbsent(ownerId, key -> createTypeIndex()).get(occupant).add(element);
+            if (occupant == BoardStore.OCCUPANT_SOLDIER) {
+                soldiersGridByOwner.computeIfAbsent(ownerId, key -> new ElementsGrid()).add(element, indexX, indexY);
+            }
+        }
+    }
+
+    private void removeFromOwnerIndexes(Element element, int ownerId, int indexX, int indexY) {
+        byte occupant = toOccupantCode(element);
+        ArrayList<LinkedHashSet<Element>> ownerIndex = elementsByOwner.get(ownerId);
+        if (ownerIndex != null) {
+            ownerIndex.get(occupant).remove(element);
+        }
+        ElementsGrid grid = soldiersGridByOwner.get(ownerId);
+        if (occupant == BoardStore.OCCUPANT_SOLDIER && grid != null) {
+            grid.remove(element, indexX, indexY);
+        }
+    }
+
+    /**
+     * Moves an element of this map to the indexes of its new owner.
+     *
+     * @param element         the element whose owner changed.
+     * @param previousOwnerId the id of the previous owner of the element.
+     */
+    void ownerChanged(Element element, int previousOwnerId) {
+        if (elementsByType.get(toOccupantCode(element)).contains(element)) {
+            removeFromOwnerIndexes(element, previousOwnerId, element.getIndexX(), element.getIndexY());
+            addToOwnerIndexes(element, element.getOwnerId(), element.getIndexX(), element.getIndexY());
+        }
+    }
+
     /**
      * Adds an element to a block on the game map.
      *
@@ -27,9 +107,14 @@ public class ElementsMap implements Serializable {
      */
     public void putElementOnBlock(Block block, Element element) {
         if (block != null && element != null) {
-            elementsMap.put(block, element);
+            Element replacedElement = elementsMap.put(block, element);
+            if (replacedElement != null) {
+                removeFromIndexes(replacedElement, block);
+            }
+            addToIndexes(element, block);
             element.putOnBlock(block);
             block.setOccupied();
+            block.setOccupant(toOccupantCode(element));
         }
     }
 
@@ -41,7 +126,7 @@ public class ElementsMap implements Serializable {
     public void removeElementOnBlock(Block block) {
         if (block != null && elementsMap.containsKey(block)) {
             block.setFree();
-            elementsMap.remove(block);
+            removeFromIndexes(elementsMap.remove(block), block);
         }
     }
 
@@ -53,15 +138,98 @@ public class ElementsMap implements Serializable {
      */
     public void changeBlock(Block lostBlock, Block newBlock) {
         Element element = elementsMap.get(lostBlock);
-        if (element != null && lostBlock != null && newBlock != null) {
-            elementsMap.put(newBlock, element);
+        if (element != null && lostBlock != null && newBlock != null && lostBlock != newBlock) {
+            Element replacedElement = elementsMap.put(newBlock, element);
+            if (replacedElement != null) {
+                removeFromIndexes(replacedElement, newBlock);
+            }
+            ElementsGrid grid = soldiersGridByOwner.get(element.getOwnerId());
+            if (element instanceof Soldier && grid != null) {
+                if (grid.remove(element, lostBlock.getIndexX(), lostBlock.getIndexY())) {
+                    grid.add(element, newBlock.getIndexX(), newBlock.getIndexY());
+                }
+            }
             element.putOnBlock(newBlock);
             newBlock.setOccupied();
+            newBlock.setOccupant(toOccupantCode(element));
             elementsMap.remove(lostBlock);
             lostBlock.setFree();
         }
     }
 
+    /**
+     * @param element the element to put on a block.
+     * @return the occupant code (see {@link BoardStore}) of the element type.
+     */
+    private static byte toOccupantCode(Element element) {
+        return toOccupantCode(element.getClass());
+    }
+
+    /**
+     * @param elementType a type of element.
+     * @return the occupant code (see {@link BoardStore}) of the element type, OCCUPANT_NONE when the type is not a
+     * concrete element type (like {@link Element} itself).
+     */
+    public static byte toOccupantCode(Class<?> elementType) {
+        if (Soldier.class.isAssignableFrom(elementType)) {
+            return BoardStore.OCCUPANT_SOLDIER;
+        } else if (Base.class.isAssignableFrom(elementType)) {
+            return BoardStore.OCCUPANT_BASE;
+        } else if (House.class.isAssignableFrom(elementType)) {
+            return BoardStore.OCCUPANT_HOUSE;
+        } else if (AttackTower.class.isAssignableFrom(elementType)) {
+            return BoardStore.OCCUPANT_ATTACK_TOWER;
+        } else if (DefenseTower.class.isAssignableFrom(elementType)) {
+            return BoardStore.OCCUPANT_DEFENSE_TOWER;
+        } else if (ForestTree.class.isAssignableFrom(elementType)) {
+            return BoardStore.OCCUPANT_FOREST_TREE;
+        }
+        return BoardStore.OCCUPANT_NONE;
+    }
+
+    /**
+     * @param occupant the occupant code of the elements.
+     * @return an unmodifiable view of the elements of this type, in the order they have been put.
+     */
+    public Collection<Element> getElements(byte occupant) {
+        return Collections.unmodifiableSet(elementsByType.get(occupant));
+    }
+
+    /**
+     * @param ownerId  the id of the player which owns elements.
+     * @param occupant the occupant code of the elements.
+     * @return an unmodifiable view of the elements of this type owned by the player, in the order they have been put.
+     */
+    public Collection<Element> getOwnedElements(int ownerId, byte occupant) {
+        ArrayList<LinkedHashSet<Element>> ownerIndex = elementsByOwner.get(ownerId);
+        if (ownerIndex != null) {
+            return Collections.unmodifiableSet(ownerIndex.get(occupant));
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * Finds the nearest soldiers to a position, soldiers at the same distance are ordered by position.
+     *
+     * @param indexX   the x index of the position.
+     * @param indexY   the y index of the position.
+     * @param ownerId  the id of a player.
+     * @param isOwned  true to search soldiers owned by the player, false to search soldiers of other players.
+     * @param amount   the maximum amount of soldiers to find.
+     * @param excluded a soldier that must not be in the result (can be null).
+     * @return the nearest soldiers, from the nearest to the farthest.
+     */
+    public List<Element> findNearestSoldiers(int indexX, int indexY, int ownerId, boolean isOwned, int amount,
+                                             Element excluded) {
+        ArrayList<ElementsGrid> grids = new ArrayList<>();
+        for (Map.Entry<Integer, ElementsGrid> entry : soldiersGridByOwner.entrySet()) {
+            if ((entry.getKey() == ownerId) == isOwned) {
+                grids.add(entry.getValue());
+            }
+        }
+        return ElementsGrid.findNearest(grids, indexX, indexY, amount, excluded);
+    }
+
     public Element get(Block block) {
         return elementsMap.get(block);
     }
@@ -80,4 +248,14 @@ public class ElementsMap implements Serializable {
     public Collection<Element> getValues() {
         return elementsMap.values();
     }
+
+    /**
+     * Makes this map the one whose indexes are updated when the owner of its elements changes. Used when this map
+     * replaces another map which contains the same elements, the last map an element was put in being the one notified.
+     */
+    public void attachElements() {
+        for (Element element : elementsMap.values()) {
+            element.setElementsMap(this);
+        }
+    }
 }
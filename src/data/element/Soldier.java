@@ -39,6 +39,10 @@ public class Soldier extends Element {
         }
     }
 
+    public void setAttackPoint(int attackPoint) {
+        this.attackPoint = Math.min(attackPoint, GameplayConfig.SOLDIER_ATTACK_LIMIT);
+    }
+
     public void incrementHealthPoint(int amount) {
         setHealthPoint(getHealthPoint() + amount);
         if (getHealthPoint() > GameplayConfig.SOLDIER_HEALTH_LIMIT) {
@@ -0,0 +1,166 @@
+package data.player;
+
+import data.board.Block;
+import data.board.BoardStore;
+import data.board.CellSet;
+
+import java.io.Serializable;
+
+/**
+ * Keeps the frontier of the territory of a {@link Player} up to date each time a {@link Block} is owned or lost,
+ * using for each cell the amount of adjacent cells (without diagonals) owned by the player.
+ * The inner frontier contains owned cells adjacent to at least one cell not removed and not owned,
+ * the outer frontier contains cells not removed and not owned adjacent to at least one owned cell.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class Frontier implements Serializable {
+
+    /**
+     * The store of the blocks of the territory.
+     */
+    private final BoardStore board;
+
+    private final CellSet ownedCells;
+
+    /**
+     * Amount of adjacent cells owned for each cell.
+     */
+    private final byte[] ownedNeighbours;
+
+    private final CellSet innerCells;
+
+    private final CellSet outerCells;
+
+    /**
+     * Reused to find adjacent cells of an owned or lost cell.
+     */
+    private final int[] neighbours = new int[4];
+
+    /**
+     * @param board the store of the blocks of the territory.
+     */
+    public Frontier(BoardStore board) {
+        this.board = board;
+        ownedCells = new CellSet(board.getTotalCells());
+        ownedNeighbours = new byte[board.getTotalCells()];
+        innerCells = new CellSet(board.getTotalCells());
+        outerCells = new CellSet(board.getTotalCells());
+    }
+
+    /**
+     * @param block the block to check.
+     * @return true if the state of the block is kept in the store of this frontier.
+     */
+    public boolean isOnBoard(Block block) {
+        return block != null && block.getBoard() == board;
+    }
+
+    /**
+     * Updates the frontier when a block is owned.
+     *
+     * @param cell the cell of the block.
+     */
+    public void addOwnedCell(int cell) {
+        if (ownedCells.add(cell)) {
+            outerCells.remove(cell);
+            updateInner(cell);
+            int amount = findNeighbours(cell, neighbours);
+            for (int i = 0; i < amount; i++) {
+                ownedNeighbours[neighbours[i]]++;
+                update(neighbours[i]);
+            }
+        }
+    }
+
+    /**
+     * Updates the frontier when a block is lost.
+     *
+     * @param cell the cell of the block.
+     */
+    public void removeOwnedCell(int cell) {
+        if (ownedCells.remove(cell)) {
+            innerCells.remove(cell);
+            updateOuter(cell);
+            int amount = findNeighbours(cell, neighbours);
+            for (int i = 0; i < amount; i++) {
+                ownedNeighbours[neighbours[i]]--;
+                update(neighbours[i]);
+            }
+        }
+    }
+
+    private void update(int cell) {
+        if (ownedCells.contains(cell)) {
+            updateInner(cell);
+        } else {
+            updateOuter(cell);
+        }
+    }
+
+    private void updateInner(int cell) {
+        if (ownedNeighbours[cell] < findNeighbours(cell, null)) {
+            innerCells.add(cell);
+        } else {
+            innerCells.remove(cell);
+        }
+    }
+
+    private void updateOuter(int cell) {
+        if (ownedNeighbours[cell] > 0 && !board.hasFlag(cell, BoardStore.FLAG_REMOVED)) {
+            outerCells.add(cell);
+        } else {
+            outerCells.remove(cell);
+        }
+    }
+
+    /**
+     * Finds adjacent cells (without diagonals) not removed.
+     *
+     * @param cell   the cell index.
+     * @param result the array filled with adjacent cells, can be null to only count them.
+     * @return the amount of adjacent cells found.
+     */
+    private int findNeighbours(int cell, int[] result) {
+        int columns = board.getColumns();
+        int indexX = cell % columns;
+        int amount = 0;
+        if (indexX > 0) {
+            amount = addNeighbour(cell - 1, amount, result);
+        }
+        if (cell >= columns) {
+            amount = addNeighbour(cell - columns, amount, result);
+        }
+        if (indexX < columns - 1) {
+            amount = addNeighbour(cell + 1, amount, result);
+        }
+        if (cell + columns < board.getTotalCells()) {
+            amount = addNeighbour(cell + columns, amount, result);
+        }
+        return amount;
+    }
+
+    private int addNeighbour(int cell, int amount, int[] result) {
+        if (!board.hasFlag(cell, BoardStore.FLAG_REMOVED)) {
+            if (result != null) {
+                result[amount] = cell;
+            }
+            return amount + 1;
+        }
+        return amount;
+    }
+
+    /**
+     * @return owned cells adjacent to at least one cell not removed and not owned.
+     */
+    public CellSet getInnerCells() {
+        return innerCells;
+    }
+
+    /**
+     * @return cells not removed and not owned adjacent to at least one owned cell.
+     */
+    public CellSet getOuterCells() {
+        return outerCells;
+    }
+}
@@ -2,6 +2,7 @@ package data.player;
 
 import configuration.GameplayConfig;
 import data.board.Block;
+import data.board.BoardStore;
 import data.element.Base;
 import data.element.Element;
 import data.element.Soldier;
@@ -10,6 +11,7 @@ import engine.process.BotAction;
 import java.awt.*;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 
 /**
  * Data class keeping in memory player/bot color, territory, owned elements, gold and rights.
@@ -18,6 +20,11 @@ import java.util.ArrayList;
  */
 public class Player implements Serializable {
 
+    /**
+     * Unique id of the player in a game, kept on owned {@link Block} and {@link Element} to find their owner.
+     */
+    private final int id;
+
     /**
      * Define the player's color (a player color must have a unique color to prevent a player from being considered on the same side).
      */
@@ -49,15 +56,21 @@ public class Player implements Serializable {
     private final Boolean isBot;
 
     /**
-     * List of {@link Block} to keep in memory the player's territory.
+     * Set of {@link Block} to keep in memory the player's territory, in the order blocks have been owned.
      */
-    private final ArrayList<Block> ownedBlocks = new ArrayList<>();
+    private final LinkedHashSet<Block> ownedBlocks = new LinkedHashSet<>();
 
 
     /**
-     * List of {@link Element} to keep in memory the player's army.
+     * Set of {@link Element} to keep in memory the player's army, in the order elements have been owned.
      */
-    private final ArrayList<Element> ownedElements = new ArrayList<>();
+    private final LinkedHashSet<Element> ownedElements = new LinkedHashSet<>();
+
+    /**
+     * The frontier of the territory, kept up to date each time a block is owned or lost.
+     * Created with the first owned block.
+     */
+    private Frontier frontier;
 
     /**
      * The block where the player spawns on the map.
@@ -77,11 +90,16 @@ public class Player implements Serializable {
     }
 
     /**
+     * @param id    the unique id of the player in the game, must be positive.
      * @param color defines the unique player color.
      * @param isBot defines if the player is human or nor, when true Player's actions will be performed automatically
      *              by algorithm {@link BotAction}.
      */
-    public Player(Block baseBlock, PlayerColor color, Boolean isBot) {
+    public Player(int id, Block baseBlock, PlayerColor color, Boolean isBot) throws IllegalArgumentException {
+        if (id < 0) {
+            throw new IllegalArgumentException("A player id can't be negative.");
+        }
+        this.id = id;
         this.baseBlock = baseBlock;
         this.color = color;
         this.isBot = isBot;
@@ -93,11 +111,11 @@ public class Player implements Serializable {
     }
 
     public Boolean ownsBlock(Block block) {
-        return ownedBlocks.contains(block);
+        return block != null && block.getOwnerId() == id;
     }
 
     public Boolean ownsElement(Element element) {
-        return ownedElements.contains(element);
+        return element != null && element.getOwnerId() == id;
     }
 
     public Boolean isBot() {
@@ -121,8 +139,8 @@ public class Player implements Serializable {
     }
 
     public void addOwnedElement(Element element) {
-        if (!ownedElements.contains(element)) {
-            ownedElements.add(element);
+        if (element != null && ownedElements.add(element)) {
+            element.setOwnerId(id);
         }
     }
 
@@ -139,17 +157,39 @@ public class Player implements Serializable {
     }
 
     public void removeOwnedElement(Element element) {
-        ownedElements.remove(element);
+        if (ownedElements.remove(element) && element.getOwnerId() == id) {
+            element.setOwnerId(BoardStore.NO_OWNER);
+        }
     }
 
     public void addOwnedBlock(Block block) {
-        if (!ownedBlocks.contains(block)) {
-            ownedBlocks.add(block);
+        if (block != null && ownedBlocks.add(block)) {
+            block.setOwnerId(id);
+            if (frontier == null) {
+                frontier = new Frontier(block.getBoard());
+            }
+            if (frontier.isOnBoard(block)) {
+                frontier.addOwnedCell(block.getCell());
+            }
         }
     }
 
     public void removeOwnedBlock(Block block) {
-        ownedBlocks.remove(block);
+        if (ownedBlocks.remove(block)) {
+            if (block.getOwnerId() == id) {
+                block.setOwnerId(BoardStore.NO_OWNER);
+            }
+            if (frontier.isOnBoard(block)) {
+                frontier.removeOwnedCell(block.getCell());
+            }
+        }
+    }
+
+    /**
+     * @return the frontier of the territory of this player, null when the player has never owned a block.
+     */
+    public Frontier getFrontier() {
+        return frontier;
     }
 
     public void decrementTotalGold(int amount) {
@@ -180,6 +220,19 @@ public class Player implements Serializable {
         return ownedBlocks.size();
     }
 
+    /**
+     * @return the amount of owned blocks without element, counted without copying the owned blocks.
+     */
+    public int getTotalEmptyOwnedBlocks() {
+        int count = 0;
+        for (Block block : ownedBlocks) {
+            if (block.isEmpty()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public int getTotalOwnedSoldier() {
         int count = 0;
         for (Element element : ownedElements) {
@@ -203,6 +256,10 @@ public class Player implements Serializable {
         return null;
     }
 
+    public int getId() {
+        return id;
+    }
+
     public Block getBaseBlock() {
         return baseBlock;
     }
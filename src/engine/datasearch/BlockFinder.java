@@ -2,13 +2,16 @@ package engine.datasearch;
 
 import configuration.GameplayConfig;
 import data.board.Block;
+import data.board.CellSet;
 import data.board.GameMap;
 import data.element.Soldier;
 import data.player.Player;
 import engine.datasearch.pathfinder.PathFinder;
+import engine.monitoring.RangeQueryEvent;
 import engine.util.DistanceCalculator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * This class allows to search and filter {@link Block}
@@ -19,15 +22,28 @@ public class BlockFinder {
 
     private final GameMap map;
     private final PathFinder pathFinder;
+    private final RangeFinder rangeFinder;
+    private final RangeMaskCache rangeMaskCache;
 
     public BlockFinder(GameMap map, ElementsFinder elementsFinder) throws IllegalArgumentException {
         this.map = map;
         this.pathFinder = new PathFinder(elementsFinder, map);
+        this.rangeFinder = new RangeFinder(map);
+        this.rangeMaskCache = new RangeMaskCache(map, rangeFinder);
     }
 
     public BlockFinder(GameMap map) {
         this.map = map;
         this.pathFinder = null;
+        this.rangeFinder = new RangeFinder(map);
+        this.rangeMaskCache = new RangeMaskCache(map, rangeFinder);
+    }
+
+    /**
+     * @return the path finder used by this block finder, null when it has been created without elements.
+     */
+    public PathFinder getPathFinder() {
+        return pathFinder;
     }
 
     /**
@@ -111,40 +127,35 @@ public class BlockFinder {
      * @return an ArrayList of adjacent blocks to the specified block, up to the given amount.
      */
     public ArrayList<Block> findAdjacentBlocks(int x, int y, int amount, boolean withDiagonals) {
-        ArrayList<Block> adjacentBlocks = new ArrayList<>();
-
-        //Keeping the current block in result list
-        adjacentBlocks.add(map.getBlock(x, y));
-
-        //Find adjacent blocks by combinations of offset from current block
-        for (int xOffset = -1; xOffset <= 1; xOffset++) {
-            for (int yOffset = -1; yOffset <= 1; yOffset++) {
-                if ((xOffset == 0 && yOffset == 0) || !withDiagonals && xOffset != 0 && yOffset != 0
-                        || !blockExists(x + xOffset, y + yOffset, 0, 0)) {
-                    continue;
-                } else {
-                    Block block = map.getBlock(x + xOffset, y + yOffset);
-
-                    if (block != null && !adjacentBlocks.contains(block)) {
-                        adjacentBlocks.add(getBlock(x + xOffset, y + yOffset, 0, 0));
-                    }
-                }
-            }
+        return new ArrayList<>(Arrays.asList(rangeMaskCache.getRange(x, y, amount, withDiagonals)));
+    }
+
+    /**
+     * Same as {@link #findAdjacentBlocks(int, int, int, boolean)} without copying the blocks found.
+     *
+     * @param block         the reference block to find adjacent blocks for.
+     * @param amount        the range of adjacent blocks to find.
+     * @param withDiagonals when true include diagonal blocks in the search.
+     * @return an array of adjacent blocks to the specified block shared by all calls, it must not be modified.
+     */
+    public Block[] findAdjacentBlocksMask(Block block, int amount, boolean withDiagonals) {
+        if (block != null) {
+            return rangeMaskCache.getRange(block.getIndexX(), block.getIndexY(), amount, withDiagonals);
         }
-        if (amount > 1) {
-            ArrayList<Block> result = new ArrayList<>(adjacentBlocks);
-            for (Block block : adjacentBlocks) {
+        return new Block[0];
+    }
 
-                for (Block resultBlock : findAdjacentBlocks(block.getIndexX(), block.getIndexY(), amount - 1, withDiagonals)) {
-                    if (!result.contains(resultBlock)) {
-                        result.add(resultBlock);
-                    }
-                }
-            }
-            return result;
-        } else {
-            return adjacentBlocks;
+    /**
+     * @param size the amount of cells found by the last search of the {@link RangeFinder}.
+     * @return an ArrayList of blocks found by the last search.
+     */
+    private ArrayList<Block> rangeResultToList(int size) {
+        ArrayList<Block> blocks = new ArrayList<>(size);
+        int[] cells = rangeFinder.getResult();
+        for (int i = 0; i < size; i++) {
+            blocks.add(map.getBlockByCell(cells[i]));
         }
+        return blocks;
     }
 
     /**
@@ -185,61 +196,15 @@ public class BlockFinder {
      */
     public ArrayList<Block> findPossibleMoveBlocksSoldier(int x, int y, int amount, Player player,
                                                           boolean withDiagonals) {
-        ArrayList<Block> adjacentBlocks = new ArrayList<>();
-
         if (player != null) {
-            //Keeping the current block in result list
-            adjacentBlocks.add(map.getBlock(x, y));
-
-            //Find adjacent blocks by combinations of offset from current block
-            for (int xOffset = -1; xOffset <= 1; xOffset++) {
-                for (int yOffset = -1; yOffset <= 1; yOffset++) {
-
-                    if ((xOffset == 0 && yOffset == 0) || !withDiagonals && xOffset != 0 && yOffset != 0
-                            || !blockExists(x + xOffset, y + yOffset, 0, 0)) {
-                        //Current block is always in result list, keeping or not diagonals block
-                        continue;
-                    } else {
-                        Block block = map.getBlock(x + xOffset, y + yOffset);
-
-                        if (block != null && !adjacentBlocks.contains(block)) {
-                            //Filter
-                            if (block.isEmpty() && player.ownsBlock(block)) {
-                                adjacentBlocks.add(getBlock(x + xOffset, y + yOffset, 0, 0));
-                            }
-                        }
-                    }
-                }
-            }
-            if (amount > 1) {
-                ArrayList<Block> result = new ArrayList<>(adjacentBlocks);
-                for (Block block : adjacentBlocks) {
-                    //Recursive call for all blocks filtered
-                    for (Block resultBlock : findPossibleMoveBlocksSoldier(block.getIndexX(), block.getIndexY(), amount - 1, player,
-                            withDiagonals)) {
-                        if (!result.contains(resultBlock)) {
-                            result.add(resultBlock);
-                        }
-                    }
-                }
-
-                for (Block block : adjacentBlocks) {
-                    for (Block block2 : findAdjacentBlocks(block, false)) {
-                        if (!adjacentBlocks.contains(block2)) {
-                            result.add(block2);
-                        }
-                    }
-                }
-
-                return result;
-
-            } else {
-                return adjacentBlocks;
-            }
-        } else {
-            //return an Empty ArrayList
-            return adjacentBlocks;
+            RangeQueryEvent event = new RangeQueryEvent();
+            event.begin();
+            int size = rangeFinder.findMoveRange(x, y, amount, player, withDiagonals);
+            event.finish(map.toCellIndex(x, y), amount, size);
+            return rangeResultToList(size);
         }
+        //return an Empty ArrayList
+        return new ArrayList<>();
     }
 
     public ArrayList<Block> findPossibleMoveBlocksSoldier(Block block, int amount, Player player, Boolean withDiagonals) {
@@ -315,17 +280,10 @@ public class BlockFinder {
      * or an empty ArrayList if the player's owned block list is empty.
      */
     public ArrayList<Block> findNearOutFrontierBlocks(Player player) {
-        ArrayList<Block> frontierBlocks = new ArrayList<>();
-        if (player != null) {
-            for (Block block : player.getOwnedBlocksList()) {
-                for (Block block2 : findAdjacentBlocks(block, false)) {
-                    if (!block2.isRemoved() && !player.ownsBlock(block2)) {
-                        frontierBlocks.add(block2);
-                    }
-                }
-            }
+        if (player != null && player.getFrontier() != null) {
+            return cellSetToList(player.getFrontier().getOuterCells());
         }
-        return frontierBlocks;
+        return new ArrayList<>();
     }
 
     /**
@@ -336,19 +294,18 @@ public class BlockFinder {
      * or an empty ArrayList if the player's owned block list is empty.
      */
     public ArrayList<Block> findNearFrontierBlocks(Player player) {
-        ArrayList<Block> frontierBlocks = new ArrayList<>();
-        if (player != null) {
-            for (Block block : player.getOwnedBlocksList()) {
-                for (Block block2 : findAdjacentBlocks(block, false)) {
-                    if (!block2.isRemoved() && !player.ownsBlock(block2)) {
-                        if (!frontierBlocks.contains(block)) {
-                            frontierBlocks.add(block);
-                        }
-                    }
-                }
-            }
+        if (player != null && player.getFrontier() != null) {
+            return cellSetToList(player.getFrontier().getInnerCells());
+        }
+        return new ArrayList<>();
+    }
+
+    private ArrayList<Block> cellSetToList(CellSet cells) {
+        ArrayList<Block> blocks = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            blocks.add(map.getBlockByCell(cells.get(i)));
         }
-        return frontierBlocks;
+        return blocks;
     }
 
 
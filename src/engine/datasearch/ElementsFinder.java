@@ -1,16 +1,16 @@
 package engine.datasearch;
 
 import data.board.Block;
+import data.board.BoardStore;
 import data.element.Element;
 import data.element.Soldier;
 import data.player.Player;
 import data.element.ElementsMap;
-import engine.util.DistanceCalculator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Comparator;
 
 /**
  * This class provides methods for finding {@link Element} in a game.
@@ -35,10 +35,50 @@ public class ElementsFinder {
      * @return an ArrayList of elements of the specified type
      */
     public <T extends Element> ArrayList<T> elementMapToList(Class<T> elementType) {
+        byte occupant = ElementsMap.toOccupantCode(elementType);
+        if (occupant != BoardStore.OCCUPANT_NONE) {
+            return toList(elementsMap.getElements(occupant));
+        }
         ArrayList<T> list = new ArrayList<>();
         for (Element element : elementsMap.getValues()) {
             if (elementType.isInstance(element)) {
-                list.add((T) element);
+                list.add(elementType.cast(element));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Copies elements indexed under the occupant code of a type, an occupant code is only used by one concrete type
+     * (see {@link ElementsMap#toOccupantCode(Class)}) so all of them are instances of the type.
+     *
+     * @param elements the elements of an occupant code.
+     * @return an ArrayList of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Element> ArrayList<T> toList(Collection<Element> elements) {
+        return new ArrayList<>((Collection<T>) (Collection<?>) elements);
+    }
+
+    /**
+     * Retrieves the elements of a type owned by a player.
+     *
+     * @param elementType the class of elements to retrieve
+     * @param player      the player who owns the elements
+     * @return an ArrayList of elements of the specified type owned by the player
+     */
+    public <T extends Element> ArrayList<T> elementMapToList(Class<T> elementType, Player player) {
+        byte occupant = ElementsMap.toOccupantCode(elementType);
+        if (player == null) {
+            return new ArrayList<>();
+        }
+        if (occupant != BoardStore.OCCUPANT_NONE) {
+            return toList(elementsMap.getOwnedElements(player.getId(), occupant));
+        }
+        ArrayList<T> list = new ArrayList<>();
+        for (T element : elementMapToList(elementType)) {
+            if (player.ownsElement(element)) {
+                list.add(element);
             }
         }
         return list;
@@ -51,6 +91,10 @@ public class ElementsFinder {
      * @return the number of elements of the specified type in the map
      */
     public <T extends Element> int calculateAmountOfElement(Class<T> elementType) {
+        byte occupant = ElementsMap.toOccupantCode(elementType);
+        if (occupant != BoardStore.OCCUPANT_NONE) {
+            return elementsMap.getElements(occupant).size();
+        }
         int count = 0;
         for (Element element : elementsMap.getValues()) {
             if (elementType.isInstance(element)) {
@@ -181,27 +225,14 @@ public class ElementsFinder {
      * @throws NullPointerException if the player or the element is null
      */
     public <T extends Element> Element findNearstOwnedElement(Element element, Class<T> elementType, Player player, boolean isOwned) {
-        Element closerElement = null;
-        if (element != null && player != null) {
-            ArrayList<T> list = elementMapToList(elementType);
-            int minDistance = Integer.MAX_VALUE;
-
-            for (Element candidate : list) {
-                if (!candidate.equals(element) && (isOwned == player.ownsElement(candidate))) {
-                    int distance = DistanceCalculator.calculateDistance(element.getX(), element.getY(),
-                            candidate.getX(), candidate.getY());
-                    if (distance < minDistance) {
-                        minDistance = distance;
-                        closerElement = candidate;
-                    }
-                }
-            }
-        }
-        return closerElement;
+        List<Element> closestElements = findNearestOwnedElements(element, elementType, player, isOwned, 1);
+        return closestElements.isEmpty() ? null : closestElements.get(0);
     }
 
     /**
      * Finds the nearest owned elements of a given type to a given element, up to a specified number of elements.
+     * Soldiers are searched in the spatial index of the {@link ElementsMap}, other types are compared one by one.
+     * Elements at the same distance are ordered by position (line then column).
      *
      * @param element            the element for which to find the nearest owned elements
      * @param elementType        the type of element to find
@@ -209,35 +240,38 @@ public class ElementsFinder {
      * @param isOwned            true to find elements owned by the player, false to find elements not owned by the player
      * @param numClosestElements the maximum number of closest elements to find
      * @return a List of the nearest owned elements of the specified type to the given element
-     * @throws NullPointerException if the element or the player is null
      */
     public <T extends Element> List<Element> findNearestOwnedElements(Element element, Class<T> elementType, Player player, boolean isOwned, int numClosestElements) {
         List<Element> closestElements = new ArrayList<>();
         if (element != null && player != null && numClosestElements > 0) {
-            ArrayList<T> list = elementMapToList(elementType);
-            TreeMap<Integer, T> distanceMap = new TreeMap<>();
+            if (ElementsMap.toOccupantCode(elementType) == BoardStore.OCCUPANT_SOLDIER) {
+                return elementsMap.findNearestSoldiers(element.getIndexX(), element.getIndexY(), player.getId(),
+                        isOwned, numClosestElements, element);
+            }
 
-            for (T candidate : list) {
-                if (!candidate.equals(element) && (isOwned == player.ownsElement(candidate))) {
-                    int distance = DistanceCalculator.calculateDistance(element.getX(), element.getY(),
-                            candidate.getX(), candidate.getY());
-                    distanceMap.put(distance, candidate);
+            for (T candidate : elementMapToList(elementType)) {
+                if (candidate != element && (isOwned == player.ownsElement(candidate))) {
+                    closestElements.add(candidate);
                 }
             }
+            closestElements.sort(Comparator
+                    .comparingInt((Element candidate) -> squaredDistance(element, candidate))
+                    .thenComparingInt(Element::getIndexY)
+                    .thenComparingInt(Element::getIndexX));
 
-            int count = 0;
-            for (Map.Entry<Integer, T> entry : distanceMap.entrySet()) {
-                if (count < numClosestElements) {
-                    closestElements.add(entry.getValue());
-                    count++;
-                } else {
-                    break;
-                }
+            if (closestElements.size() > numClosestElements) {
+                closestElements = new ArrayList<>(closestElements.subList(0, numClosestElements));
             }
         }
         return closestElements;
     }
 
+    private static int squaredDistance(Element elementA, Element elementB) {
+        int xOffset = elementA.getIndexX() - elementB.getIndexX();
+        int yOffset = elementA.getIndexY() - elementB.getIndexY();
+        return xOffset * xOffset + yOffset * yOffset;
+    }
+
     /**
      * Finds the nearest owned elements of a given type to a given element, up to a specified number of elements.
      *
@@ -360,14 +394,10 @@ public class ElementsFinder {
      * @throws NullPointerException if the player is null
      */
     public <T extends Element> int countElementType(Class<T> elementType, Player player) {
-        int elementTypeCount = 0;
-        ArrayList<T> elementTypeList = elementMapToList(elementType);
-
-        for (T element : elementTypeList) {
-            if (player.ownsElement(element)) {
-                elementTypeCount++;
-            }
+        byte occupant = ElementsMap.toOccupantCode(elementType);
+        if (occupant != BoardStore.OCCUPANT_NONE) {
+            return elementsMap.getOwnedElements(player.getId(), occupant).size();
         }
-        return elementTypeCount;
+        return elementMapToList(elementType, player).size();
     }
 }
@@ -60,7 +60,7 @@ public class GameAnalyzer {
                 ArrayList<Soldier> allies = new ArrayList<>();
                 ArrayList<Soldier> enemies = new ArrayList<>();
 
-                for (Block block : blockFinder.findAdjacentBlocks(soldier.getIndexX(), soldier.getIndexY(),
+                for (Block block : blockFinder.findAdjacentBlocksMask(map.getBlock(soldier.getIndexX(), soldier.getIndexY()),
                         GameplayConfig.BLOCKS_RANGE_SOLDIER_MOVE, false)) {
 
                     if (!block.isEmpty()) {
@@ -0,0 +1,222 @@
+package engine.datasearch;
+
+import data.board.Block;
+import data.board.GameMap;
+import data.player.Player;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first search engine used by {@link BlockFinder} to find blocks in a range around a {@link Block}.
+ * Each cell is expanded at most once, visited cells are marked with an epoch stamp so nothing has to be cleared
+ * between two searches, and the cells found are written in a result buffer reused by all searches
+ * (see {@link GameMap#toCellIndex(int, int)}).
+ * This class is not thread-safe, the result buffer is only valid until the next search.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class RangeFinder {
+
+    /**
+     * Offsets of adjacent blocks, diagonals included, in the order blocks are explored.
+     */
+    private static final int[] X_OFFSETS = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] Y_OFFSETS = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    /**
+     * Offsets of adjacent blocks without diagonals, in the order blocks are explored.
+     */
+    private static final int[] X_OFFSETS_NO_DIAGONALS = {-1, 0, 0, 1};
+    private static final int[] Y_OFFSETS_NO_DIAGONALS = {0, -1, 1, 0};
+
+    private final GameMap map;
+
+    /**
+     * Blocks of the map when buffers have been allocated, buffers are allocated again when blocks change.
+     */
+    private Block[][] allocatedBlocks = null;
+
+    /**
+     * Cells waiting to be expanded, in the order they have been found.
+     */
+    private int[] queue;
+
+    /**
+     * Distance of each expanded cell from the starting cell.
+     */
+    private int[] depth;
+
+    /**
+     * Epoch in which each cell has been added to the queue.
+     */
+    private int[] expandedStamp;
+
+    /**
+     * Epoch in which each cell has been added to the result buffer.
+     */
+    private int[] resultStamp;
+
+    /**
+     * Cells found by the last search.
+     */
+    private int[] result;
+
+    private int resultSize = 0;
+
+    private int epoch = 0;
+
+    /**
+     * @param map the map in which blocks are searched, it can still be built after the creation of this RangeFinder.
+     */
+    public RangeFinder(GameMap map) {
+        this.map = map;
+    }
+
+    /**
+     * Prepares buffers for a new search, buffers are allocated the first time and each time the map is rebuilt.
+     */
+    private void nextEpoch() {
+        if (allocatedBlocks != map.getBlocks()) {
+            int totalCells = map.getTotalCells();
+            queue = new int[totalCells];
+            depth = new int[totalCells];
+            expandedStamp = new int[totalCells];
+            resultStamp = new int[totalCells];
+            result = new int[totalCells];
+            allocatedBlocks = map.getBlocks();
+            epoch = 0;
+        }
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(expandedStamp, 0);
+            Arrays.fill(resultStamp, 0);
+            epoch = 0;
+        }
+        epoch++;
+        resultSize = 0;
+    }
+
+    private void addToResult(int cell) {
+        if (resultStamp[cell] != epoch) {
+            resultStamp[cell] = epoch;
+            result[resultSize++] = cell;
+        }
+    }
+
+    /**
+     * @return the cell of the adjacent block when it exists and is not removed, -1 otherwise.
+     */
+    private int findAdjacentCell(int indexX, int indexY, int xOffset, int yOffset) {
+        int targetX = indexX + xOffset;
+        int targetY = indexY + yOffset;
+
+        if (targetX >= 0 && targetX < map.getColumns() && targetY >= 0 && targetY < map.getLines()
+                && !map.getBlock(targetX, targetY).isRemoved()) {
+            return map.toCellIndex(targetX, targetY);
+        }
+        return -1;
+    }
+
+    /**
+     * Finds blocks that are not removed and can be reached from the starting block without crossing removed blocks.
+     * The starting block is always in the result.
+     *
+     * @param indexX        the x index of the starting block.
+     * @param indexY        the y index of the starting block.
+     * @param amount        the range of the search, a range lower than 1 is considered as 1.
+     * @param withDiagonals when true a diagonal block is at a distance of 1.
+     * @return the amount of cells found, see {@link #getResult()}.
+     */
+    public int findRange(int indexX, int indexY, int amount, boolean withDiagonals) {
+        return search(indexX, indexY, amount, null, withDiagonals);
+    }
+
+    /**
+     * Finds blocks on which a soldier can be moved : empty blocks owned by the player reachable by crossing such blocks
+     * within the range, and the blocks next to them (without diagonals) that can be attacked when the range is greater
+     * than 1. The starting block is always in the result.
+     *
+     * @param indexX        the x index of the soldier.
+     * @param indexY        the y index of the soldier.
+     * @param amount        the remaining amount of moves of the soldier, an amount lower than 1 is considered as 1.
+     * @param player        the player who owns the soldier.
+     * @param withDiagonals when true a diagonal block is at a distance of 1.
+     * @return the amount of cells found, see {@link #getResult()}.
+     */
+    public int findMoveRange(int indexX, int indexY, int amount, Player player, boolean withDiagonals) {
+        return search(indexX, indexY, amount, player, withDiagonals);
+    }
+
+    /**
+     * @param player when null all blocks not removed can be crossed, otherwise only empty blocks owned by the player
+     *               can be crossed and blocks next to them are added to the result.
+     */
+    private int search(int indexX, int indexY, int amount, Player player, boolean withDiagonals) {
+        if (map.getBlock(indexX, indexY) == null) {
+            resultSize = 0;
+            return 0;
+        }
+        nextEpoch();
+
+        int[] xOffsets = withDiagonals ? X_OFFSETS : X_OFFSETS_NO_DIAGONALS;
+        int[] yOffsets = withDiagonals ? Y_OFFSETS : Y_OFFSETS_NO_DIAGONALS;
+        int range = Math.max(amount, 1);
+        boolean withAttackedBlocks = player != null && amount > 1;
+        int columns = map.getColumns();
+
+        int startCell = map.toCellIndex(indexX, indexY);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startCell;
+        depth[startCell] = 0;
+        expandedStamp[startCell] = epoch;
+        addToResult(startCell);
+
+        while (head < tail) {
+            int cell = queue[head++];
+            if (depth[cell] >= range) {
+                continue;
+            }
+            int x = cell % columns;
+            int y = cell / columns;
+
+            for (int i = 0; i < xOffsets.length; i++) {
+                int adjacentCell = findAdjacentCell(x, y, xOffsets[i], yOffsets[i]);
+
+                if (adjacentCell != -1 && expandedStamp[adjacentCell] != epoch) {
+                    Block block = map.getBlockByCell(adjacentCell);
+
+                    if (player == null || block.isEmpty() && player.ownsBlock(block)) {
+                        expandedStamp[adjacentCell] = epoch;
+                        depth[adjacentCell] = depth[cell] + 1;
+                        queue[tail++] = adjacentCell;
+                        addToResult(adjacentCell);
+                    }
+                }
+            }
+
+            if (withAttackedBlocks) {
+                for (int i = 0; i < X_OFFSETS_NO_DIAGONALS.length; i++) {
+                    int adjacentCell = findAdjacentCell(x, y, X_OFFSETS_NO_DIAGONALS[i], Y_OFFSETS_NO_DIAGONALS[i]);
+                    if (adjacentCell != -1) {
+                        addToResult(adjacentCell);
+                    }
+                }
+            }
+        }
+        return resultSize;
+    }
+
+    /**
+     * @return the buffer of cells found by the last search, only the first {@link #getResultSize()} cells are valid.
+     */
+    public int[] getResult() {
+        return result;
+    }
+
+    /**
+     * @return the amount of cells found by the last search.
+     */
+    public int getResultSize() {
+        return resultSize;
+    }
+}
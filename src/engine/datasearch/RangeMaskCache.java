@@ -0,0 +1,75 @@
+package engine.datasearch;
+
+import data.board.Block;
+import data.board.GameMap;
+
+import java.util.HashMap;
+
+/**
+ * Keeps in memory the blocks found by {@link RangeFinder#findRange(int, int, int, boolean)} for each cell of a
+ * {@link GameMap}, by range and diagonals. A range only depends on removed blocks, which are defined when the map is
+ * built, so a range is searched once then read from the cache. The cache is cleared when the map is rebuilt.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class RangeMaskCache {
+
+    private final GameMap map;
+    private final RangeFinder rangeFinder;
+
+    /**
+     * Blocks in range of each cell, by key (see {@link #toKey(int, boolean)}), a cell is null until its range is searched.
+     */
+    private final HashMap<Integer, Block[][]> masks = new HashMap<>();
+
+    /**
+     * Blocks of the map when masks have been computed.
+     */
+    private Block[][] cachedBlocks = null;
+
+    /**
+     * @param map         the map in which ranges are searched.
+     * @param rangeFinder the engine used to search a range the first time.
+     */
+    public RangeMaskCache(GameMap map, RangeFinder rangeFinder) {
+        this.map = map;
+        this.rangeFinder = rangeFinder;
+    }
+
+    private static int toKey(int range, boolean withDiagonals) {
+        return range * 2 + (withDiagonals ? 1 : 0);
+    }
+
+    /**
+     * @param indexX        the x index of the reference block.
+     * @param indexY        the y index of the reference block.
+     * @param amount        the range of the search, a range lower than 1 is considered as 1.
+     * @param withDiagonals when true a diagonal block is at a distance of 1.
+     * @return the blocks in range of the reference block (reference block included), this array is shared and must not
+     * be modified, or an empty array when the reference block doesn't exist.
+     */
+    public Block[] getRange(int indexX, int indexY, int amount, boolean withDiagonals) {
+        if (map.getBlock(indexX, indexY) == null) {
+            return new Block[0];
+        }
+        if (cachedBlocks != map.getBlocks()) {
+            masks.clear();
+            cachedBlocks = map.getBlocks();
+        }
+
+        int range = Math.max(amount, 1);
+        Block[][] mask = masks.computeIfAbsent(toKey(range, withDiagonals), key -> new Block[map.getTotalCells()][]);
+        int cell = map.toCellIndex(indexX, indexY);
+
+        if (mask[cell] == null) {
+            int size = rangeFinder.findRange(indexX, indexY, range, withDiagonals);
+            int[] cells = rangeFinder.getResult();
+            Block[] blocks = new Block[size];
+            for (int i = 0; i < size; i++) {
+                blocks[i] = map.getBlockByCell(cells[i]);
+            }
+            mask[cell] = blocks;
+        }
+        return mask[cell];
+    }
+}
@@ -0,0 +1,154 @@
+package engine.datasearch.pathfinder;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of cell indexes which knows the position of each cell in the heap, so the priority
+ * of a cell already present can be decreased in O(log n) without searching it.
+ * Priorities are not stored in the heap, they are read from the arrays given with {@link #setPriorities(int[], int[])}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class IndexedMinHeap {
+
+    /**
+     * Cell indexes ordered as a binary heap.
+     */
+    private int[] heap;
+
+    /**
+     * Position of each cell in the heap, -1 when the cell is not in the heap.
+     */
+    private int[] positions;
+
+    private int size;
+
+    /**
+     * Main priority of each cell (the lowest is polled first).
+     */
+    private int[] scores;
+
+    /**
+     * Secondary priority used when two cells have the same score.
+     */
+    private int[] tieBreakers;
+
+    /**
+     * @param capacity the total amount of cells that can be pushed in the heap.
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Defines the arrays in which priorities of cells are read.
+     *
+     * @param scores      main priority of each cell.
+     * @param tieBreakers secondary priority of each cell.
+     */
+    public void setPriorities(int[] scores, int[] tieBreakers) {
+        this.scores = scores;
+        this.tieBreakers = tieBreakers;
+    }
+
+    /**
+     * Removes all cells from the heap, only cells really present are reset.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int cell) {
+        return positions[cell] != -1;
+    }
+
+    /**
+     * Adds a cell to the heap, its priority must already be written in priority arrays.
+     *
+     * @param cell the cell index to add.
+     */
+    public void push(int cell) {
+        heap[size] = cell;
+        positions[cell] = size;
+        siftUp(size);
+        size++;
+    }
+
+    /**
+     * Must be called after the priority of a cell present in the heap has been decreased.
+     *
+     * @param cell the cell index whose priority has been decreased.
+     */
+    public void decreased(int cell) {
+        siftUp(positions[cell]);
+    }
+
+    /**
+     * @return the cell with the lowest priority after removing it from the heap.
+     */
+    public int poll() {
+        int result = heap[0];
+        positions[result] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private boolean isLower(int cellA, int cellB) {
+        if (scores[cellA] != scores[cellB]) {
+            return scores[cellA] < scores[cellB];
+        }
+        return tieBreakers[cellA] < tieBreakers[cellB];
+    }
+
+    private void siftUp(int index) {
+        int cell = heap[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = heap[parentIndex];
+            if (!isLower(cell, parent)) {
+                break;
+            }
+            heap[index] = parent;
+            positions[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = cell;
+        positions[cell] = index;
+    }
+
+    private void siftDown(int index) {
+        int cell = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            int child = heap[childIndex];
+            int rightIndex = childIndex + 1;
+            if (rightIndex < size && isLower(heap[rightIndex], child)) {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+            if (!isLower(child, cell)) {
+                break;
+            }
+            heap[index] = child;
+            positions[child] = index;
+            index = childIndex;
+        }
+        heap[index] = cell;
+        positions[cell] = index;
+    }
+}
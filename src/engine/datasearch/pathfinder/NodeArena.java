@@ -0,0 +1,150 @@
+package engine.datasearch.pathfinder;
+
+import data.board.GameMap;
+
+import java.util.Arrays;
+
+/**
+ * Keeps in memory the state of every node of a {@link GameMap} during a search of {@link PathFinder}, stored in
+ * primitive arrays indexed by cell (see {@link GameMap#toCellIndex(int, int)}).
+ * The arena is reused from one search to another : instead of clearing arrays, each search increments a generation,
+ * and the value of a node is only valid when its stamp equals the current generation.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class NodeArena {
+
+    /**
+     * Total amount of cells in the map.
+     */
+    private final int totalCells;
+
+    /**
+     * Cost to reach each node from the starting node.
+     */
+    final int[] realCost;
+
+    /**
+     * Real cost added to the heuristic of each node.
+     */
+    final int[] score;
+
+    /**
+     * Estimated remaining cost of each node to reach the ending node.
+     */
+    final int[] heuristic;
+
+    /**
+     * Cell from which each node has been reached.
+     */
+    final int[] parent;
+
+    /**
+     * Generation in which realCost, score, heuristic and parent of each node have been written.
+     */
+    private final int[] openStamp;
+
+    /**
+     * Generation in which each node has been closed.
+     */
+    private final int[] closedStamp;
+
+    /**
+     * Generation in which the blocked state of each node has been evaluated.
+     */
+    private final int[] checkedStamp;
+
+    /**
+     * Blocked state of each node, only valid when checked in the current generation.
+     */
+    private final boolean[] blocked;
+
+    /**
+     * Generation in which each node has been marked by the caller.
+     */
+    private final int[] markStamp;
+
+    /**
+     * Reusable buffer to keep the cells of the last path found.
+     */
+    final int[] path;
+
+    final IndexedMinHeap openHeap;
+
+    private int generation = 0;
+
+    /**
+     * @param totalCells total amount of cells in the map.
+     */
+    public NodeArena(int totalCells) {
+        this.totalCells = totalCells;
+        realCost = new int[totalCells];
+        score = new int[totalCells];
+        heuristic = new int[totalCells];
+        parent = new int[totalCells];
+        openStamp = new int[totalCells];
+        closedStamp = new int[totalCells];
+        checkedStamp = new int[totalCells];
+        blocked = new boolean[totalCells];
+        markStamp = new int[totalCells];
+        path = new int[totalCells];
+        openHeap = new IndexedMinHeap(totalCells);
+        openHeap.setPriorities(score, heuristic);
+    }
+
+    /**
+     * Invalidates all nodes to start a new search.
+     */
+    public void nextGeneration() {
+        openHeap.clear();
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(openStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            Arrays.fill(checkedStamp, 0);
+            Arrays.fill(markStamp, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    public int getTotalCells() {
+        return totalCells;
+    }
+
+    boolean isOpened(int cell) {
+        return openStamp[cell] == generation;
+    }
+
+    void open(int cell) {
+        openStamp[cell] = generation;
+    }
+
+    boolean isClosed(int cell) {
+        return closedStamp[cell] == generation;
+    }
+
+    void close(int cell) {
+        closedStamp[cell] = generation;
+    }
+
+    boolean isChecked(int cell) {
+        return checkedStamp[cell] == generation;
+    }
+
+    boolean isBlocked(int cell) {
+        return blocked[cell];
+    }
+
+    void check(int cell, boolean isBlocked) {
+        checkedStamp[cell] = generation;
+        blocked[cell] = isBlocked;
+    }
+
+    boolean isMarked(int cell) {
+        return markStamp[cell] == generation;
+    }
+
+    void mark(int cell) {
+        markStamp[cell] = generation;
+    }
+}
@@ -5,19 +5,41 @@ import data.board.GameMap;
 import data.element.*;
 import data.player.Player;
 import engine.datasearch.ElementsFinder;
+import engine.monitoring.PathSearchEvent;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * The PathFinder class implements the A* algorithm to find the shortest path between two given {@link Block} on a {@link GameMap}.
+ * Nodes are kept in a {@link NodeArena} reused by all searches on the same map, the open list is an {@link IndexedMinHeap}
+ * and the closed list a generation stamp, so a search doesn't allocate anything once the arena is built.
+ * This class is not thread-safe, a PathFinder must be used by only one thread at a time.
  *
  * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
  */
 public class PathFinder {
 
+    /**
+     * Returned by searches when no path has been found.
+     */
+    private static final int NO_PATH = -1;
+
     private final ElementsFinder elementsFinder;
     private final GameMap map;
 
+    /**
+     * Nodes of the map, built at the first search and rebuilt when the blocks of the map change.
+     */
+    private NodeArena arena = null;
+    private Block[][] arenaBlocks = null;
+
+    /**
+     * Amount of searches and of nodes expanded by all searches, read by {@link engine.monitoring.TurnProfiler}.
+     */
+    private long searches = 0;
+    private long expandedNodes = 0;
+
     /**
      * Create a new PathFinder on a given GameMap with specified element on blocks.
      *
@@ -29,6 +51,14 @@ public class PathFinder {
         this.map = map;
     }
 
+    public long getSearches() {
+        return searches;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
     /**
      * Convert a blockNode to a {@link Block}.
      *
@@ -39,99 +69,162 @@ public class PathFinder {
         return blockNode != null ? map.getBlock(blockNode.getIndexX(), blockNode.getIndexY()) : null;
     }
 
-    public void initCost(BlockNode[][] blocks, BlockNode startingBlock) {
-        if (startingBlock != null) {
-            for (int i = 0; i < blocks.length; i++) {
-                for (int j = 0; j < blocks[0].length; j++) {
-                    BlockNode block = blocks[i][j];
-                    if (block.getInitialCost() != -1) {
-                        int dx = Math.abs(block.getIndexX() - startingBlock.getIndexX());
-                        int dy = Math.abs(block.getIndexY() - startingBlock.getIndexY());
-                        int initialCost = dx + dy;
-                        block.setInitialCost(initialCost);
-                    }
-                }
-            }
+    /**
+     * @return the arena of the map, (re)built when the blocks of the map have changed since the last search.
+     */
+    private NodeArena getArena() {
+        if (arena == null || arenaBlocks != map.getBlocks()) {
+            arena = new NodeArena(map.getTotalCells());
+            arenaBlocks = map.getBlocks();
         }
+        return arena;
     }
 
     /**
-     * Returns an ArrayList of adjacent BlockNodes to the given BlockNode, excluding Blocks with indicating that
-     * they are "removed" or have with an element on them.
+     * Calculates the heuristic value (Manhattan distance) between two cells.
      *
-     * @param blocks A two-dimensional of BlockNodes representing the game map.
-     * @param block  The BlockNode to find adjacent BlockNodes to.
-     * @return An ArrayList of adjacent BlockNodes to the given BlockNode, an empty ArrayList if there are not.
+     * @param cell    the current cell.
+     * @param endCell the end cell.
+     * @return the heuristic value for the current cell.
      */
-    public ArrayList<BlockNode> getAdjacentBlockNode(BlockNode[][] blocks, BlockNode block) {
-        ArrayList<BlockNode> result = new ArrayList<>();
-        if (block != null) {
-            int x = block.getIndexX();
-            int y = block.getIndexY();
-            int rows = blocks[0].length;
-            int cols = blocks.length;
-
-            if (x > 0 && y > 0 && blocks[x - 1][y].getInitialCost() != -1) {
-                result.add(blocks[x - 1][y]);
-            }
-            if (y > 0 && x > 0 && blocks[x][y - 1].getInitialCost() != -1) {
-                result.add(blocks[x][y - 1]);
-            }
-            if (y > 0 && x > 0 && x < cols - 1 && blocks[x + 1][y].getInitialCost() != -1) {
-                result.add(blocks[x + 1][y]);
-            }
-            if (y < rows - 1 && x > 0 && y > 0 && blocks[x][y + 1].getInitialCost() != -1) {
-                result.add(blocks[x][y + 1]);
-            }
+    private int calculateHeuristic(int cell, int endCell) {
+        int columns = map.getColumns();
+        return Math.abs(cell % columns - endCell % columns) + Math.abs(cell / columns - endCell / columns);
+    }
+
+    /**
+     * A block can't be crossed when it's removed or when the player has a structure or a {@link Soldier} on it.
+     *
+     * @param player the player that own the {@link Soldier} which navigate in the path.
+     * @param block  the block to check.
+     * @return true when the block can't be crossed.
+     */
+    private boolean isBlocked(Player player, Block block) {
+        if (block.isRemoved()) {
+            return true;
+        }
+        if (block.isEmpty()) {
+            return false;
+        }
+        Element element = elementsFinder.findElementOnBlock(block);
+        return element != null && !(element instanceof ForestTree) && player.ownsBlock(block);
+    }
+
+    /**
+     * Opens (or updates when a shorter way is found) a node adjacent to the current node.
+     */
+    private void visitAdjacentCell(NodeArena arena, Player player, int currentCell, int adjacentCell,
+                                   int startCell, int endCell) {
+        if (arena.isClosed(adjacentCell)) {
+            return;
+        }
+        if (!arena.isChecked(adjacentCell)) {
+            boolean blocked = adjacentCell != startCell && adjacentCell != endCell
+                    && isBlocked(player, map.getBlockByCell(adjacentCell));
+            arena.check(adjacentCell, blocked);
+        }
+        if (arena.isBlocked(adjacentCell)) {
+            return;
         }
 
-        return result;
+        int newRealCost = arena.realCost[currentCell] + 1;
+
+        if (!arena.isOpened(adjacentCell)) {
+            arena.open(adjacentCell);
+            arena.realCost[adjacentCell] = newRealCost;
+            arena.heuristic[adjacentCell] = calculateHeuristic(adjacentCell, endCell);
+            arena.score[adjacentCell] = newRealCost + arena.heuristic[adjacentCell];
+            arena.parent[adjacentCell] = currentCell;
+            arena.openHeap.push(adjacentCell);
+
+        } else if (newRealCost < arena.realCost[adjacentCell] && arena.openHeap.contains(adjacentCell)) {
+            arena.realCost[adjacentCell] = newRealCost;
+            arena.score[adjacentCell] = newRealCost + arena.heuristic[adjacentCell];
+            arena.parent[adjacentCell] = currentCell;
+            arena.openHeap.decreased(adjacentCell);
+        }
     }
 
     /**
-     * Calculates the heuristic value for a given block node.
+     * Runs the A* algorithm in the arena, the path can then be read from the ending cell through parent cells.
      *
-     * @param block    the current block node
-     * @param endBlock the end block node
-     * @return the heuristic value for the current block node
+     * @param player        the player that needs to navigate the path.
+     * @param startingBlock the starting block of the path.
+     * @param endingBlock   the ending block of the path.
+     * @return the ending cell when a path is found, NO_PATH otherwise.
      */
-    public int calculateHeuristic(BlockNode block, BlockNode endBlock) {
-        int dx = Math.abs(block.getIndexX() - endBlock.getIndexX());
-        int dy = Math.abs(block.getIndexY() - endBlock.getIndexY());
-        return dx + dy;
+    private int search(Player player, Block startingBlock, Block endingBlock) {
+        PathSearchEvent event = new PathSearchEvent();
+        event.begin();
+        long expandedBefore = expandedNodes;
+
+        int startCell = map.toCellIndex(startingBlock.getIndexX(), startingBlock.getIndexY());
+        int endCell = map.toCellIndex(endingBlock.getIndexX(), endingBlock.getIndexY());
+        int foundCell = searchCells(player, startCell, endCell);
+
+        event.finish(startCell, endCell, expandedNodes - expandedBefore, foundCell != NO_PATH);
+        return foundCell;
     }
 
     /**
-     * Initializes the game map with BlockNodes, which contains information about their initial and real cost, as well as their parent and heuristic.
+     * Runs the A* algorithm in the arena between two cells.
      *
-     * @param player        The player that own the {@link Soldier} which navigate in the path.
-     * @param startingBlock The beginning point of the path.
-     * @param endingBlock   The destination point of the path.
-     * @return A two-dimensional array of BlockNodes containing information about the initial and real cost, parent, and heuristic of each block.
+     * @return the ending cell when a path is found, NO_PATH otherwise.
      */
-    public BlockNode[][] initBlocksNode(Player player, Block startingBlock, Block endingBlock) {
-
-        BlockNode[][] blockNodes = new BlockNode[map.getColumns()][map.getLines()];
-        for (int i = 0; i < map.getColumns(); i++) {
-            for (int j = 0; j < map.getLines(); j++) {
-                Block block = map.getBlock(i, j);
-                BlockNode blockNode;
-
-                if (!block.equals(startingBlock) && !block.equals(endingBlock) && (map.getBlock(i, j).isRemoved()
-                        || elementsFinder.elementTypeExistsOnBlock(House.class, player, block)
-                        || elementsFinder.elementTypeExistsOnBlock(AttackTower.class, player, block)
-                        || elementsFinder.elementTypeExistsOnBlock(DefenseTower.class, player, block)
-                        || elementsFinder.elementTypeExistsOnBlock(Base.class, player, block)
-                        || elementsFinder.elementTypeExistsOnBlock(Soldier.class, player, block))) {
-                    blockNode = new BlockNode(block.getX(), block.getY(), -1);
-                } else {
-                    blockNode = new BlockNode(block.getX(), block.getY(), 0);
-                }
+    private int searchCells(Player player, int startCell, int endCell) {
+        NodeArena arena = getArena();
+        arena.nextGeneration();
+        searches++;
+
+        int columns = map.getColumns();
+        int lines = map.getLines();
 
-                blockNodes[i][j] = blockNode;
+        arena.open(startCell);
+        arena.realCost[startCell] = 0;
+        arena.heuristic[startCell] = calculateHeuristic(startCell, endCell);
+        arena.score[startCell] = arena.heuristic[startCell];
+        arena.parent[startCell] = NO_PATH;
+        arena.openHeap.push(startCell);
+
+        while (!arena.openHeap.isEmpty()) {
+            int currentCell = arena.openHeap.poll();
+            if (currentCell == endCell) {
+                return endCell;
             }
+            arena.close(currentCell);
+            expandedNodes++;
+
+            int x = currentCell % columns;
+            int y = currentCell / columns;
+
+            // Check adjacent blocks to current block (left, up, right, down)
+            if (x > 0) {
+                visitAdjacentCell(arena, player, currentCell, currentCell - 1, startCell, endCell);
+            }
+            if (y > 0) {
+                visitAdjacentCell(arena, player, currentCell, currentCell - columns, startCell, endCell);
+            }
+            if (x < columns - 1) {
+                visitAdjacentCell(arena, player, currentCell, currentCell + 1, startCell, endCell);
+            }
+            if (y < lines - 1) {
+                visitAdjacentCell(arena, player, currentCell, currentCell + columns, startCell, endCell);
+            }
+        }
+        return NO_PATH;
+    }
+
+    /**
+     * Writes the cells of the path found by the last search in the path buffer of the arena.
+     *
+     * @return the amount of cells in the path, the ending cell is at index 0 and the starting cell at the last index.
+     */
+    private int fillPath(int endCell) {
+        int length = 0;
+        for (int cell = endCell; cell != NO_PATH; cell = arena.parent[cell]) {
+            arena.path[length++] = cell;
         }
-        return blockNodes;
+        return length;
     }
 
     /**
@@ -140,73 +233,31 @@ public class PathFinder {
      * @param player        The player that needs to navigate the path.
      * @param startingBlock The starting block of the path.
      * @param endingBlock   The ending block of the path.
-     * @return An ArrayList of BlockNodes representing the shortest path between the two given blocks, or null if no path was found.
+     * @return An ArrayList of BlockNodes representing the shortest path between the two given blocks (from the ending
+     * block to the starting block), or null if no path was found.
      */
     public ArrayList<BlockNode> findDirectionAStar(Player player, Block startingBlock, Block endingBlock) {
 
-        if (map != null && startingBlock != null && endingBlock != null) {
-
-            BlockNode startingBlockNode = new BlockNode(startingBlock.getX(), startingBlock.getY(), 0);
-            BlockNode endinfBlockNode = new BlockNode(endingBlock.getX(), endingBlock.getY(), 0);
-            BlockNode[][] blockNodes = initBlocksNode(player, startingBlock, endingBlock);
-            initCost(blockNodes, startingBlockNode);
-
-            ArrayList<BlockNode> openList = new ArrayList<>();
-            ArrayList<BlockNode> closedList = new ArrayList<>();
+        if (map != null && player != null && startingBlock != null && endingBlock != null) {
+            int endCell = search(player, startingBlock, endingBlock);
 
-            // Add starting block to open list
-            openList.add(startingBlockNode);
+            if (endCell != NO_PATH) {
+                int length = fillPath(endCell);
+                BlockNode[] nodes = new BlockNode[length];
+                BlockNode previousNode = null;
 
-            while (!openList.isEmpty()) {
-
-                // Find block with the lowest score in open list
-                BlockNode currentBlock = openList.get(0);
-                for (BlockNode block : openList) {
-                    if (block.getScore() < currentBlock.getScore()) {
-                        currentBlock = block;
-                    }
-                }
-
-                // End block found, return path
-                if (currentBlock.equals(endinfBlockNode)) {
-                    ArrayList<BlockNode> path = new ArrayList<>();
-                    BlockNode currentBlockNode = currentBlock;
-                    while (currentBlockNode != null) {
-                        path.add(currentBlockNode);
-                        currentBlockNode = currentBlockNode.getParentNode();
-                    }
-                    return path;
-                }
-
-                // Remove current block from open list and add to closed list
-                openList.remove(currentBlock);
-                closedList.add(currentBlock);
-
-                // Check adjacent blocks to current block
-                for (BlockNode adjacentBlockNode : getAdjacentBlockNode(blockNodes, currentBlock)) {
-
-                    // If adjacent block is already in closed list, skip it
-                    if (closedList.contains(adjacentBlockNode)) {
-                        continue;
-                    }
-
-                    int newRealCost = currentBlock.getRealCost() + adjacentBlockNode.getInitialCost();
-
-                    // If adjacent block is not in open list, add it
-                    if (!openList.contains(adjacentBlockNode)) {
-                        adjacentBlockNode.setRealCost(newRealCost);
-                        adjacentBlockNode.setHeuristic(calculateHeuristic(adjacentBlockNode, endinfBlockNode));
-                        adjacentBlockNode.setParentNode(currentBlock);
-                        openList.add(adjacentBlockNode);
-                    }
-                    // If adjacent block is already in open list, check if it's faster to go through current block
-                    else {
-                        if (newRealCost < adjacentBlockNode.getRealCost()) {
-                            adjacentBlockNode.setRealCost(newRealCost);
-                            adjacentBlockNode.setParentNode(currentBlock);
-                        }
-                    }
+                // Nodes are created from the starting block (at the end of the path) to link each node to its parent
+                for (int i = length - 1; i >= 0; i--) {
+                    int cell = arena.path[i];
+                    Block block = map.getBlockByCell(cell);
+                    BlockNode blockNode = new BlockNode(block.getX(), block.getY(), 0);
+                    blockNode.setRealCost(arena.realCost[cell]);
+                    blockNode.setHeuristic(arena.heuristic[cell]);
+                    blockNode.setParentNode(previousNode);
+                    nodes[i] = blockNode;
+                    previousNode = blockNode;
                 }
+                return new ArrayList<>(Arrays.asList(nodes));
             }
         }
         //No path found
@@ -226,16 +277,28 @@ public class PathFinder {
      */
     public Block findBlockToDirection(Player player, ArrayList<Block> startingBlocks,
                                       Block startingBlock, Block endingBlock) {
-        ArrayList<BlockNode> path = findDirectionAStar(player, endingBlock, startingBlock);
-        if (path != null && !path.isEmpty()) {
-            for (int i = path.size() - 1; i > 0; i--) {
-                Block block = blockNodeToBlock(path.get(i));
-                if (block != null && startingBlocks.contains(block)) {
-                    return block;
+        if (map == null || player == null || startingBlocks == null || startingBlock == null || endingBlock == null) {
+            return null;
+        }
+
+        int endCell = search(player, endingBlock, startingBlock);
+        if (endCell != NO_PATH) {
+            int length = fillPath(endCell);
+
+            for (Block block : startingBlocks) {
+                if (block != null) {
+                    arena.mark(map.toCellIndex(block.getIndexX(), block.getIndexY()));
+                }
+            }
+
+            // Walks the path from the direction block to the starting block, the starting block itself is excluded
+            for (int i = length - 1; i > 0; i--) {
+                int cell = arena.path[i];
+                if (arena.isMarked(cell)) {
+                    return map.getBlockByCell(cell);
                 }
             }
         }
         return null;
     }
 }
-
@@ -0,0 +1,13 @@
+package engine.exception;
+
+/**
+ * This exception should be thrown when a saved game file was written in a format that can't be read anymore, like the
+ * saves written with Java serialization by the first versions of the game.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class UnsupportedSaveException extends Exception {
+    public UnsupportedSaveException(String fileName) {
+        super(fileName + " is saved in an unsupported format");
+    }
+}
@@ -0,0 +1,35 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event lasting one phase of {@link engine.process.BotAction#runAction()}, the phases are the
+ * ones measured by {@link TurnProfiler}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.BotPhase")
+@Label("Bot Phase")
+@Category({"Conquete", "Engine"})
+@Description("Phase of the turn of a bot")
+public class BotPhaseEvent extends GameEvent {
+
+    @Label("Player Id")
+    private int playerId;
+
+    @Label("Phase")
+    private String phase;
+
+    /**
+     * @param playerId the id of the bot.
+     * @param phase    one of TurnProfiler PHASE_*.
+     */
+    public void finish(int playerId, int phase) {
+        this.playerId = playerId;
+        this.phase = TurnProfiler.PHASE_NAMES[phase];
+        endAndCommit();
+    }
+}
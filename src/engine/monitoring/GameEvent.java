@@ -0,0 +1,21 @@
+package engine.monitoring;
+
+/**
+ * Java Flight Recorder event of the game. An event is begun before the measured code, then its finish method sets its
+ * fields and calls {@link #endAndCommit()}. Frequent events are annotated with {@link jdk.jfr.StackTrace} false so the
+ * recording doesn't slow the game down.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public abstract class GameEvent extends jdk.jfr.Event {
+
+    /**
+     * Ends the event and commits it when it is recorded, its fields must be set before.
+     */
+    protected final void endAndCommit() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
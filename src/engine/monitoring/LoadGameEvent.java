@@ -0,0 +1,47 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event lasting the reading of a saved game by {@link engine.util.GameSerializer}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.LoadGame")
+@Label("Load Game")
+@Category({"Conquete", "Save"})
+@Description("Reading of a saved game file")
+public class LoadGameEvent extends GameEvent {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    @Label("Format Version")
+    @Description("0 when the file is not a binary save")
+    private int formatVersion;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * @param path          the saved game file path.
+     * @param size          the amount of bytes read.
+     * @param formatVersion the format version of the file, 0 when it is not a binary save.
+     * @param succeeded     true when the game has been read.
+     */
+    public void finish(String path, long size, int formatVersion, boolean succeeded) {
+        this.path = path;
+        this.size = size;
+        this.formatVersion = formatVersion;
+        this.succeeded = succeeded;
+        endAndCommit();
+    }
+}
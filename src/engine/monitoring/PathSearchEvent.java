@@ -0,0 +1,46 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event lasting one A* search of {@link engine.datasearch.pathfinder.PathFinder}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.PathSearch")
+@Label("Path Search")
+@Category({"Conquete", "Engine"})
+@Description("A* search of a path between two blocks")
+@StackTrace(false)
+public class PathSearchEvent extends GameEvent {
+
+    @Label("Start Cell")
+    private int startCell;
+
+    @Label("Goal Cell")
+    private int goalCell;
+
+    @Label("Expanded Nodes")
+    private long expandedNodes;
+
+    @Label("Path Found")
+    private boolean found;
+
+    /**
+     * @param startCell     the cell of the starting block.
+     * @param goalCell      the cell of the ending block.
+     * @param expandedNodes the amount of nodes expanded by the search.
+     * @param found         true when a path has been found.
+     */
+    public void finish(int startCell, int goalCell, long expandedNodes, boolean found) {
+        this.startCell = startCell;
+        this.goalCell = goalCell;
+        this.expandedNodes = expandedNodes;
+        this.found = found;
+        endAndCommit();
+    }
+}
@@ -0,0 +1,42 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event lasting one search of the blocks on which a soldier can be moved, made by
+ * {@link engine.datasearch.BlockFinder}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.RangeQuery")
+@Label("Range Query")
+@Category({"Conquete", "Engine"})
+@Description("Search of the blocks in the move range of a soldier")
+@StackTrace(false)
+public class RangeQueryEvent extends GameEvent {
+
+    @Label("Cell")
+    private int cell;
+
+    @Label("Range")
+    private int range;
+
+    @Label("Blocks Found")
+    private int blocksFound;
+
+    /**
+     * @param cell        the cell from which blocks are searched.
+     * @param range       the range of the search.
+     * @param blocksFound the amount of blocks found.
+     */
+    public void finish(int cell, int range, int blocksFound) {
+        this.cell = cell;
+        this.range = range;
+        this.blocksFound = blocksFound;
+        endAndCommit();
+    }
+}
@@ -0,0 +1,42 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event lasting the painting of the board by {@link main.game.GameDisplay}, with the area painted.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.Repaint")
+@Label("Repaint")
+@Category({"Conquete", "Display"})
+@Description("Painting of the board")
+public class RepaintEvent extends GameEvent {
+
+    @Label("Width")
+    @Description("Width in pixels of the painted area")
+    private int width;
+
+    @Label("Height")
+    @Description("Height in pixels of the painted area")
+    private int height;
+
+    @Label("Full Repaint")
+    @Description("True when the whole board is painted")
+    private boolean fullRepaint;
+
+    /**
+     * @param width       the width in pixels of the painted area.
+     * @param height      the height in pixels of the painted area.
+     * @param fullRepaint true when the whole board is painted.
+     */
+    public void finish(int width, int height, boolean fullRepaint) {
+        this.width = width;
+        this.height = height;
+        this.fullRepaint = fullRepaint;
+        endAndCommit();
+    }
+}
@@ -0,0 +1,42 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event lasting the writing of a save by {@link engine.util.GameSerializer}, on the thread which
+ * writes it (the autosave thread for automatic saves).
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.SaveGame")
+@Label("Save Game")
+@Category({"Conquete", "Save"})
+@Description("Writing of a saved game file")
+public class SaveGameEvent extends GameEvent {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * @param path      the saved game file path.
+     * @param size      the amount of bytes written.
+     * @param succeeded true when the file has been written.
+     */
+    public void finish(String path, long size, boolean succeeded) {
+        this.path = path;
+        this.size = size;
+        this.succeeded = succeeded;
+        endAndCommit();
+    }
+}
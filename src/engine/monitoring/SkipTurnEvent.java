@@ -0,0 +1,36 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event lasting {@link main.game.GameManager#skipTurn()}, which applies the effects of the end of
+ * a turn and gives the turn to the next player.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.SkipTurn")
+@Label("Skip Turn")
+@Category({"Conquete", "Engine"})
+@Description("Effects of the end of a turn and change of player")
+public class SkipTurnEvent extends GameEvent {
+
+    @Label("Player Id")
+    @Description("Id of the player whose turn is skipped")
+    private int playerId;
+
+    @Label("Next Player Id")
+    private int nextPlayerId;
+
+    /**
+     * @param playerId     the id of the player whose turn is skipped.
+     * @param nextPlayerId the id of the player who gets the turn.
+     */
+    public void finish(int playerId, int nextPlayerId) {
+        this.playerId = playerId;
+        this.nextPlayerId = nextPlayerId;
+        endAndCommit();
+    }
+}
@@ -0,0 +1,41 @@
+package engine.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event lasting the whole turn of a player, from the skip giving it the turn to the skip ending
+ * it. It is begun by {@link main.game.GameManager} when a turn starts and committed when the turn is skipped.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+@Name("conquete.Turn")
+@Label("Turn")
+@Category({"Conquete", "Engine"})
+@Description("Turn of a player, from its start to its skip")
+public class TurnEvent extends GameEvent {
+
+    @Label("Player Id")
+    private int playerId;
+
+    @Label("Bot")
+    private boolean bot;
+
+    @Label("Turn")
+    @Description("Amount of turns skipped by the player before this turn")
+    private int turn;
+
+    /**
+     * @param playerId the id of the player who played the turn.
+     * @param bot      true when the player is a bot.
+     * @param turn     the amount of turns skipped by the player before this turn.
+     */
+    public void finish(int playerId, boolean bot, int turn) {
+        this.playerId = playerId;
+        this.bot = bot;
+        this.turn = turn;
+        endAndCommit();
+    }
+}
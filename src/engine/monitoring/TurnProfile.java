@@ -0,0 +1,84 @@
+package engine.monitoring;
+
+/**
+ * Data class keeping in memory the time spent in each phase of one turn, measured by {@link TurnProfiler}.
+ * A turn is the turn of a player (its bot actions when it is a bot) followed by the skip to the next player.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class TurnProfile {
+
+    /**
+     * The index of the turn in the game, starting at 0.
+     */
+    private final int turn;
+
+    /**
+     * The id of the player who played the turn.
+     */
+    private final int playerId;
+
+    /**
+     * Time in ns spent in each phase, by phase index (see TurnProfiler PHASE_*).
+     */
+    private final long[] phaseTimes;
+
+    /**
+     * Amount of calls of each phase, by phase index.
+     */
+    private final int[] phaseCalls;
+
+    /**
+     * Amount of path searches during the turn.
+     */
+    private final long pathSearches;
+
+    /**
+     * Amount of nodes expanded by path searches during the turn.
+     */
+    private final long expandedNodes;
+
+    public TurnProfile(int turn, int playerId, long[] phaseTimes, int[] phaseCalls, long pathSearches, long expandedNodes) {
+        this.turn = turn;
+        this.playerId = playerId;
+        this.phaseTimes = phaseTimes.clone();
+        this.phaseCalls = phaseCalls.clone();
+        this.pathSearches = pathSearches;
+        this.expandedNodes = expandedNodes;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public long getPhaseTime(int phase) {
+        return phaseTimes[phase];
+    }
+
+    public int getPhaseCalls(int phase) {
+        return phaseCalls[phase];
+    }
+
+    /**
+     * @return the time in ns spent in all phases of the turn.
+     */
+    public long getTotalTime() {
+        long total = 0;
+        for (long time : phaseTimes) {
+            total += time;
+        }
+        return total;
+    }
+
+    public long getPathSearches() {
+        return pathSearches;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+}
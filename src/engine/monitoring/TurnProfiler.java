@@ -0,0 +1,240 @@
+package engine.monitoring;
+
+import engine.datasearch.pathfinder.PathFinder;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Measures the time spent in each phase of {@link main.game.GameManager#skipTurn()} and
+ * {@link engine.process.BotAction#runAction()}, turn by turn, with the amount of path searches and expanded nodes.
+ * <p>
+ * A phase is measured by calling {@link #start()} before it and {@link #stop(int, long)} after it. The profiler of a game
+ * not profiled is {@link #DISABLED}, whose methods only check a final field, so measures can be left in the code.
+ * A profiler belongs to one game and must be used by the thread which modifies the game.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class TurnProfiler {
+
+    /**
+     * Phases of {@link main.game.GameManager#skipTurn()}.
+     */
+    public static final int PHASE_SKIP_STATISTICS = 0;
+    public static final int PHASE_SKIP_NEXT_PLAYER = 1;
+    public static final int PHASE_SKIP_TOWERS_EFFECT = 2;
+    public static final int PHASE_SKIP_SPECIAL_BLOCKS_EFFECT = 3;
+    public static final int PHASE_SKIP_GOLD = 4;
+    public static final int PHASE_SKIP_SOLDIERS_MOVES = 5;
+    public static final int PHASE_SKIP_GOLD_PER_TURN = 6;
+    public static final int PHASE_SKIP_TREE_GENERATION = 7;
+    public static final int PHASE_SKIP_SNAPSHOT = 8;
+    public static final int PHASE_SKIP_AUTOSAVE = 9;
+
+    /**
+     * Phases of {@link engine.process.BotAction#runAction()}.
+     */
+    public static final int PHASE_BOT_UPDATE_DATA = 10;
+    public static final int PHASE_BOT_DEFEND_BASE = 11;
+    public static final int PHASE_BOT_ATTACK_ENEMY_BASES = 12;
+    public static final int PHASE_BOT_RETREAT_TO_ALLIE = 13;
+    public static final int PHASE_BOT_MERGE_ALLIES = 14;
+    public static final int PHASE_BOT_ATTACK_ATTACK_TOWER = 15;
+    public static final int PHASE_BOT_BUY_SOLDIER_AT_FRONTIER = 16;
+    public static final int PHASE_BOT_CONQUER_AROUND_BASE = 17;
+    public static final int PHASE_BOT_CONQUER_SPECIAL_BLOCKS = 18;
+    public static final int PHASE_BOT_BUY_SOLDIER_CLOSE_OF_TREE = 19;
+    public static final int PHASE_BOT_BUY_SOLDIER_CLOSE_OF_WEAK_ENEMY = 20;
+    public static final int PHASE_BOT_BUY_ELEMENTS = 21;
+    public static final int PHASE_BOT_BUY_STRUCTURES = 22;
+    public static final int PHASE_BOT_MOVE_SOLDIERS = 23;
+
+    /**
+     * Names of phases by phase index, used in exports.
+     */
+    public static final String[] PHASE_NAMES = {
+            "skipTurn.statistics", "skipTurn.nextPlayer", "skipTurn.towersEffect", "skipTurn.specialBlocksEffect",
+            "skipTurn.gold", "skipTurn.soldiersMoves", "skipTurn.goldPerTurn", "skipTurn.treeGeneration",
+            "skipTurn.snapshot", "skipTurn.autosave",
+            "bot.updateData", "bot.defendBase", "bot.attackEnemyBases", "bot.retreatToAllie", "bot.mergeAllies",
+            "bot.attackAttackTower", "bot.buySoldierAtFrontier", "bot.conquerAroundBase", "bot.conquerSpecialBlocks",
+            "bot.buySoldierCloseOfTree", "bot.buySoldierCloseOfWeakEnemy", "bot.buyElements", "bot.buyStructures",
+            "bot.moveSoldiers"
+    };
+
+    public static final int TOTAL_PHASES = PHASE_NAMES.length;
+
+    /**
+     * The profiler of games which are not profiled, it measures nothing.
+     */
+    public static final TurnProfiler DISABLED = new TurnProfiler(false);
+
+    private final boolean enabled;
+
+    /**
+     * Measures of the turn in progress.
+     */
+    private final long[] phaseTimes = new long[TOTAL_PHASES];
+    private final int[] phaseCalls = new int[TOTAL_PHASES];
+
+    /**
+     * Measures of all ended turns, in the order they have been played.
+     */
+    private final ArrayList<TurnProfile> turns = new ArrayList<>();
+
+    /**
+     * The path finder read at the end of the last turn and its counters at that time, counters of the turn are the
+     * difference with them.
+     */
+    private PathFinder sampledPathFinder = null;
+    private long sampledSearches = 0;
+    private long sampledExpandedNodes = 0;
+
+    private TurnProfiler(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates an enabled profiler, to give to one game.
+     */
+    public TurnProfiler() {
+        this(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the start time of a phase, to give to {@link #stop(int, long)}.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since the start to the phase in the turn in progress.
+     *
+     * @param phase one of PHASE_*.
+     * @param start the value returned by {@link #start()} before the phase.
+     */
+    public void stop(int phase, long start) {
+        if (enabled) {
+            phaseTimes[phase] += System.nanoTime() - start;
+            phaseCalls[phase]++;
+        }
+    }
+
+    /**
+     * Ends the turn in progress and keeps its measures, the next measures are added to a new turn.
+     *
+     * @param playerId   the id of the player who played the turn.
+     * @param pathFinder the path finder of the game (can be null), its counters give the path searches of the turn.
+     */
+    public void endTurn(int playerId, PathFinder pathFinder) {
+        if (enabled) {
+            long searches = 0;
+            long expandedNodes = 0;
+            if (pathFinder != null) {
+                //the path finder is replaced when a game is loaded, its counters start again from 0
+                if (pathFinder != sampledPathFinder) {
+                    sampledPathFinder = pathFinder;
+                    sampledSearches = 0;
+                    sampledExpandedNodes = 0;
+                }
+                searches = pathFinder.getSearches() - sampledSearches;
+                expandedNodes = pathFinder.getExpandedNodes() - sampledExpandedNodes;
+                sampledSearches = pathFinder.getSearches();
+                sampledExpandedNodes = pathFinder.getExpandedNodes();
+            }
+
+            turns.add(new TurnProfile(turns.size(), playerId, phaseTimes, phaseCalls, searches, expandedNodes));
+            Arrays.fill(phaseTimes, 0);
+            Arrays.fill(phaseCalls, 0);
+        }
+    }
+
+    /**
+     * @return the measures of all ended turns.
+     */
+    public ArrayList<TurnProfile> getTurns() {
+        return new ArrayList<>(turns);
+    }
+
+    /**
+     * @param phase one of PHASE_*.
+     * @return the time in ns spent in the phase during all ended turns.
+     */
+    public long getTotalPhaseTime(int phase) {
+        long total = 0;
+        for (TurnProfile turn : turns) {
+            total += turn.getPhaseTime(phase);
+        }
+        return total;
+    }
+
+    /**
+     * Prints the time in µs of each phase of each turn as CSV separated by semicolons, one line per turn.
+     *
+     * @param output the stream in which lines are printed.
+     */
+    public void printTurnsCsv(PrintStream output) {
+        StringBuilder header = new StringBuilder("turn;player;total_us;path_searches;expanded_nodes");
+        for (String name : PHASE_NAMES) {
+            header.append(';').append(name).append("_us");
+        }
+        output.println(header);
+
+        for (TurnProfile turn : turns) {
+            StringBuilder line = new StringBuilder();
+            line.append(turn.getTurn()).append(';').append(turn.getPlayerId())
+                    .append(';').append(String.format(Locale.ROOT, "%.1f", turn.getTotalTime() / 1000.0))
+                    .append(';').append(turn.getPathSearches()).append(';').append(turn.getExpandedNodes());
+            for (int phase = 0; phase < TOTAL_PHASES; phase++) {
+                line.append(';').append(String.format(Locale.ROOT, "%.1f", turn.getPhaseTime(phase) / 1000.0));
+            }
+            output.println(line);
+        }
+    }
+
+    /**
+     * Prints the phases from the slowest to the fastest, with their total time, amount of calls and slowest turn.
+     *
+     * @param output the stream in which lines are printed.
+     */
+    public void printSummary(PrintStream output) {
+        Integer[] phases = new Integer[TOTAL_PHASES];
+        for (int phase = 0; phase < TOTAL_PHASES; phase++) {
+            phases[phase] = phase;
+        }
+        Arrays.sort(phases, Comparator.comparingLong(this::getTotalPhaseTime).reversed());
+
+        long pathSearches = 0;
+        long expandedNodes = 0;
+        for (TurnProfile turn : turns) {
+            pathSearches += turn.getPathSearches();
+            expandedNodes += turn.getExpandedNodes();
+        }
+        output.println(turns.size() + " turns, " + pathSearches + " path searches, " + expandedNodes + " expanded nodes");
+
+        for (int phase : phases) {
+            long calls = 0;
+            long maxTime = 0;
+            int maxTurn = -1;
+            for (TurnProfile turn : turns) {
+                calls += turn.getPhaseCalls(phase);
+                if (turn.getPhaseTime(phase) > maxTime) {
+                    maxTime = turn.getPhaseTime(phase);
+                    maxTurn = turn.getTurn();
+                }
+            }
+            if (calls > 0) {
+                output.println(String.format(Locale.ROOT, "%-32s %10.1f ms %8d calls   max %8.1f ms (turn %d)",
+                        PHASE_NAMES[phase], getTotalPhaseTime(phase) / 1e6, calls, maxTime / 1e6, maxTurn));
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package engine.process;
+
+import configuration.GameplayConfig;
+import configuration.MapsConfig;
+import data.board.GameMap;
+import engine.datasearch.BlockFinder;
+import engine.util.BatchStatistic;
+import engine.util.GameRandom;
+import log.LoggerUtility;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many games between bots in parallel with {@link GameSimulator}, for every map of
+ * {@link MapsConfig#AVAILABLE_MAPS_LIST}, every difficult level and every amount of bots, and aggregates results of
+ * each configuration in a {@link BatchStatistic}. Games don't share any data, so each game is a fork/join task.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class BatchSimulator {
+
+    private static final Logger logger = LoggerUtility.getLogger(BatchSimulator.class);
+
+    /**
+     * Difficult levels of bots, see {@link data.player.Player#getDifficultLevel()}.
+     */
+    public static final int[] DIFFICULT_LEVELS = {0, 1};
+
+    private final GameMap[] maps;
+
+    private final int gamesPerConfiguration;
+
+    private final int maxTurns;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * The seed from which the seeds of all games are generated, running again a batch with the same seed plays the
+     * same games.
+     */
+    private final long seed;
+
+    /**
+     * @param maps                  the maps on which games are played.
+     * @param gamesPerConfiguration the amount of games played for each map, difficult level and amount of bots.
+     * @param maxTurns              the maximum amount of turns of a game.
+     * @param parallelism           the amount of games played at the same time.
+     * @param seed                  the seed from which the seeds of all games are generated.
+     * @throws IllegalArgumentException when there is no map or an amount is not valid.
+     */
+    public BatchSimulator(GameMap[] maps, int gamesPerConfiguration, int maxTurns, int parallelism, long seed) throws IllegalArgumentException {
+        if (maps == null || maps.length == 0 || gamesPerConfiguration <= 0 || maxTurns <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maps = maps;
+        this.gamesPerConfiguration = gamesPerConfiguration;
+        this.maxTurns = maxTurns;
+        this.pool = new ForkJoinPool(parallelism);
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a batch simulator on all available maps using all cores of the computer.
+     *
+     * @param gamesPerConfiguration the amount of games played for each map, difficult level and amount of bots.
+     * @param maxTurns              the maximum amount of turns of a game.
+     * @param seed                  the seed from which the seeds of all games are generated.
+     */
+    public BatchSimulator(int gamesPerConfiguration, int maxTurns, long seed) throws IllegalArgumentException {
+        this(MapsConfig.AVAILABLE_MAPS_LIST, gamesPerConfiguration, maxTurns, Runtime.getRuntime().availableProcessors(), seed);
+    }
+
+    /**
+     * Plays all games, configurations needing more bots than the amount of spawns of the map are skipped.
+     *
+     * @return the statistic of each configuration.
+     */
+    public ArrayList<BatchStatistic> run() {
+        ArrayList<ForkJoinTask<BatchStatistic>> tasks = new ArrayList<>();
+        GameRandom random = new GameRandom(seed);
+
+        for (GameMap map : maps) {
+            int amountSpawns = countSpawns(map);
+            for (int difficultLevel : DIFFICULT_LEVELS) {
+                for (int amountBots = 2; amountBots <= GameplayConfig.MAX_PLAYERS; amountBots++) {
+                    if (amountBots <= amountSpawns) {
+                        GameSimulator simulator = new GameSimulator(map, amountBots, difficultLevel, maxTurns);
+                        BatchStatistic statistic = new BatchStatistic(map.getTitle(), difficultLevel, amountBots);
+                        tasks.add(pool.submit(new GamesTask(simulator, statistic, gamesPerConfiguration, random.split())));
+                    } else {
+                        logger.warn("Not enough spawns on map : " + map.getTitle() + " to simulate " + amountBots + " bots.");
+                    }
+                }
+            }
+        }
+
+        ArrayList<BatchStatistic> statistics = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<BatchStatistic> task : tasks) {
+            statistics.add(task.join());
+        }
+        return statistics;
+    }
+
+    /**
+     * Stops the threads of this simulator, it can't be run anymore.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static int countSpawns(GameMap map) {
+        GameMap builtMap = new GameMap(map.getTitle(), map.getShapeFilePath(), map.getBackgroundFilePath());
+        MapBuilder.buildMap(builtMap);
+        return new BlockFinder(builtMap).findSpawns().size();
+    }
+
+    /**
+     * Plays an amount of games with a same configuration, split in two tasks until a task plays only one game.
+     * Seeds of games only depend on the generator of the task, not on the order in which tasks are run.
+     */
+    private static class GamesTask extends RecursiveTask<BatchStatistic> {
+
+        private final GameSimulator simulator;
+
+        /**
+         * An empty statistic of the configuration, used as model to create the statistic of this task.
+         */
+        private final BatchStatistic model;
+
+        private final int amountGames;
+
+        private final GameRandom random;
+
+        GamesTask(GameSimulator simulator, BatchStatistic model, int amountGames, GameRandom random) {
+            this.simulator = simulator;
+            this.model = model;
+            this.amountGames = amountGames;
+            this.random = random;
+        }
+
+        @Override
+        protected BatchStatistic compute() {
+            BatchStatistic statistic = new BatchStatistic(model.getMapTitle(), model.getDifficultLevel(), model.getAmountBots());
+            if (amountGames == 1) {
+                statistic.add(simulator.run(random.nextLong()));
+            } else {
+                GamesTask first = new GamesTask(simulator, model, amountGames / 2, random.split());
+                GamesTask second = new GamesTask(simulator, model, amountGames - amountGames / 2, random.split());
+                first.fork();
+                statistic.merge(second.compute());
+                statistic.merge(first.join());
+            }
+            return statistic;
+        }
+    }
+}
@@ -8,6 +8,9 @@ import data.player.Player;
 import engine.datasearch.BlockFinder;
 import engine.datasearch.ElementsFinder;
 import engine.datasearch.GameAnalyzer;
+import engine.monitoring.BotPhaseEvent;
+import engine.monitoring.TurnProfiler;
+import engine.util.GameRandom;
 import engine.util.RandomUtility;
 import log.LoggerUtility;
 import main.game.GameManager;
@@ -37,6 +40,8 @@ public class BotAction {
 
     private final ArrayList<Block> specialBlocks;
 
+    private final GameRandom random;
+
     private Base base;
     private Block baseBlock;
 
@@ -48,6 +53,7 @@ public class BotAction {
             elementsFinder = gameManager.getElementsFinder();
             blockFinder = gameManager.getBlockFinder();
             specialBlocks = blockFinder.findSpecialBlocks();
+            random = gameManager.getRandom();
 
             gameAnalyzer = new GameAnalyzer(gameManager);
 
@@ -130,7 +136,7 @@ public class BotAction {
                 break;
             } else {
                 adjacentBaseBlocks = blockFinder.findEmptyBlocks(adjacentBaseBlocks);
-                RandomUtility.randomizeBlockList(adjacentBaseBlocks);
+                RandomUtility.randomizeBlockList(random, adjacentBaseBlocks);
                 gameManager.buySoldier(bot, adjacentBaseBlocks.get(0));
                 Soldier newSoldier = (Soldier) elementsFinder.findElementOnBlock(adjacentBaseBlocks.get(0));
                 if (newSoldier != null && bot.ownsElement(newSoldier)) {
@@ -256,7 +262,7 @@ public class BotAction {
             adjacentOfTree = blockFinder.findEmptyBlocks(adjacentOfTree);
             adjacentOfTree = blockFinder.findOwnedBlocks(bot, adjacentOfTree, true);
             if (!adjacentOfTree.isEmpty()) {
-                RandomUtility.randomizeBlockList(adjacentOfTree);
+                RandomUtility.randomizeBlockList(random, adjacentOfTree);
                 if (bot.ownsBlock(adjacentOfTree.get(0))) {
                     gameManager.buySoldier(bot, adjacentOfTree.get(0));
                 }
@@ -308,8 +314,8 @@ public class BotAction {
             ArrayList<Block> nearFrontierBlocks = blockFinder.findNearFrontierBlocks(bot);
 
             for (int i = bot.getTotalGold(); i >= GameplayConfig.SOLDIER_PRICE; i -= GameplayConfig.SOLDIER_PRICE) {
-                Block nearFrontierBlock = RandomUtility.getRandomEmptyBlock(nearFrontierBlocks);
-                Block territoryBlock = RandomUtility.getRandomBlock(bot.getOwnedBlocksList());
+                Block nearFrontierBlock = RandomUtility.getRandomEmptyBlock(random, nearFrontierBlocks);
+                Block territoryBlock = RandomUtility.getRandomBlock(random, bot.getOwnedBlocksList());
                 if (nearFrontierBlock != null && nearFrontierBlock.isEmpty()) {
                     gameManager.buySoldier(bot, nearFrontierBlock);
                 } else if (territoryBlock != null && territoryBlock.isEmpty()) {
@@ -322,7 +328,7 @@ public class BotAction {
                 territory = blockFinder.findEmptyBlocks(territory);
                 ArrayList<Block> nearBaseBlockBlocks = blockFinder.findAdjacentBlocks(baseBlock, 7, true);
                 if (!territory.isEmpty() && !nearBaseBlockBlocks.isEmpty()) {
-                    RandomUtility.randomizeBlockList(territory);
+                    RandomUtility.randomizeBlockList(random, territory);
                     for (Block block : territory) {
                         ArrayList<Block> adjacentBlocks = blockFinder.findAdjacentBlocks(block, 2, true);
                         ArrayList<Block> farAdjacentBlocks = blockFinder.findAdjacentBlocks(block, 4, true);
@@ -442,7 +448,7 @@ public class BotAction {
                 break;
             } else if (i == bot.getOwnedElementsList().size() - 1 && bot.getTotalGold() >= GameplayConfig.SOLDIER_PRICE) {
                 ArrayList<Block> nearFrontierBlock = blockFinder.findNearFrontierBlocks(bot);
-                RandomUtility.randomizeBlockList(nearFrontierBlock);
+                RandomUtility.randomizeBlockList(random, nearFrontierBlock);
                 gameManager.buySoldier(bot, nearFrontierBlock.get(0));
                 break;
             }
@@ -453,26 +459,100 @@ public class BotAction {
      * This method evaluates the state of the game to make automatic actions with {@link GameManager}.
      */
     public void runAction() {
-        updateData();
-
-        defendBaseWhenPossible();
-        attackEnemyBasesWhenPossible();
-        retreatToAllieWhenPossible();
-        mergeAlliesWhenFavorable();
-        attackAttackTower();
-
-        buySoldierWhenNoSoldierAtFrontier();
-        allieSystematicAllieConquerBlocksAroundBase();
-        conquerSpecialBlocksWhenFavorable();
-        buySoldierCloseOfTreeWhenPossible();
-        buySoldierCloseOfWeakEnemyWhenPossible();
+        runAction(Long.MAX_VALUE);
+    }
+
+    /**
+     * @param deadline the value of {@link System#nanoTime()} after which no new action is started.
+     * @return true when the deadline is passed.
+     */
+    private boolean isDeadlinePassed(long deadline) {
+        return deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * This method evaluates the state of the game to make automatic actions with {@link GameManager}, actions are
+     * stopped when the time limit is reached (the action in progress is always finished, so the game stays valid).
+     *
+     * @param deadline the value of {@link System#nanoTime()} after which no new action is started,
+     *                 {@link Long#MAX_VALUE} for no time limit.
+     */
+    public void runAction(long deadline) {
+        TurnProfiler profiler = gameManager.getProfiler();
+
+        runPhase(profiler, TurnProfiler.PHASE_BOT_UPDATE_DATA, this::updateData);
+
+        Runnable[] actions = {
+                this::defendBaseWhenPossible,
+                this::attackEnemyBasesWhenPossible,
+                this::retreatToAllieWhenPossible,
+                this::mergeAlliesWhenFavorable,
+                this::attackAttackTower,
+                this::buySoldierWhenNoSoldierAtFrontier,
+                this::allieSystematicAllieConquerBlocksAroundBase,
+                this::conquerSpecialBlocksWhenFavorable,
+                this::buySoldierCloseOfTreeWhenPossible,
+                this::buySoldierCloseOfWeakEnemyWhenPossible
+        };
+        //phases measuring the actions, in the same order
+        int[] actionPhases = {
+                TurnProfiler.PHASE_BOT_DEFEND_BASE,
+                TurnProfiler.PHASE_BOT_ATTACK_ENEMY_BASES,
+                TurnProfiler.PHASE_BOT_RETREAT_TO_ALLIE,
+                TurnProfiler.PHASE_BOT_MERGE_ALLIES,
+                TurnProfiler.PHASE_BOT_ATTACK_ATTACK_TOWER,
+                TurnProfiler.PHASE_BOT_BUY_SOLDIER_AT_FRONTIER,
+                TurnProfiler.PHASE_BOT_CONQUER_AROUND_BASE,
+                TurnProfiler.PHASE_BOT_CONQUER_SPECIAL_BLOCKS,
+                TurnProfiler.PHASE_BOT_BUY_SOLDIER_CLOSE_OF_TREE,
+                TurnProfiler.PHASE_BOT_BUY_SOLDIER_CLOSE_OF_WEAK_ENEMY
+        };
+        for (int i = 0; i < actions.length; i++) {
+            if (isDeadlinePassed(deadline)) {
+                logger.warn("Bot [" + bot.getColorName() + "] turn stopped, time limit reached.");
+                return;
+            }
+            runPhase(profiler, actionPhases[i], actions[i]);
+        }
+
         if (gameManager.getGameStatistic().getSkipTurnCount(bot) < 15) {
-            buyElementWhenFavorable();
+            runPhase(profiler, TurnProfiler.PHASE_BOT_BUY_ELEMENTS, this::buyElementWhenFavorable);
         } else {
-            buyStructuresWhenFavorable();
+            runPhase(profiler, TurnProfiler.PHASE_BOT_BUY_STRUCTURES, this::buyStructuresWhenFavorable);
         }
 
+        runPhase(profiler, TurnProfiler.PHASE_BOT_MOVE_SOLDIERS, () -> moveSoldiers(deadline));
+    }
+
+    /**
+     * Runs a phase of the turn, measured by the profiler of the game and recorded by Java Flight Recorder.
+     *
+     * @param profiler the profiler of the game.
+     * @param phase    one of TurnProfiler PHASE_*.
+     * @param action   the phase to run.
+     */
+    private void runPhase(TurnProfiler profiler, int phase, Runnable action) {
+        BotPhaseEvent event = new BotPhaseEvent();
+        event.begin();
+        long start = profiler.start();
+
+        action.run();
+
+        profiler.stop(phase, start);
+        event.finish(bot.getId(), phase);
+    }
+
+    /**
+     * Moves each soldier of the bot which can move, and buys soldiers to protect weak soldiers and houses.
+     *
+     * @param deadline the value of {@link System#nanoTime()} after which no soldier is moved.
+     */
+    private void moveSoldiers(long deadline) {
         for (Element element : bot.getOwnedElementsList()) {
+            if (isDeadlinePassed(deadline)) {
+                logger.warn("Bot [" + bot.getColorName() + "] turn stopped, time limit reached.");
+                return;
+            }
             if (element instanceof Soldier soldier) {
                 if (soldier.canMove()) {
 
@@ -508,13 +588,13 @@ public class BotAction {
                     if (soldier.canMove()) {
                         Boolean isDangerousBlock;
                         soldierBlock = map.getBlock(soldier.getIndexX(), soldier.getIndexY());
-                        RandomUtility.randomizeBlockList(adjacentBlocks);
+                        RandomUtility.randomizeBlockList(random, adjacentBlocks);
 
                         for (Block block : adjacentBlocks) {
                             if (block.isEmpty() && !bot.ownsBlock(block)) {
                                 isDangerousBlock = false;
                                 ArrayList<Block> adjacentBlocksMovingBlock = blockFinder.findAdjacentBlocks(block, 1, false);
-                                RandomUtility.randomizeBlockList(adjacentBlocksMovingBlock);
+                                RandomUtility.randomizeBlockList(random, adjacentBlocksMovingBlock);
 
                                 for (Block adjacentBlock : adjacentBlocksMovingBlock) {
                                     if (!adjacentBlock.equals(block) && !adjacentBlock.equals(soldierBlock)
@@ -538,7 +618,7 @@ public class BotAction {
                     if (soldier.canMove()) {
                         if (bot.getGoldPerTurn() <= 30 && bot.getTotalOwnedBlocks() <= 60) {
                             ArrayList<Block> nearOutFrontierBlocks = blockFinder.findNearOutFrontierBlocks(bot);
-                            RandomUtility.randomizeBlockList(nearOutFrontierBlocks);
+                            RandomUtility.randomizeBlockList(random, nearOutFrontierBlocks);
                             for (Block block : nearOutFrontierBlocks) {
                                 if (block != null && !block.isRemoved() && !bot.ownsBlock(block)) {
                                     gameManager.moveSoldierToDirection(soldier, block);
@@ -568,7 +648,7 @@ public class BotAction {
                         ArrayList<Block> adjacentBlocksMovingBlock = blockFinder.findPossibleMoveBlocksSoldier(soldier, bot);
                         soldierBlock = map.getBlock(soldier.getIndexX(), soldier.getIndexY());
                         blockFinder.findEmptyBlocks(adjacentBlocksMovingBlock);
-                        RandomUtility.randomizeBlockList(adjacentBlocksMovingBlock);
+                        RandomUtility.randomizeBlockList(random, adjacentBlocksMovingBlock);
 
                         if (!adjacentBlocksMovingBlock.isEmpty() && soldierBlock != null) {
                             gameManager.moveSoldierToBlock(soldierBlock, adjacentBlocksMovingBlock.get(0));
@@ -592,7 +672,7 @@ public class BotAction {
                         closeAdjacentBaseBlock.remove(baseBlock);
                         if (!closeAdjacentBaseBlock.isEmpty()) {
                             blockFinder.findEmptyBlocks(adjacentBlocks);
-                            RandomUtility.randomizeBlockList(adjacentBlocks);
+                            RandomUtility.randomizeBlockList(random, adjacentBlocks);
                             gameManager.moveSoldierToDirection(soldier, closeAdjacentBaseBlock.get(0));
                         }
                     }
@@ -614,7 +694,7 @@ public class BotAction {
                 ArrayList<Block> adjacentSoldierBlock = blockFinder.findAdjacentBlocks(houseBlock, 2, false);
                 if (!elementsFinder.zoneContainsAllieSoldier(bot, adjacentSoldierBlock)) {
                     blockFinder.findEmptyBlocks(adjacentSoldierBlock);
-                    RandomUtility.randomizeBlockList(adjacentSoldierBlock);
+                    RandomUtility.randomizeBlockList(random, adjacentSoldierBlock);
                     if (!adjacentSoldierBlock.isEmpty()) {
                         gameManager.buySoldier(bot, adjacentSoldierBlock.get(0));
                     }
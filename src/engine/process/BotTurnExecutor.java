@@ -0,0 +1,88 @@
+package engine.process;
+
+import engine.util.ThreadUtility;
+import log.LoggerUtility;
+import main.game.GameManager;
+import org.apache.log4j.Logger;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays turns of bots with {@link BotAction} on a dedicated worker thread, so the graphical interface is not frozen
+ * during the turn of a bot.
+ * <p>
+ * Ownership rule : the data of the game ({@link GameManager} and everything reachable from it) belongs to the Swing
+ * event thread, except from the call of {@link #playTurn(Runnable)} until the call of its callback, during which it
+ * belongs to the worker. The display must not read nor modify the game in the meantime, it only paints the last
+ * {@link data.board.BoardSnapshot} published by the game, and a new snapshot is published once the whole turn has
+ * been played.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class BotTurnExecutor {
+
+    private static final Logger logger = LoggerUtility.getLogger(BotTurnExecutor.class);
+
+    private final GameManager gameManager;
+
+    private final BotAction botAction;
+
+    /**
+     * Maximum time in ms a bot can spend to play a turn.
+     */
+    private final long timeBudget;
+
+    /**
+     * At most one worker thread, turns are played one after the other in the order they are submitted.
+     */
+    private final ThreadPoolExecutor worker = ThreadUtility.createSingleWorker("bot-turn-worker");
+
+    /**
+     * @param gameManager the game in which bots play.
+     * @param timeBudget  the maximum time in ms a bot can spend to play a turn.
+     * @throws IllegalArgumentException if gameManager is null or timeBudget is not positive.
+     */
+    public BotTurnExecutor(GameManager gameManager, long timeBudget) throws IllegalArgumentException {
+        if (gameManager == null || timeBudget <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.gameManager = gameManager;
+        this.botAction = new BotAction(gameManager);
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Plays the turn of the current player (which must be a bot) on the worker thread.
+     *
+     * @param onTurnPlayed called on the worker thread when the whole turn has been played, even if it failed.
+     * @return the turn being played.
+     */
+    public Future<?> playTurn(Runnable onTurnPlayed) {
+        return worker.submit(() -> {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget);
+            try {
+                botAction.runAction(deadline);
+            } catch (RuntimeException e) {
+                logger.error("An error occurred during the turn of a bot.", e);
+            } finally {
+                gameManager.publishSnapshot();
+                if (onTurnPlayed != null) {
+                    onTurnPlayed.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops the worker thread after the turn being played and waits for it, so the game is no longer modified by the
+     * worker when this method returns. No turn can be played anymore.
+     */
+    public void shutdown() {
+        //a turn lasts at most the time budget, the bot only checks it between two actions
+        if (!ThreadUtility.shutdownAndWait(worker, 2 * timeBudget)) {
+            logger.warn("The turn of a bot is still being played.");
+        }
+    }
+}
@@ -59,11 +59,7 @@ public class EconomyManager {
                     result -= GameplayConfig.MALUS_GOLD_DEFENSE_TOWER;
                 }
             }
-            for (Block block : player.getOwnedBlocksList()) {
-                if (block.isEmpty()) {
-                    result += 1;
-                }
-            }
+            result += player.getTotalEmptyOwnedBlocks();
             if (player.isBot() && player.getDifficultLevel() == 1) {
                 //Gold multiplier for bot unfair difficult
                 result *= 2;
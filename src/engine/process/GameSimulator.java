@@ -0,0 +1,147 @@
+package engine.process;
+
+import configuration.GameplayConfig;
+import data.board.GameMap;
+import data.player.Player;
+import engine.monitoring.TurnProfiler;
+import engine.util.GameRandom;
+import log.LoggerUtility;
+import main.game.GameManager;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+
+/**
+ * Plays games between bots without graphical interface, turns are played as fast as possible by running
+ * {@link BotAction} then skipping the turn, until a player has won or the turn limit is reached.
+ * The game can run in a headless environment (java.awt.headless=true).
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class GameSimulator {
+
+    private static final Logger logger = LoggerUtility.getLogger(GameSimulator.class);
+
+    /**
+     * The map on which games are played, each game is played on its own copy of the map.
+     */
+    private final GameMap map;
+
+    private final int amountBots;
+
+    private final int difficultLevel;
+
+    /**
+     * The maximum amount of turns (a turn is played by one player) of a game.
+     */
+    private final int maxTurns;
+
+    /**
+     * @param map            the map on which games are played, it is not modified.
+     * @param amountBots     the amount of bots playing, between 2 and {@link GameplayConfig#MAX_PLAYERS}.
+     * @param difficultLevel the difficult level of bots.
+     * @param maxTurns       the maximum amount of turns of a game.
+     * @throws IllegalArgumentException when the map is null or the amount of bots or turns is not valid.
+     */
+    public GameSimulator(GameMap map, int amountBots, int difficultLevel, int maxTurns) throws IllegalArgumentException {
+        if (map == null || amountBots < 2 || amountBots > GameplayConfig.MAX_PLAYERS || maxTurns <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.map = map;
+        this.amountBots = amountBots;
+        this.difficultLevel = difficultLevel;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Creates a new game on a new copy of the map.
+     *
+     * @param seed the seed of the random generator of the game.
+     * @return the game ready for its first turn.
+     */
+    public GameManager createGame(long seed) {
+        GameMap gameMap = new GameMap(map.getTitle(), map.getShapeFilePath(), map.getBackgroundFilePath());
+        MapBuilder.buildMap(gameMap);
+
+        PlayersManager playersManager = new PlayersManager(gameMap, new GameRandom(seed));
+        for (int i = 0; i < amountBots; i++) {
+            playersManager.addNewBotToQueue();
+        }
+        playersManager.randomizePlayerQueue();
+
+        GameManager gameManager = new GameManager(gameMap, playersManager);
+        for (Player player : playersManager.getPlayerList()) {
+            player.setDifficultLevel(difficultLevel);
+        }
+        return gameManager;
+    }
+
+    /**
+     * Plays a whole game with a seed depending on the current time.
+     *
+     * @return the final state of the game.
+     */
+    public SimulationResult run() {
+        return run(new GameRandom().nextLong());
+    }
+
+    /**
+     * Plays a whole game, games played with the same seed are identical.
+     *
+     * @param seed the seed of the random generator of the game.
+     * @return the final state of the game.
+     */
+    public SimulationResult run(long seed) {
+        return run(seed, TurnProfiler.DISABLED);
+    }
+
+    /**
+     * Plays a whole game, games played with the same seed are identical.
+     *
+     * @param seed     the seed of the random generator of the game.
+     * @param profiler measures the phases of each turn of the game, {@link TurnProfiler#DISABLED} to measure nothing.
+     * @return the final state of the game.
+     */
+    public SimulationResult run(long seed, TurnProfiler profiler) {
+        GameManager gameManager = createGame(seed);
+        gameManager.setProfiler(profiler);
+        PlayersManager playersManager = gameManager.getPlayersManager();
+        BotAction botAction = new BotAction(gameManager);
+        ArrayList<Player> initialTurnOrder = playersManager.getPlayerList();
+
+        long[] turnDurations = new long[maxTurns];
+        int botErrors = 0;
+        int turn = 0;
+
+        while (turn < maxTurns && !playersManager.playerHasWin()) {
+            long start = System.nanoTime();
+            try {
+                botAction.runAction();
+            } catch (RuntimeException e) {
+                botErrors++;
+                logger.error("Bot action failed during simulation on map : " + gameManager.getMap().getTitle() + ".", e);
+            }
+            gameManager.skipTurn();
+            turnDurations[turn] = System.nanoTime() - start;
+            turn++;
+        }
+
+        Player winner = null;
+        int winnerTurnOrder = -1;
+        if (playersManager.playerHasWin()) {
+            for (int i = 0; i < initialTurnOrder.size(); i++) {
+                if (!initialTurnOrder.get(i).hasLost()) {
+                    winner = initialTurnOrder.get(i);
+                    winnerTurnOrder = i;
+                }
+            }
+        }
+
+        logger.info("Simulation ended after " + turn + " turns on map : " + gameManager.getMap().getTitle()
+                + (winner != null ? ", winner : " + winner.getColorName() : ", no winner") + ".");
+
+        long[] playedTurnDurations = new long[turn];
+        System.arraycopy(turnDurations, 0, playedTurnDurations, 0, turn);
+        return new SimulationResult(gameManager, turn, winner, winnerTurnOrder, botErrors, playedTurnDurations);
+    }
+}
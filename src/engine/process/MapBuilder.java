@@ -1,9 +1,9 @@
 package engine.process;
 
 import configuration.DevConfig;
-import configuration.IHMConfig;
 import configuration.MapsConfig;
 import data.board.Block;
+import data.board.BoardStore;
 import data.board.GameMap;
 import engine.exception.InvalidMapFileException;
 import log.LoggerUtility;
@@ -105,18 +105,14 @@ public class MapBuilder {
     public static void buildRectMap(GameMap map, int totalColumns, int totalLines) {
 
         if (map != null) {
-            int y, x;
             int totalBlocksAvailable = 0;
 
             Block[][] blocks = new Block[totalColumns][totalLines];
-            y = IHMConfig.BLOCK_SIZE;
+            BoardStore board = new BoardStore(totalColumns, totalLines);
 
             for (int indexY = 0; indexY < totalLines; indexY++) {
-
-                x = IHMConfig.BLOCK_SIZE;
-
                 for (int indexX = 0; indexX < totalColumns; indexX++) {
-                    blocks[indexX][indexY] = new Block(x, y);
+                    blocks[indexX][indexY] = new Block(board, indexX, indexY);
 
                     if (indexY == 0) {
                         blocks[indexX][indexY].remove();
@@ -131,12 +127,9 @@ public class MapBuilder {
                     } else {
                         totalBlocksAvailable++;
                     }
-
-                    x += IHMConfig.BLOCK_SIZE;
                 }
-                y += IHMConfig.BLOCK_SIZE;
             }
-            map.setBlocks(blocks);
+            map.setBoard(board, blocks);
             map.setTotalBlocks(totalBlocksAvailable);
             logger.info("Rectangle map built successfully.");
         }
@@ -161,7 +154,6 @@ public class MapBuilder {
 
         if (map != null) {
             try {
-                int x, y;
                 int totalColumns, totalLines, totalBlocksAvailable;
                 char[][] characters = parseMapShapeFile(map.getShapeFilePath());
 
@@ -171,16 +163,12 @@ public class MapBuilder {
                 totalColumns = characters.length;
 
                 Block[][] blocks = new Block[totalColumns][totalLines];
-
-                y = IHMConfig.BLOCK_SIZE;
+                BoardStore board = new BoardStore(totalColumns, totalLines);
 
                 for (int indexY = 0; indexY < totalLines; indexY++) {
-
-                    x = IHMConfig.BLOCK_SIZE;
-
                     for (int indexX = 0; indexX < totalColumns; indexX++) {
 
-                        Block block = new Block(x, y);
+                        Block block = new Block(board, indexX, indexY);
                         char character = characters[indexX][indexY];
 
                         if (character == BLOCK_CHAR) {
@@ -204,12 +192,10 @@ public class MapBuilder {
                         }
 
                         blocks[indexX][indexY] = block;
-                        x += IHMConfig.BLOCK_SIZE;
                     }
-                    y += IHMConfig.BLOCK_SIZE;
                 }
 
-                map.setBlocks(blocks);
+                map.setBoard(board, blocks);
                 map.setTotalBlocks(totalBlocksAvailable);
 
             } catch (InvalidMapFileException e) {
@@ -12,14 +12,15 @@ import data.player.PlayerColor;
 import engine.datasearch.BlockFinder;
 import engine.exception.NotEnoughPlayerColorsException;
 import engine.exception.NotEnoughSpawnsException;
+import engine.util.GameRandom;
 import engine.util.RandomUtility;
 import log.LoggerUtility;
 import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -41,6 +42,11 @@ public class PlayersManager implements Serializable {
      */
     private Queue<Player> playerQueue = new LinkedList<>();
 
+    /**
+     * All players initialized in the game, the index of a player is its id.
+     */
+    private final ArrayList<Player> playersById = new ArrayList<>();
+
     /**
      * The {@link GameMap} on which players will spawn.
      */
@@ -51,17 +57,38 @@ public class PlayersManager implements Serializable {
      */
     private final ArrayList<Block> availableSpawns;
 
+    /**
+     * The random generator of the game, used for all random actions of the game.
+     */
+    private final GameRandom random;
+
     /**
      * Constructs new PlayerManager with empty {@link Player} Queue and getting spawns of given map.
      *
-     * @param map The {@link GameMap} on which players will spawn.
+     * @param map    The {@link GameMap} on which players will spawn.
+     * @param random The random generator of the game, a game created with the same seed can be replayed.
+     * @throws IllegalArgumentException if random is null.
      */
-    public PlayersManager(GameMap map) {
+    public PlayersManager(GameMap map, GameRandom random) throws IllegalArgumentException {
+        if (random == null) {
+            throw new IllegalArgumentException();
+        }
         this.map = map;
+        this.random = random;
         BlockFinder blockFinder = new BlockFinder(map);
         availableSpawns = blockFinder.findSpawns();
     }
 
+    /**
+     * Constructs new PlayerManager with empty {@link Player} Queue and getting spawns of given map,
+     * the random generator of the game gets a seed depending on the current time.
+     *
+     * @param map The {@link GameMap} on which players will spawn.
+     */
+    public PlayersManager(GameMap map) {
+        this(map, new GameRandom());
+    }
+
     /**
      * Recursive method that switches to the next player's turn.
      *
@@ -214,12 +241,13 @@ public class PlayersManager implements Serializable {
      */
     private Player initPlayer(PlayerColor color, Boolean isBot) {
         //for getting a random spawn block
-        int randomInt = RandomUtility.getRandom(0, availableSpawns.size() - 1);
+        int randomInt = RandomUtility.getRandom(random, 0, availableSpawns.size() - 1);
 
         //init player's Base
         Base base = new Base(availableSpawns.get(randomInt).getX(), availableSpawns.get(randomInt).getY());
         Block baseBlock = map.getBlock(base.getIndexX(), base.getIndexY());
-        Player player = new Player(baseBlock, color, isBot);
+        Player player = new Player(playersById.size(), baseBlock, color, isBot);
+        playersById.add(player);
         baseBlock.setOccupied();
         baseBlock.setAsNotSpawn();
         player.addOwnedElement(base);
@@ -231,19 +259,55 @@ public class PlayersManager implements Serializable {
         //add apparition blocks around the player's Base
         BlockFinder blockFinder = new BlockFinder(map);
         for (Block block : blockFinder.findAdjacentBlocks(baseBlock, true)) {
-            player.addOwnedBlock(block);
+            //blocks already in the territory of another player are not shared
+            if (getPlayerOwnsBlock(block) == null) {
+                player.addOwnedBlock(block);
+            }
         }
 
         return player;
     }
 
+    /**
+     * Replaces all players of the game, used to restore players of a saved game.
+     * Restored players must have been created with ids from 0 to the amount of players (exclusive).
+     *
+     * @param players the players in the order in which they take turns, the first one is the current player.
+     * @throws IllegalArgumentException if players is null, or when the ids of players don't match their amount.
+     */
+    public void restorePlayers(ArrayList<Player> players) throws IllegalArgumentException {
+        if (players == null || players.size() > GameplayConfig.MAX_PLAYERS) {
+            throw new IllegalArgumentException();
+        }
+        Player[] byId = new Player[players.size()];
+        for (Player player : players) {
+            if (player == null || player.getId() >= byId.length || byId[player.getId()] != null) {
+                throw new IllegalArgumentException("Restored players must have distinct ids from 0 to " + players.size() + ".");
+            }
+            byId[player.getId()] = player;
+        }
+
+        playersById.clear();
+        playersById.addAll(List.of(byId));
+        playerQueue = new LinkedList<>(players);
+
+        playerCount = 0;
+        for (Player player : players) {
+            if (!player.hasLost()) {
+                playerCount++;
+            }
+            //spawns of restored bases are not available anymore
+            availableSpawns.remove(player.getBaseBlock());
+        }
+    }
+
     /**
      * Randomizes the order of {@link Player} in the queue.
      */
     public void randomizePlayerQueue() {
         //randomizing the queue
         ArrayList<Player> playerList = getPlayerList();
-        Collections.shuffle(playerList);
+        RandomUtility.shuffle(random, playerList);
         playerQueue = new LinkedList<>(playerList);
 
         //allow to play only player at head
@@ -347,26 +411,35 @@ public class PlayersManager implements Serializable {
         return new ArrayList<>(playerQueue);
     }
 
+    public GameRandom getRandom() {
+        return random;
+    }
+
     public Player getCurrentPlayer() {
         return playerQueue.peek();
     }
 
     public Player getPlayerOwnsElement(Element element) {
         if (element != null) {
-            for (Player player : playerQueue) {
-                if (player.ownsElement(element)) {
-                    return player;
-                }
-            }
+            return getPlayerById(element.getOwnerId());
         }
         return null;
     }
 
     public Player getPlayerOwnsBlock(Block block) {
-        for (Player player : getPlayerList()) {
-            if (player.ownsBlock(block)) {
-                return player;
-            }
+        if (block != null) {
+            return getPlayerById(block.getOwnerId());
+        }
+        return null;
+    }
+
+    /**
+     * @param id the id of the player, see {@link Player#getId()}.
+     * @return the player with this id, or null if no player has this id.
+     */
+    public Player getPlayerById(int id) {
+        if (id >= 0 && id < playersById.size()) {
+            return playersById.get(id);
         }
         return null;
     }
@@ -456,11 +529,6 @@ public class PlayersManager implements Serializable {
     }
 
     public Boolean isOwnedByPlayer(Element element) {
-        for (Player player : playerQueue) {
-            if (player.ownsElement(element)) {
-                return true;
-            }
-        }
-        return false;
+        return getPlayerOwnsElement(element) != null;
     }
 }
@@ -0,0 +1,210 @@
+package engine.process;
+
+import data.board.Block;
+import data.board.BoardStore;
+import data.board.GameMap;
+import data.element.Element;
+import data.player.Player;
+import engine.util.GameJournal;
+import engine.util.GameJournalReader;
+import engine.util.GameSerializer;
+import log.LoggerUtility;
+import main.game.GameManager;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+/**
+ * Rebuilds the state of a journaled game at any turn, by applying the records of a {@link GameJournal} to the state
+ * written in its header. The bots are not run again and nothing is displayed : moves and purchases are applied directly
+ * on a {@link GameManager}, turns are skipped with the recorded trees instead of the random generator (so the seed of
+ * the game is the one of the initial state, but its draws are never needed).
+ * <p>
+ * The whole journal is replayed once when the engine is created, a keyframe (the game captured by
+ * {@link GameSerializer#captureGame(GameManager)}) is kept every keyframe period turns. Seeking a turn reads the nearest
+ * previous keyframe then applies at most a keyframe period of turns, so any turn of a long game is rebuilt in a few
+ * milliseconds.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class ReplayEngine {
+
+    private static final Logger logger = LoggerUtility.getLogger(ReplayEngine.class);
+
+    public static final int DEFAULT_KEYFRAME_PERIOD = 25;
+
+    private final GameJournalReader reader;
+
+    private final int keyframePeriod;
+
+    /**
+     * The game at the first turn of the journal, then every keyframe period turns.
+     */
+    private final ArrayList<ByteBuffer> keyframes = new ArrayList<>();
+
+    /**
+     * Index of the first record applied after each keyframe.
+     */
+    private final ArrayList<Integer> keyframeRecords = new ArrayList<>();
+
+    private final int firstTurn;
+
+    private final int lastTurn;
+
+    /**
+     * Amount of soldier actions whose result differs from the journal, counted when the engine is created.
+     */
+    private int divergentRecords = 0;
+
+    /**
+     * @param reader the journal of the game.
+     * @throws IOException              if the initial state of the journal can't be read.
+     * @throws IllegalArgumentException if reader is null.
+     */
+    public ReplayEngine(GameJournalReader reader) throws IOException, IllegalArgumentException {
+        this(reader, DEFAULT_KEYFRAME_PERIOD);
+    }
+
+    /**
+     * @param reader         the journal of the game.
+     * @param keyframePeriod the amount of turns between two keyframes.
+     * @throws IOException              if the initial state of the journal can't be read.
+     * @throws IllegalArgumentException if reader is null or keyframePeriod is lower than 1.
+     */
+    public ReplayEngine(GameJournalReader reader, int keyframePeriod) throws IOException, IllegalArgumentException {
+        if (reader == null || keyframePeriod < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.reader = reader;
+        this.keyframePeriod = keyframePeriod;
+
+        ByteBuffer initialState = reader.getInitialState();
+        GameManager gameManager = GameSerializer.readGameManager(initialState);
+        firstTurn = gameManager.getTurn();
+        keyframes.add(initialState);
+        keyframeRecords.add(0);
+
+        int index = 0;
+        while (index < reader.getRecordCount()) {
+            int targetTurn = gameManager.getTurn() + keyframePeriod;
+            index = applyRecords(gameManager, index, targetTurn, true);
+
+            if (gameManager.getTurn() == targetTurn && index < reader.getRecordCount()) {
+                keyframes.add(GameSerializer.captureGame(gameManager));
+                keyframeRecords.add(index);
+            }
+        }
+        lastTurn = gameManager.getTurn();
+
+        if (divergentRecords > 0) {
+            logger.warn(divergentRecords + " records of the journal can't be replayed exactly.");
+        }
+    }
+
+    /**
+     * Rebuilds the game at the beginning of a turn, when the previous turns are skipped.
+     *
+     * @param turn the turn, between the first and the last turn of the journal.
+     * @return a new game manager, which can be modified without changing the replay.
+     * @throws IOException              if a keyframe can't be read.
+     * @throws IllegalArgumentException if turn is not in the journal.
+     */
+    public GameManager seek(int turn) throws IOException, IllegalArgumentException {
+        if (turn < firstTurn || turn > lastTurn) {
+            throw new IllegalArgumentException("Turn " + turn + " is not in the journal.");
+        }
+        int keyframe = Math.min((turn - firstTurn) / keyframePeriod, keyframes.size() - 1);
+
+        GameManager gameManager = GameSerializer.readGameManager(keyframes.get(keyframe));
+        applyRecords(gameManager, keyframeRecords.get(keyframe), turn, false);
+        return gameManager;
+    }
+
+    /**
+     * Applies the records of the journal to a game until a turn is reached.
+     *
+     * @param gameManager the game at the turn of the first record.
+     * @param index       the index of the first record to apply.
+     * @param targetTurn  the turn at which the replay stops.
+     * @param verify      true to compare the result of each soldier action with the journal.
+     * @return the index of the first record which is not applied.
+     */
+    private int applyRecords(GameManager gameManager, int index, int targetTurn, boolean verify) {
+        GameMap map = gameManager.getMap();
+        PlayersManager playersManager = gameManager.getPlayersManager();
+        ArrayList<Block> forestTreeBlocks = new ArrayList<>();
+
+        while (index < reader.getRecordCount() && gameManager.getTurn() < targetTurn) {
+            byte type = reader.getType(index);
+            Block block = map.getBlockByCell(reader.getCell(index));
+
+            if (type == GameJournal.RECORD_MOVE || type == GameJournal.RECORD_MERGE
+                    || type == GameJournal.RECORD_ATTACK_SOLDIER || type == GameJournal.RECORD_ATTACK_STRUCTURE) {
+                Block targetBlock = map.getBlockByCell(reader.getTargetCell(index));
+                gameManager.moveSoldierToBlock(block, targetBlock);
+                if (verify) {
+                    //the journal keeps the health of the element on the target block after the action
+                    Element element = gameManager.getElementsFinder().findElementOnBlock(targetBlock);
+                    int healthPoint = element != null ? element.getHealthPoint() : 0;
+                    if (Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, healthPoint)) != reader.getValue(index)) {
+                        divergentRecords++;
+                    }
+                }
+
+            } else if (type == GameJournal.RECORD_BUY) {
+                Player player = playersManager.getPlayerById(reader.getPlayerId(index));
+                int occupant = reader.getValue(index);
+                if (occupant == BoardStore.OCCUPANT_SOLDIER) {
+                    gameManager.buySoldier(player, block);
+                } else if (occupant == BoardStore.OCCUPANT_HOUSE) {
+                    gameManager.buyHouse(player, block);
+                } else if (occupant == BoardStore.OCCUPANT_ATTACK_TOWER) {
+                    gameManager.buyAttackTower(player, block);
+                } else if (occupant == BoardStore.OCCUPANT_DEFENSE_TOWER) {
+                    gameManager.buyDefenseTower(player, block);
+                }
+
+            } else if (type == GameJournal.RECORD_TREE_SPAWN) {
+                forestTreeBlocks.add(block);
+
+            } else if (type == GameJournal.RECORD_TURN) {
+                gameManager.skipTurn(forestTreeBlocks);
+                forestTreeBlocks.clear();
+            }
+            //tower effects are performed again when the turns are skipped
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * @return the turn of the game when the journal started.
+     */
+    public int getFirstTurn() {
+        return firstTurn;
+    }
+
+    /**
+     * @return the turn after the last skipped turn of the journal.
+     */
+    public int getLastTurn() {
+        return lastTurn;
+    }
+
+    public int getKeyframePeriod() {
+        return keyframePeriod;
+    }
+
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    /**
+     * @return the amount of soldier actions whose result differs from the journal, 0 when the game is replayed exactly.
+     */
+    public int getDivergentRecords() {
+        return divergentRecords;
+    }
+}
@@ -0,0 +1,114 @@
+package engine.process;
+
+import data.player.Player;
+import engine.util.GameStatistic;
+import main.game.GameManager;
+
+import java.util.ArrayList;
+
+/**
+ * Data class keeping in memory the final state of a game played by {@link GameSimulator}.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class SimulationResult {
+
+    /**
+     * The game at the end of the simulation.
+     */
+    private final GameManager gameManager;
+
+    /**
+     * The amount of turns played (a turn is played by one player).
+     */
+    private final int totalTurns;
+
+    /**
+     * The only player who has not lost, null when the turn limit has been reached before.
+     */
+    private final Player winner;
+
+    /**
+     * The position of the winner in the player queue at the start of the game (0 for the first player to play),
+     * -1 when there is no winner.
+     */
+    private final int winnerTurnOrder;
+
+    /**
+     * The amount of {@link BotAction} that failed with an exception, the game continues after a failure.
+     */
+    private final int botErrors;
+
+    /**
+     * Duration of each turn in nanoseconds (bot actions and skip turn).
+     */
+    private final long[] turnDurations;
+
+    public SimulationResult(GameManager gameManager, int totalTurns, Player winner, int winnerTurnOrder, int botErrors,
+                            long[] turnDurations) {
+        this.gameManager = gameManager;
+        this.totalTurns = totalTurns;
+        this.winner = winner;
+        this.winnerTurnOrder = winnerTurnOrder;
+        this.botErrors = botErrors;
+        this.turnDurations = turnDurations;
+    }
+
+    public GameManager getGameManager() {
+        return gameManager;
+    }
+
+    public ArrayList<Player> getPlayers() {
+        return gameManager.getPlayersManager().getPlayerList();
+    }
+
+    public GameStatistic getGameStatistic() {
+        return gameManager.getGameStatistic();
+    }
+
+    public String getMapTitle() {
+        return gameManager.getMap().getTitle();
+    }
+
+    /**
+     * @return the seed of the game, giving it to {@link GameSimulator#run(long)} replays the same game.
+     */
+    public long getSeed() {
+        return gameManager.getRandom().getSeed();
+    }
+
+    public int getTotalTurns() {
+        return totalTurns;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public int getWinnerTurnOrder() {
+        return winnerTurnOrder;
+    }
+
+    public Boolean hasWinner() {
+        return winner != null;
+    }
+
+    public int getBotErrors() {
+        return botErrors;
+    }
+
+    public long[] getTurnDurations() {
+        return turnDurations.clone();
+    }
+
+    /**
+     * @return the total duration of the game in nanoseconds.
+     */
+    public long getTotalDuration() {
+        long total = 0;
+        for (long duration : turnDurations) {
+            total += duration;
+        }
+        return total;
+    }
+}
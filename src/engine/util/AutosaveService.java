@@ -0,0 +1,135 @@
+package engine.util;
+
+import log.LoggerUtility;
+import main.game.GameManager;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Saves a game periodically without slowing down the game : at the end of a turn the game is only copied in memory
+ * with {@link GameSerializer#captureGame(GameManager)}, the copy is written on a dedicated worker thread with
+ * {@link GameSerializer#writeSave(String, ByteBuffer)}, so the saved file is never partially written.
+ * <p>
+ * When a save is requested while the previous one is still waiting to be written, only the most recent copy is written.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class AutosaveService {
+
+    private static final Logger logger = LoggerUtility.getLogger(AutosaveService.class);
+
+    /**
+     * Maximum time in ms to wait for the last save when the service is stopped.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 10000;
+
+    /**
+     * The saved game file path.
+     */
+    private final String path;
+
+    /**
+     * Amount of skipped turns between two saves.
+     */
+    private final int turnsBetweenSaves;
+
+    private int turnsSinceLastSave = 0;
+
+    /**
+     * The last copy of the game not written yet, null when every copy has been written.
+     */
+    private final AtomicReference<ByteBuffer> pendingSave = new AtomicReference<>();
+
+    /**
+     * The last writing submitted to the worker, it writes the pending copy if it has not started yet.
+     */
+    private CompletableFuture<Boolean> lastWriting = null;
+
+    /**
+     * At most one worker thread, saves are written one after the other.
+     */
+    private final ThreadPoolExecutor worker = ThreadUtility.createSingleWorker("autosave-worker");
+
+    /**
+     * @param path              the saved game file path.
+     * @param turnsBetweenSaves the amount of skipped turns between two saves.
+     * @throws IllegalArgumentException if path is null or turnsBetweenSaves is not positive.
+     */
+    public AutosaveService(String path, int turnsBetweenSaves) throws IllegalArgumentException {
+        if (path == null || turnsBetweenSaves <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.path = path;
+        this.turnsBetweenSaves = turnsBetweenSaves;
+    }
+
+    /**
+     * Saves the game once every turnsBetweenSaves calls. Must be called by the thread which modifies the game, at the
+     * end of a turn.
+     *
+     * @param gameManager the game to save.
+     */
+    public void turnSkipped(GameManager gameManager) {
+        turnsSinceLastSave++;
+        if (turnsSinceLastSave >= turnsBetweenSaves) {
+            save(gameManager);
+        }
+    }
+
+    /**
+     * Copies the game then writes the copy on the worker thread. Must be called by the thread which modifies the game.
+     *
+     * @param gameManager the game to save.
+     * @return the writing of the copy, completed with true when the copy has been written and false when the file can't
+     * be written, null when the game can't be copied.
+     */
+    public CompletableFuture<Boolean> save(GameManager gameManager) {
+        turnsSinceLastSave = 0;
+        try {
+            //a copy still waiting to be written is replaced, the writing already submitted writes the new copy
+            if (pendingSave.getAndSet(GameSerializer.captureGame(gameManager)) == null) {
+                lastWriting = CompletableFuture.supplyAsync(this::writePendingSave, worker);
+            }
+            return lastWriting;
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to copy the game to save it.");
+        } catch (RejectedExecutionException e) {
+            pendingSave.set(null);
+            logger.warn("Attempt to save a game after the autosave has been stopped.");
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the pending copy has been written (or if there was none), false if it can't be written.
+     */
+    private boolean writePendingSave() {
+        ByteBuffer saved = pendingSave.getAndSet(null);
+        if (saved != null) {
+            try {
+                GameSerializer.writeSave(path, saved);
+                logger.info("Game successfully saved in " + path + " .");
+            } catch (IOException e) {
+                logger.warn("Failed to save game.");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops the worker thread after the saves waiting to be written and waits for them, so no save of this service is
+     * written after another one starts writing the same file. No game can be saved anymore.
+     */
+    public void shutdown() {
+        if (!ThreadUtility.shutdownAndWait(worker, SHUTDOWN_TIMEOUT)) {
+            logger.warn("The last save in " + path + " is still being written.");
+        }
+    }
+}
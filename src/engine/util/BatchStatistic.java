@@ -0,0 +1,201 @@
+package engine.util;
+
+import configuration.GameplayConfig;
+import engine.process.SimulationResult;
+
+import java.util.Locale;
+
+/**
+ * This class allows to aggregate results of several games played by bots with the same configuration
+ * (map, difficult level and amount of bots) : win rates, game lengths and histogram of turn durations.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class BatchStatistic {
+
+    /**
+     * Amount of buckets of the turn durations histogram, bucket i counts turns that lasted less than 2^i microseconds
+     * (and at least 2^(i-1)), the last bucket counts all longer turns.
+     */
+    public static final int HISTOGRAM_BUCKETS = 20;
+
+    private final String mapTitle;
+
+    private final int difficultLevel;
+
+    private final int amountBots;
+
+    private int games = 0;
+
+    /**
+     * Amount of games won by each position in the player queue at the start of the game.
+     */
+    private final int[] winsByTurnOrder = new int[GameplayConfig.MAX_PLAYERS];
+
+    /**
+     * Amount of games ended by the turn limit.
+     */
+    private int gamesWithoutWinner = 0;
+
+    private long totalTurns = 0;
+
+    private int minTurns = Integer.MAX_VALUE;
+
+    private int maxTurns = 0;
+
+    private int botErrors = 0;
+
+    private long totalDuration = 0;
+
+    private final long[] turnDurationsHistogram = new long[HISTOGRAM_BUCKETS];
+
+    public BatchStatistic(String mapTitle, int difficultLevel, int amountBots) {
+        this.mapTitle = mapTitle;
+        this.difficultLevel = difficultLevel;
+        this.amountBots = amountBots;
+    }
+
+    /**
+     * Adds the result of a game to this statistic.
+     *
+     * @param result the result of a game played with the configuration of this statistic.
+     */
+    public void add(SimulationResult result) {
+        if (result != null) {
+            games++;
+            if (result.hasWinner()) {
+                winsByTurnOrder[result.getWinnerTurnOrder()]++;
+            } else {
+                gamesWithoutWinner++;
+            }
+            totalTurns += result.getTotalTurns();
+            minTurns = Math.min(minTurns, result.getTotalTurns());
+            maxTurns = Math.max(maxTurns, result.getTotalTurns());
+            botErrors += result.getBotErrors();
+            for (long duration : result.getTurnDurations()) {
+                totalDuration += duration;
+                turnDurationsHistogram[toHistogramBucket(duration)]++;
+            }
+        }
+    }
+
+    /**
+     * Adds all games of another statistic of the same configuration to this statistic.
+     *
+     * @param other the statistic to merge in this one.
+     */
+    public void merge(BatchStatistic other) {
+        if (other != null) {
+            games += other.games;
+            for (int i = 0; i < winsByTurnOrder.length; i++) {
+                winsByTurnOrder[i] += other.winsByTurnOrder[i];
+            }
+            gamesWithoutWinner += other.gamesWithoutWinner;
+            totalTurns += other.totalTurns;
+            minTurns = Math.min(minTurns, other.minTurns);
+            maxTurns = Math.max(maxTurns, other.maxTurns);
+            botErrors += other.botErrors;
+            totalDuration += other.totalDuration;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                turnDurationsHistogram[i] += other.turnDurationsHistogram[i];
+            }
+        }
+    }
+
+    private static int toHistogramBucket(long durationNanos) {
+        long micros = durationNanos / 1000;
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+    /**
+     * @param turnOrder position in the player queue at the start of the game.
+     * @return the rate of games won by the player at this position (between 0 and 1).
+     */
+    public double getWinRate(int turnOrder) {
+        return games == 0 ? 0 : (double) winsByTurnOrder[turnOrder] / games;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * @return the average duration of a turn in microseconds.
+     */
+    public double getAverageTurnDuration() {
+        return totalTurns == 0 ? 0 : totalDuration / 1000.0 / totalTurns;
+    }
+
+    /**
+     * @return the header of the CSV lines returned by {@link #toCsvLine()}.
+     */
+    public static String csvHeader() {
+        StringBuilder header = new StringBuilder("map;difficult_level;bots;games;no_winner");
+        for (int i = 0; i < GameplayConfig.MAX_PLAYERS; i++) {
+            header.append(";win_rate_").append(i + 1);
+        }
+        header.append(";avg_turns;min_turns;max_turns;bot_errors;avg_turn_us");
+        for (int i = 0; i < HISTOGRAM_BUCKETS - 1; i++) {
+            header.append(";turns_lt_").append(1L << i).append("us");
+        }
+        header.append(";turns_ge_").append(1L << (HISTOGRAM_BUCKETS - 2)).append("us");
+        return header.toString();
+    }
+
+    /**
+     * @return this statistic as a CSV line (separated by semicolons).
+     */
+    public String toCsvLine() {
+        StringBuilder line = new StringBuilder();
+        line.append(mapTitle).append(';').append(difficultLevel).append(';').append(amountBots)
+                .append(';').append(games).append(';').append(gamesWithoutWinner);
+        for (int i = 0; i < GameplayConfig.MAX_PLAYERS; i++) {
+            line.append(';').append(String.format(Locale.ROOT, "%.3f", getWinRate(i)));
+        }
+        line.append(';').append(String.format(Locale.ROOT, "%.1f", getAverageTurns()))
+                .append(';').append(games == 0 ? 0 : minTurns).append(';').append(maxTurns)
+                .append(';').append(botErrors)
+                .append(';').append(String.format(Locale.ROOT, "%.1f", getAverageTurnDuration()));
+        for (long count : turnDurationsHistogram) {
+            line.append(';').append(count);
+        }
+        return line.toString();
+    }
+
+    public String getMapTitle() {
+        return mapTitle;
+    }
+
+    public int getDifficultLevel() {
+        return difficultLevel;
+    }
+
+    public int getAmountBots() {
+        return amountBots;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getGamesWithoutWinner() {
+        return gamesWithoutWinner;
+    }
+
+    public int getMinTurns() {
+        return minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public int getBotErrors() {
+        return botErrors;
+    }
+
+    public long[] getTurnDurationsHistogram() {
+        return turnDurationsHistogram.clone();
+    }
+}
@@ -31,4 +31,13 @@ public class ConversionUtility {
         return (((int) pixel) / IHMConfig.BLOCK_SIZE) - 1;
     }
 
+    /**
+     * Takes an index value of a block and returns its corresponding pixel position.
+     *
+     * @param index the index of the block in array.
+     * @return the position in pixel.
+     */
+    public static int IndexToPixel(int index) {
+        return (index + 1) * IHMConfig.BLOCK_SIZE;
+    }
 }
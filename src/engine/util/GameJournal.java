@@ -0,0 +1,207 @@
+package engine.util;
+
+import log.LoggerUtility;
+import main.game.GameManager;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only binary journal of every change of a game, written by {@link GameManager} while the game is played.
+ * <p>
+ * The file starts with a header : {@link #MAGIC_NUMBER}, format version, size of a record, then the size and the
+ * content of the state of the game when the journal started (written by {@link GameSerializer#captureGame(GameManager)}).
+ * It is followed by records of RECORD_SIZE bytes : type, player id, value, turn, cell and target cell.
+ * <ul>
+ *     <li>MOVE, MERGE, ATTACK_SOLDIER, ATTACK_STRUCTURE : a soldier played from the cell to the target cell, the value
+ *     is the health of the element on the target cell after the action (0 when there is none).</li>
+ *     <li>BUY : an element bought on the cell, the value is its occupant code (see {@link data.board.BoardStore}).</li>
+ *     <li>TOWER_EFFECT : a tower on the cell changed the health of the soldier on the target cell to the value.</li>
+ *     <li>TREE_SPAWN : a tree generated on the cell.</li>
+ *     <li>TURN : the player skipped its turn, the value is the id of the next player.</li>
+ * </ul>
+ * Records are kept in a buffer written to the file at each turn change (and when the buffer is full), so the game is
+ * never slowed down by the disk. A journal belongs to one game and must be used by the thread which modifies the game.
+ * When the file can't be written, the journal is closed and the game goes on without it.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class GameJournal {
+
+    private static final Logger logger = LoggerUtility.getLogger(GameJournal.class);
+
+    public static final String JOURNAL_PATH = "lastGame.journal";
+
+    /**
+     * "CNQJ" in ASCII, identifies journal files.
+     */
+    public static final int MAGIC_NUMBER = 0x434E514A;
+
+    public static final int FORMAT_VERSION = 1;
+
+    public static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    public static final int RECORD_SIZE = 2 + Short.BYTES + 3 * Integer.BYTES;
+
+    /**
+     * Types of records.
+     */
+    public static final byte RECORD_MOVE = 1;
+    public static final byte RECORD_MERGE = 2;
+    public static final byte RECORD_ATTACK_SOLDIER = 3;
+    public static final byte RECORD_ATTACK_STRUCTURE = 4;
+    public static final byte RECORD_BUY = 5;
+    public static final byte RECORD_TOWER_EFFECT = 6;
+    public static final byte RECORD_TREE_SPAWN = 7;
+    public static final byte RECORD_TURN = 8;
+
+    /**
+     * Cell of records without cell.
+     */
+    public static final int NO_CELL = -1;
+
+    /**
+     * Amount of records kept in memory before being written.
+     */
+    private static final int BUFFERED_RECORDS = 4096;
+
+    private final String path;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFERED_RECORDS * RECORD_SIZE);
+
+    private long recordCount = 0;
+
+    private boolean closed = false;
+
+    /**
+     * Creates the journal file (replacing the existing one) and writes the current state of the game in its header.
+     *
+     * @param path        the journal file path.
+     * @param gameManager the game whose changes are written, the journal must then be given to it.
+     * @throws IOException              if the file can't be written.
+     * @throws IllegalArgumentException if path or gameManager is null, or if the game can't be saved.
+     */
+    public GameJournal(String path, GameManager gameManager) throws IOException, IllegalArgumentException {
+        if (path == null || gameManager == null) {
+            throw new IllegalArgumentException();
+        }
+        this.path = path;
+
+        ByteBuffer initialState = GameSerializer.captureGame(gameManager);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + initialState.remaining());
+        header.putInt(MAGIC_NUMBER);
+        header.putInt(FORMAT_VERSION);
+        header.putInt(RECORD_SIZE);
+        header.putInt(initialState.remaining());
+        header.put(initialState.duplicate());
+        header.flip();
+
+        channel = FileChannel.open(Path.of(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a record at the end of the journal, the records are written at each turn change.
+     *
+     * @param type       one of RECORD_*.
+     * @param turn       the turn during which the change happened.
+     * @param playerId   the id of the player who made the change, -1 when there is none.
+     * @param value      the value of the record, depending on its type.
+     * @param cell       the cell of the change, NO_CELL when there is none.
+     * @param targetCell the target cell of the change, NO_CELL when there is none.
+     */
+    public void append(byte type, int turn, int playerId, int value, int cell, int targetCell) {
+        if (closed) {
+            return;
+        }
+        if (buffer.remaining() < RECORD_SIZE) {
+            flush();
+        }
+
+        buffer.put(type);
+        buffer.put((byte) playerId);
+        buffer.putShort((short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value)));
+        buffer.putInt(turn);
+        buffer.putInt(cell);
+        buffer.putInt(targetCell);
+        recordCount++;
+
+        if (type == RECORD_TURN) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the records kept in memory to the file.
+     */
+    public void flush() {
+        if (closed || buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        } catch (IOException e) {
+            //the records which are not written are dropped, writing them again could duplicate a part of them
+            logger.warn("Failed to write game journal in " + path + ", the game is no longer journaled.");
+            buffer.clear();
+            closeChannel();
+        }
+    }
+
+    /**
+     * Writes the records kept in memory then closes the file, next records are ignored.
+     */
+    public void close() {
+        if (!closed) {
+            flush();
+            closeChannel();
+        }
+    }
+
+    /**
+     * Closes the file without writing the records kept in memory, next records are ignored.
+     */
+    private void closeChannel() {
+        if (!closed) {
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close game journal " + path + ".");
+            }
+        }
+    }
+
+    /**
+     * @return the amount of records added since the journal started.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
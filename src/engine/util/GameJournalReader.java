@@ -0,0 +1,102 @@
+package engine.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a journal written by {@link GameJournal}. The file is read once, then records are read by index from memory
+ * without creating objects, so long games can be analyzed quickly. An incomplete record at the end of the file (when
+ * the game stopped while writing it) is ignored.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class GameJournalReader {
+
+    /**
+     * The state of the game when the journal started, in the format of {@link GameSerializer}.
+     */
+    private final ByteBuffer initialState;
+
+    /**
+     * The records of the journal, one after the other.
+     */
+    private final ByteBuffer records;
+
+    private final int recordCount;
+
+    /**
+     * @param path the journal file path.
+     * @throws IOException if the file can't be read or is not a journal in a supported format version.
+     */
+    public GameJournalReader(String path) throws IOException {
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Game journal file is too large.");
+            }
+            content = ByteBuffer.allocate((int) channel.size());
+            while (content.hasRemaining() && channel.read(content) >= 0) {
+                //reads until the end of the file
+            }
+            content.flip();
+        }
+
+        if (content.remaining() < GameJournal.HEADER_SIZE || content.getInt() != GameJournal.MAGIC_NUMBER) {
+            throw new IOException("File " + path + " is not a game journal.");
+        }
+        int version = content.getInt();
+        int recordSize = content.getInt();
+        int initialStateSize = content.getInt();
+        if (version != GameJournal.FORMAT_VERSION || recordSize != GameJournal.RECORD_SIZE
+                || initialStateSize < 0 || initialStateSize > content.remaining()) {
+            throw new IOException("Unsupported game journal format version " + version + ".");
+        }
+
+        initialState = content.slice(content.position(), initialStateSize).asReadOnlyBuffer();
+        content.position(content.position() + initialStateSize);
+        recordCount = content.remaining() / GameJournal.RECORD_SIZE;
+        records = content.slice(content.position(), recordCount * GameJournal.RECORD_SIZE).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return the state of the game when the journal started, to read with {@link GameSerializer}.
+     */
+    public ByteBuffer getInitialState() {
+        return initialState.duplicate();
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @param index the index of the record, between 0 and the amount of records.
+     * @return one of GameJournal RECORD_*.
+     */
+    public byte getType(int index) {
+        return records.get(index * GameJournal.RECORD_SIZE);
+    }
+
+    public int getPlayerId(int index) {
+        return records.get(index * GameJournal.RECORD_SIZE + 1);
+    }
+
+    public int getValue(int index) {
+        return records.getShort(index * GameJournal.RECORD_SIZE + 2);
+    }
+
+    public int getTurn(int index) {
+        return records.getInt(index * GameJournal.RECORD_SIZE + 4);
+    }
+
+    public int getCell(int index) {
+        return records.getInt(index * GameJournal.RECORD_SIZE + 8);
+    }
+
+    public int getTargetCell(int index) {
+        return records.getInt(index * GameJournal.RECORD_SIZE + 12);
+    }
+}
@@ -0,0 +1,101 @@
+package engine.util;
+
+import java.io.Serializable;
+
+/**
+ * Random number generator of a game (SplitMix64 algorithm). Each game has its own generator so games don't share any
+ * state when they are played at the same time, and a game created with the same seed always gets the same numbers,
+ * which allows to replay a game.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class GameRandom implements Serializable {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The seed given at the creation of this generator.
+     */
+    private final long seed;
+
+    private long state;
+
+    /**
+     * @param seed the seed of the generator, two generators with the same seed generate the same numbers.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Restores a generator as it was when its state was read, it then generates the same numbers as the original one.
+     *
+     * @param seed  the seed given at the creation of the original generator.
+     * @param state the state of the original generator, see {@link #getState()}.
+     */
+    public GameRandom(long seed, long state) {
+        this.seed = seed;
+        this.state = state;
+    }
+
+    /**
+     * Creates a generator with a seed depending on the current time.
+     */
+    public GameRandom() {
+        this(mix(System.nanoTime() ^ System.currentTimeMillis() * GOLDEN_GAMMA));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return the next random long value.
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /**
+     * @param bound the upper bound (exclusive), must be positive.
+     * @return a random integer between 0 (inclusive) and bound (exclusive).
+     * @throws IllegalArgumentException if bound is not positive.
+     */
+    public int nextInt(int bound) throws IllegalArgumentException {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound must be positive.");
+        }
+        //rejects the last values of the range which would make lower results more likely
+        long limit = (1L << 31) - (1L << 31) % bound;
+        long value;
+        do {
+            value = nextLong() >>> 33;
+        } while (value >= limit);
+        return (int) (value % bound);
+    }
+
+    /**
+     * Creates a new generator, independent of this one, which can be given to another game.
+     * Splitting generators with the same seed in the same order gives generators with the same seeds.
+     *
+     * @return the new generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the current state of this generator, which changes each time a number is generated.
+     */
+    public long getState() {
+        return state;
+    }
+}
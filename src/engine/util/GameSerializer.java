@@ -1,17 +1,51 @@
 package engine.util;
 
+import configuration.GameplayConfig;
+import configuration.MapsConfig;
+import data.board.Block;
+import data.board.BoardStore;
 import data.board.GameMap;
+import data.element.*;
+import data.player.Player;
+import data.player.PlayerColor;
+import engine.exception.UnsupportedSaveException;
+import engine.monitoring.LoadGameEvent;
+import engine.monitoring.SaveGameEvent;
+import engine.process.MapBuilder;
 import main.game.GameManager;
-import data.element.ElementsMap;
 import engine.process.PlayersManager;
 import log.LoggerUtility;
 import main.game.Game;
 import org.apache.log4j.Logger;
 
 import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
 
 /**
  * This class provides method for saving and loading {@link Game}.
+ * <p>
+ * A game is saved in a compact binary format, written and read in one buffer through a {@link FileChannel} :
+ * <ul>
+ *     <li>a header : {@link #MAGIC_NUMBER}, format version, map id, board size, random generator, amounts of records,</li>
+ *     <li>the board : one byte of flags then one byte of owner id for each cell,</li>
+ *     <li>the players, in the order of the queue, and the elements, in fixed-width records,</li>
+ *     <li>the statistics of each player, in the order of the queue.</li>
+ * </ul>
+ * The map itself is not saved, it is built again from its shape file with the map id (its index in
+ * {@link MapsConfig#AVAILABLE_MAPS_LIST}), so saves only keep what changes during a game.
+ * <p>
+ * Each time the format changes, {@link #FORMAT_VERSION} is incremented and the reading of the previous versions is kept
+ * so older saves can still be loaded. The saves written with Java serialization by the first versions of the game
+ * can't be loaded, their classes have changed since.
  *
  * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
  */
@@ -21,61 +55,549 @@ public class GameSerializer {
 
     public static final String SAVED_GAME_PATH = "lastSave.ser";
 
+    /**
+     * First bytes of a binary save ("CNQS"), Java serialization streams never start with them.
+     */
+    public static final int MAGIC_NUMBER = 0x434E5153;
+
+    /**
+     * Version of the format written by {@link #saveGame(String, GameManager)}.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Map id of a map which is not in {@link MapsConfig#AVAILABLE_MAPS_LIST}, a rectangular map is built instead.
+     */
+    public static final int RECT_MAP_ID = -1;
+
+    private static final int HEADER_SIZE = 5 * Integer.BYTES + 2 * Long.BYTES + 2 * Integer.BYTES;
+
+    /**
+     * id, color index, flags and difficult level (one byte each), total gold, gold per turn and base cell.
+     */
+    private static final int PLAYER_RECORD_SIZE = 4 + 3 * Integer.BYTES;
+
+    /**
+     * occupant code, owner id, flags and one unused byte, cell, health points and the statistic of the element type.
+     */
+    private static final int ELEMENT_RECORD_SIZE = 4 + 3 * Integer.BYTES;
+
+    private static final byte PLAYER_IS_BOT = 1;
+    private static final byte PLAYER_HAS_LOST = 1 << 1;
+    private static final byte PLAYER_CAN_PLAY = 1 << 2;
+
+    private static final byte SOLDIER_CAN_MOVE = 1;
+    private static final byte SOLDIER_LAST_MOVE_RIGHT = 1 << 1;
+
+    /**
+     * Flags of the board restored from a save, {@link BoardStore#FLAG_OCCUPIED} is restored by putting elements.
+     */
+    private static final byte[] RESTORED_FLAGS = {BoardStore.FLAG_REMOVED, BoardStore.FLAG_SPAWN, BoardStore.FLAG_SPECIAL};
+
     /**
      * @param path        the saved game file path.
      * @param gameManager saves the {@link Game} instance in binary file from the given path.
+     * @return true if the game has been saved, false otherwise.
      */
-    public static void saveGame(String path, GameManager gameManager) {
-
+    public static boolean saveGame(String path, GameManager gameManager) {
         try {
-            OutputStream outputStream = new FileOutputStream(path);
-            ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
-            objectOutputStream.writeObject(gameManager.getMap());
-            objectOutputStream.writeObject(gameManager.getPlayersManager());
-            objectOutputStream.writeObject(gameManager.getElementsMap());
-            objectOutputStream.writeObject(gameManager.getGameStatistic());
-            objectOutputStream.close();
-            outputStream.close();
-
+            writeSave(path, captureGame(gameManager));
             logger.info("Game successfully saved in " + path + " .");
+            return true;
 
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             logger.warn("Failed to save game.");
         }
+        return false;
+    }
+
+    /**
+     * Copies the state of the game in the current format version, the copy is not modified when the game goes on so it
+     * can be written by another thread. Must be called by the thread which modifies the game.
+     *
+     * @param gameManager the game to save.
+     * @return a read-only buffer containing the saved game.
+     * @throws IllegalArgumentException if a player of the game has an unknown color.
+     */
+    public static ByteBuffer captureGame(GameManager gameManager) throws IllegalArgumentException {
+        return writeGame(gameManager).asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes a captured game in a temporary file then moves it to the given path, so the file at the given path is
+     * always a whole save, even if the writing is interrupted. Each writing has its own temporary file in the directory
+     * of the save, so two writings of the same save don't mix.
+     *
+     * @param path  the saved game file path.
+     * @param saved the game captured by {@link #captureGame(GameManager)}, it is not consumed.
+     * @throws IOException if the file can't be written.
+     */
+    public static void writeSave(String path, ByteBuffer saved) throws IOException {
+        SaveGameEvent event = new SaveGameEvent();
+        event.begin();
+        boolean succeeded = false;
+
+        Path temporary = null;
+        try {
+            Path target = Path.of(path).toAbsolutePath();
+            temporary = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+            ByteBuffer buffer = saved.duplicate();
+
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            succeeded = true;
+
+        } finally {
+            if (!succeeded && temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete the temporary save " + temporary + ".");
+                }
+            }
+            event.finish(path, saved.remaining(), succeeded);
+        }
     }
 
     /**
      * @param path the saved game file path.
-     * @return the {@link Game} instance read with the given file path.
+     * @return the {@link Game} instance read with the given file path, null if it can't be read.
      */
     public static Game getSavedGame(String path) {
+        try {
+            return loadGame(path);
+        } catch (IOException | UnsupportedSaveException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param path the saved game file path.
+     * @return the {@link Game} instance read with the given file path.
+     * @throws IOException              if the file can't be read or is not a valid save.
+     * @throws UnsupportedSaveException if the file was saved with Java serialization or in a newer format version.
+     */
+    public static Game loadGame(String path) throws IOException, UnsupportedSaveException {
+        LoadGameEvent event = new LoadGameEvent();
+        event.begin();
+        long size = 0;
+        int formatVersion = 0;
         Game game = null;
 
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Saved game file is too large.");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                //reads until the end of the file
+            }
+            buffer.flip();
+            size = buffer.remaining();
+
+            if (buffer.remaining() >= Short.BYTES && buffer.getShort(0) == ObjectStreamConstants.STREAM_MAGIC) {
+                throw new UnsupportedSaveException(path);
+            }
+            if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt(0) != MAGIC_NUMBER) {
+                throw new IOException("The file is not a saved game.");
+            }
+            formatVersion = buffer.getInt(Integer.BYTES);
+            if (formatVersion > FORMAT_VERSION) {
+                throw new UnsupportedSaveException(path);
+            }
+            game = readGame(buffer);
+
+            logger.info("Game successfully load.");
+
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IOException("Corrupted saved game.");
+
+        } finally {
+            if (game == null) {
+                logger.warn("Failed to load game.");
+            }
+            event.finish(path, size, formatVersion, game != null);
+        }
+        return game;
+    }
+
+    /**
+     * @return the index of the map in {@link MapsConfig#AVAILABLE_MAPS_LIST}, RECT_MAP_ID if it is not in the list.
+     */
+    private static int findMapId(GameMap map) {
+        for (int mapId = 0; mapId < MapsConfig.AVAILABLE_MAPS_LIST.length; mapId++) {
+            if (MapsConfig.AVAILABLE_MAPS_LIST[mapId].getShapeFilePath().equals(map.getShapeFilePath())) {
+                return mapId;
+            }
+        }
+        return RECT_MAP_ID;
+    }
+
+    /**
+     * @return the index of the color of the player in {@link GameplayConfig#POSSIBLE_PLAYER_COLORS}.
+     */
+    private static int findColorIndex(Player player) throws IllegalArgumentException {
+        for (int index = 0; index < GameplayConfig.POSSIBLE_PLAYER_COLORS.length; index++) {
+            if (GameplayConfig.POSSIBLE_PLAYER_COLORS[index].getColor().equals(player.getColor())) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("Unknown color of player " + player.getColorName() + ".");
+    }
+
+    /**
+     * @return the statistic kept in the record of the element, depending on its type.
+     */
+    private static int getRecordStatistic(Element element) {
+        if (element instanceof Soldier soldier) {
+            return soldier.getAttackPoint();
+        } else if (element instanceof AttackTower attackTower) {
+            return attackTower.getDamageDeals();
+        } else if (element instanceof DefenseTower defenseTower) {
+            return defenseTower.getBonusHealthDeals();
+        } else if (element instanceof House house) {
+            return house.getBonusGold();
+        } else if (element instanceof ForestTree tree) {
+            return tree.getBonusGoldWhenDestroyed();
+        }
+        return 0;
+    }
+
+    /**
+     * @return a new element of the type of the occupant code, with the statistic kept in its record.
+     */
+    private static Element createElement(byte occupant, Block block, int statistic) throws IllegalArgumentException {
+        int x = block.getX();
+        int y = block.getY();
+        if (occupant == BoardStore.OCCUPANT_BASE) {
+            return new Base(x, y);
+        } else if (occupant == BoardStore.OCCUPANT_SOLDIER) {
+            Soldier soldier = new Soldier(x, y);
+            soldier.setAttackPoint(statistic);
+            return soldier;
+        } else if (occupant == BoardStore.OCCUPANT_ATTACK_TOWER) {
+            AttackTower attackTower = new AttackTower(x, y);
+            attackTower.setDamageDeals(statistic);
+            return attackTower;
+        } else if (occupant == BoardStore.OCCUPANT_DEFENSE_TOWER) {
+            DefenseTower defenseTower = new DefenseTower(x, y);
+            defenseTower.setBonusHealthDeals(statistic);
+            return defenseTower;
+        } else if (occupant == BoardStore.OCCUPANT_HOUSE) {
+            House house = new House(x, y);
+            house.setBonusGold(statistic);
+            return house;
+        } else if (occupant == BoardStore.OCCUPANT_FOREST_TREE) {
+            ForestTree tree = new ForestTree(x, y);
+            tree.setBonusGoldWhenDestroyed(statistic);
+            return tree;
+        }
+        throw new IllegalArgumentException("Unknown element type " + occupant + ".");
+    }
+
+    /**
+     * @param gameManager the game to save.
+     * @return a buffer ready to be written, containing the game in the current format version.
+     */
+    private static ByteBuffer writeGame(GameManager gameManager) throws IllegalArgumentException {
+        GameMap map = gameManager.getMap();
+        BoardStore board = map.getBoard();
+        PlayersManager playersManager = gameManager.getPlayersManager();
+        ArrayList<Player> players = playersManager.getPlayerList();
+        Collection<Element> elements = gameManager.getElementsMap().getValues();
+        GameStatistic gameStatistic = gameManager.getGameStatistic();
+
+        int statisticsSize = 0;
+        for (Player player : players) {
+            ArrayList<Integer> evolution = gameStatistic.getTerritoryEvolution().get(player);
+            statisticsSize += (2 + (evolution != null ? evolution.size() : 0)) * Integer.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 2 * board.getTotalCells()
+                + players.size() * PLAYER_RECORD_SIZE + elements.size() * ELEMENT_RECORD_SIZE + statisticsSize);
+
+        //Header
+        buffer.putInt(MAGIC_NUMBER);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putInt(findMapId(map));
+        buffer.putInt(board.getColumns());
+        buffer.putInt(board.getLines());
+        buffer.putLong(playersManager.getRandom().getSeed());
+        buffer.putLong(playersManager.getRandom().getState());
+        buffer.putInt(players.size());
+        buffer.putInt(elements.size());
+
+        //Board
+        for (int cell = 0; cell < board.getTotalCells(); cell++) {
+            byte flags = 0;
+            for (byte flag : RESTORED_FLAGS) {
+                if (board.hasFlag(cell, flag)) {
+                    flags |= flag;
+                }
+            }
+            buffer.put(flags);
+        }
+        for (int cell = 0; cell < board.getTotalCells(); cell++) {
+            buffer.put((byte) board.getOwner(cell));
+        }
+
+        //Players
+        for (Player player : players) {
+            byte flags = 0;
+            if (player.isBot()) {
+                flags |= PLAYER_IS_BOT;
+            }
+            if (player.hasLost()) {
+                flags |= PLAYER_HAS_LOST;
+            }
+            if (player.canPlay()) {
+                flags |= PLAYER_CAN_PLAY;
+            }
+            buffer.put((byte) player.getId());
+            buffer.put((byte) findColorIndex(player));
+            buffer.put(flags);
+            buffer.put((byte) player.getDifficultLevel());
+            buffer.putInt(player.getTotalGold());
+            buffer.putInt(player.getGoldPerTurn());
+            buffer.putInt(player.getBaseBlock() != null ? player.getBaseBlock().getCell() : -1);
+        }
+
+        //Elements
+        for (Element element : elements) {
+            byte flags = 0;
+            if (element instanceof Soldier soldier) {
+                if (soldier.canMove()) {
+                    flags |= SOLDIER_CAN_MOVE;
+                }
+                if (soldier.lastMoveWasRight()) {
+                    flags |= SOLDIER_LAST_MOVE_RIGHT;
+                }
+            }
+            buffer.put(ElementsMap.toOccupantCode(element.getClass()));
+            buffer.put((byte) element.getOwnerId());
+            buffer.put(flags);
+            buffer.put((byte) 0);
+            buffer.putInt(map.toCellIndex(element.getIndexX(), element.getIndexY()));
+            buffer.putInt(element.getHealthPoint());
+            buffer.putInt(getRecordStatistic(element));
+        }
+
+        //Statistics
+        for (Player player : players) {
+            Integer skipTurnCount = gameStatistic.getSkipTurnCount(player);
+            ArrayList<Integer> evolution = gameStatistic.getTerritoryEvolution().get(player);
+            buffer.putInt(skipTurnCount != null ? skipTurnCount : 0);
+            buffer.putInt(evolution != null ? evolution.size() : 0);
+            if (evolution != null) {
+                for (Integer totalBlocks : evolution) {
+                    buffer.putInt(totalBlocks);
+                }
+            }
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * @return the map of the given id built again, RECT_MAP_ID gives a rectangular map of the given size.
+     */
+    private static GameMap buildSavedMap(int mapId, int columns, int lines) throws IllegalArgumentException {
         GameMap map;
-        PlayersManager playersManager;
-        ElementsMap elementsMap;
-        GameStatistic gameStatistic;
+        if (mapId >= 0 && mapId < MapsConfig.AVAILABLE_MAPS_LIST.length) {
+            GameMap availableMap = MapsConfig.AVAILABLE_MAPS_LIST[mapId];
+            map = new GameMap(availableMap.getTitle(), availableMap.getShapeFilePath(), availableMap.getBackgroundFilePath());
+            MapBuilder.buildMap(map);
+        } else if (mapId == RECT_MAP_ID && columns > 0 && lines > 0) {
+            map = new GameMap();
+            MapBuilder.buildRectMap(map, columns, lines);
+        } else {
+            throw new IllegalArgumentException("Unknown map id " + mapId + ".");
+        }
+
+        if (map.getColumns() != columns || map.getLines() != lines) {
+            throw new IllegalArgumentException("The saved board doesn't match the map " + map.getTitle() + ".");
+        }
+        return map;
+    }
+
+    /**
+     * Reads a game captured by {@link #captureGame(GameManager)} without creating its display, its autosave nor its
+     * journal, so a game can be analyzed or replayed without being played.
+     *
+     * @param saved the captured game, it is not consumed.
+     * @return the game manager of the captured game.
+     * @throws IOException              if the buffer is not a binary save in a supported format version.
+     * @throws IllegalArgumentException if the map of the save can't be built.
+     */
+    public static GameManager readGameManager(ByteBuffer saved) throws IOException, IllegalArgumentException {
+        ByteBuffer buffer = saved.duplicate();
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt(buffer.position()) != MAGIC_NUMBER) {
+            throw new IOException("The buffer is not a saved game.");
+        }
 
+        SavedGame savedGame;
         try {
-            FileInputStream fileInputStream = new FileInputStream(path);
-            ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
+            savedGame = readSavedGame(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated saved game.");
+        }
+
+        GameManager gameManager = new GameManager(savedGame.map(), savedGame.playersManager());
+        gameManager.setElementsMap(savedGame.elementsMap());
+        gameManager.setGameStatistic(savedGame.gameStatistic());
+        return gameManager;
+    }
+
+    /**
+     * @param buffer the content of a binary save, starting with the magic number.
+     * @return the game read from the buffer.
+     */
+    private static Game readGame(ByteBuffer buffer) throws IOException, IllegalArgumentException, BufferUnderflowException {
+        SavedGame savedGame = readSavedGame(buffer);
+        return new Game(savedGame.map(), savedGame.playersManager(), savedGame.elementsMap(), savedGame.gameStatistic());
+    }
+
+    /**
+     * @param buffer the content of a binary save, starting with the magic number.
+     * @return the parts of the game read from the buffer.
+     */
+    private static SavedGame readSavedGame(ByteBuffer buffer) throws IOException, IllegalArgumentException, BufferUnderflowException {
+        buffer.getInt();
+        int version = buffer.getInt();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported saved game format version " + version + ".");
+        }
 
-            map = (GameMap) objectInputStream.readObject();
-            playersManager = (PlayersManager) objectInputStream.readObject();
-            elementsMap = (ElementsMap) objectInputStream.readObject();
-            gameStatistic = (GameStatistic) objectInputStream.readObject();
+        //Header
+        int mapId = buffer.getInt();
+        int columns = buffer.getInt();
+        int lines = buffer.getInt();
+        GameRandom random = new GameRandom(buffer.getLong(), buffer.getLong());
+        int totalPlayers = buffer.getInt();
+        int totalElements = buffer.getInt();
+        if (totalPlayers < 0 || totalPlayers > GameplayConfig.MAX_PLAYERS || totalElements < 0) {
+            throw new IOException("Corrupted saved game header.");
+        }
 
-            if (map != null && playersManager != null && elementsMap != null) {
-                game = new Game(map, playersManager, elementsMap, gameStatistic);
+        //Board
+        GameMap map = buildSavedMap(mapId, columns, lines);
+        BoardStore board = map.getBoard();
+        for (int cell = 0; cell < board.getTotalCells(); cell++) {
+            byte flags = buffer.get();
+            for (byte flag : RESTORED_FLAGS) {
+                board.setFlag(cell, flag, (flags & flag) != 0);
             }
-            objectInputStream.close();
-            fileInputStream.close();
+        }
+        byte[] owners = new byte[board.getTotalCells()];
+        buffer.get(owners);
 
-            logger.info("Game successfully load.");
+        //the available spawns of the players manager are found with the restored flags
+        PlayersManager playersManager = new PlayersManager(map, random);
+
+        //Players
+        ArrayList<Player> players = new ArrayList<>();
+        Player[] playersById = new Player[totalPlayers];
+        for (int index = 0; index < totalPlayers; index++) {
+            int id = buffer.get();
+            int colorIndex = buffer.get();
+            byte flags = buffer.get();
+            int difficultLevel = buffer.get();
+            int totalGold = buffer.getInt();
+            int goldPerTurn = buffer.getInt();
+            int baseCell = buffer.getInt();
+            if (id < 0 || id >= totalPlayers || colorIndex < 0 || colorIndex >= GameplayConfig.POSSIBLE_PLAYER_COLORS.length) {
+                throw new IOException("Corrupted saved player.");
+            }
 
-        } catch (IOException | IllegalArgumentException | ClassNotFoundException e) {
-            logger.warn("Failed to load game.");
+            PlayerColor color = GameplayConfig.POSSIBLE_PLAYER_COLORS[colorIndex];
+            Player player = new Player(id, map.getBlockByCell(baseCell), color, (flags & PLAYER_IS_BOT) != 0);
+            if ((flags & PLAYER_HAS_LOST) != 0) {
+                player.setLost();
+            }
+            if ((flags & PLAYER_CAN_PLAY) != 0) {
+                player.allowToPlay();
+            }
+            player.setDifficultLevel(difficultLevel);
+            player.setTotalGold(totalGold);
+            player.setGoldPerTurn(goldPerTurn);
+
+            players.add(player);
+            playersById[id] = player;
         }
-        return game;
+
+        for (int cell = 0; cell < owners.length; cell++) {
+            if (owners[cell] >= 0 && owners[cell] < totalPlayers && playersById[owners[cell]] != null) {
+                playersById[owners[cell]].addOwnedBlock(map.getBlockByCell(cell));
+            }
+        }
+
+        //Elements
+        ElementsMap elementsMap = new ElementsMap();
+        for (int index = 0; index < totalElements; index++) {
+            byte occupant = buffer.get();
+            int ownerId = buffer.get();
+            byte flags = buffer.get();
+            buffer.get();
+            Block block = map.getBlockByCell(buffer.getInt());
+            int healthPoint = buffer.getInt();
+            int statistic = buffer.getInt();
+            if (block == null) {
+                throw new IOException("Corrupted saved element.");
+            }
+
+            Element element = createElement(occupant, block, statistic);
+            element.setHealthPoint(healthPoint);
+            if (element instanceof Soldier soldier) {
+                if ((flags & SOLDIER_CAN_MOVE) == 0) {
+                    soldier.preventToMove();
+                }
+                if ((flags & SOLDIER_LAST_MOVE_RIGHT) != 0) {
+                    soldier.setLastMoveRight();
+                }
+            }
+
+            //the owner is defined first so the element is put in the indexes of its owner
+            if (ownerId >= 0 && ownerId < totalPlayers && playersById[ownerId] != null) {
+                playersById[ownerId].addOwnedElement(element);
+            }
+            elementsMap.putElementOnBlock(block, element);
+        }
+
+        playersManager.restorePlayers(players);
+
+        //Statistics
+        GameStatistic gameStatistic = new GameStatistic(players);
+        for (Player player : players) {
+            int skipTurnCount = buffer.getInt();
+            int totalTurns = buffer.getInt();
+            if (totalTurns < 0 || totalTurns > buffer.remaining() / Integer.BYTES) {
+                throw new IOException("Corrupted saved statistics.");
+            }
+            ArrayList<Integer> evolution = new ArrayList<>(totalTurns);
+            for (int turn = 0; turn < totalTurns; turn++) {
+                evolution.add(buffer.getInt());
+            }
+            gameStatistic.restoreStatistics(player, skipTurnCount, evolution);
+        }
+
+        return new SavedGame(map, playersManager, elementsMap, gameStatistic);
+    }
+
+    /**
+     * Parts of a game read from a binary save.
+     */
+    private record SavedGame(GameMap map, PlayersManager playersManager, ElementsMap elementsMap,
+                             GameStatistic gameStatistic) {
     }
 }
@@ -77,6 +77,31 @@ public class GameStatistic implements Serializable {
         incrementSkipTurnCount(player);
     }
 
+    /**
+     * Replaces the statistics of a {@link Player}, used to restore statistics of a saved game.
+     *
+     * @param player             the player of the statistics.
+     * @param skipTurnCount      how many turns the player played.
+     * @param territoryEvolution the amount of {@link data.board.Block} owned by the player each turn.
+     */
+    public void restoreStatistics(Player player, int skipTurnCount, ArrayList<Integer> territoryEvolution) {
+        if (player != null && territoryEvolution != null) {
+            playersSkipTurnCount.put(player, skipTurnCount);
+            this.territoryEvolution.put(player, new ArrayList<>(territoryEvolution));
+        }
+    }
+
+    /**
+     * @return how many turns have been played by all players.
+     */
+    public int getTotalSkipTurnCount() {
+        int total = 0;
+        for (Integer count : playersSkipTurnCount.values()) {
+            total += count;
+        }
+        return total;
+    }
+
     public Integer getSkipTurnCount(Player player) {
         return playersSkipTurnCount.get(player);
     }
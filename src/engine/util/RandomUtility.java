@@ -2,13 +2,15 @@ package engine.util;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import data.board.Block;
+import data.board.BoardStore;
 import data.board.GameMap;
 
 /**
  * This utility class provides several methods to perform random operations, such as getting a random number or
- * getting a random block from a list.
+ * getting a random block from a list. All methods use the {@link GameRandom} of the game, so a game can be replayed.
  *
  * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
  */
@@ -16,51 +18,49 @@ public class RandomUtility {
     /**
      * Gets a random integer between the specified minimum and maximum values (inclusive).
      *
-     * @param min the minimum value of the range (inclusive).
-     * @param max the maximum value of the range (inclusive).
+     * @param random the random generator of the game.
+     * @param min    the minimum value of the range (inclusive).
+     * @param max    the maximum value of the range (inclusive).
      * @return a random integer between the minimum and maximum values (inclusive).
      */
-    public static int getRandom(int min, int max) {
-        return (int) (Math.random() * (max + 1 - min)) + min;
+    public static int getRandom(GameRandom random, int min, int max) {
+        return random.nextInt(max + 1 - min) + min;
     }
 
     /**
      * Gets a random empty block from the specified game map.
      *
-     * @param map the {@link GameMap} to get a block from.
+     * @param random the random generator of the game.
+     * @param map    the {@link GameMap} to get a block from.
      * @return a random empty {@link Block} from the specified game map, or null if the map is null or full.
      */
-    public static Block getRandomEmptyBlock(GameMap map) {
-
+    public static Block getRandomEmptyBlock(GameRandom random, GameMap map) {
         if (map == null || map.mapIsFull()) {
             return null;
-        } else {
-            int col = getRandom(0, map.getColumns() - 1);
-            int lin = getRandom(0, map.getLines() - 1);
-
-            Block block = map.getBlock(col, lin);
-            return !block.isRemoved() && block.isEmpty() ? block : getRandomEmptyBlock(map);
         }
-
+        //every empty and not removed block has the same probability to be chosen
+        BoardStore board = map.getBoard();
+        return map.getBlockByCell(board.getFreeCell(random.nextInt(board.getFreeCellsCount())));
     }
 
     /**
      * Gets a random block from the specified list of blocks.
      *
+     * @param random the random generator of the game.
      * @param blocks the list of {@link  Block} to get a block from.
      * @return a random block from the specified list of blocks, or null if the list is null or empty.
      */
-    public static Block getRandomBlock(ArrayList<Block> blocks) {
+    public static Block getRandomBlock(GameRandom random, ArrayList<Block> blocks) {
         if (blocks != null && !blocks.isEmpty()) {
-            return blocks.get(getRandom(0, blocks.size() - 1));
+            return blocks.get(getRandom(random, 0, blocks.size() - 1));
         }
         return null;
     }
 
-    public static Block getRandomEmptyBlock(ArrayList<Block> blocks) {
+    public static Block getRandomEmptyBlock(GameRandom random, ArrayList<Block> blocks) {
         Block block = null;
         if (blocks != null && !blocks.isEmpty()) {
-            block = blocks.get(getRandom(0, blocks.size() - 1));
+            block = blocks.get(getRandom(random, 0, blocks.size() - 1));
             if (block != null && !block.isEmpty()) {
                 block = null;
             }
@@ -71,9 +71,24 @@ public class RandomUtility {
     /**
      * Randomizes the order of the given list of blocks.
      *
+     * @param random the random generator of the game.
      * @param blocks the list of blocks to be randomized.
      */
-    public static void randomizeBlockList(ArrayList<Block> blocks) {
-        Collections.shuffle(blocks);
+    public static void randomizeBlockList(GameRandom random, ArrayList<Block> blocks) {
+        shuffle(random, blocks);
+    }
+
+    /**
+     * Randomizes the order of the given list (Fisher-Yates shuffle).
+     *
+     * @param random the random generator of the game.
+     * @param list   the list to be randomized.
+     */
+    public static <T> void shuffle(GameRandom random, List<T> list) {
+        if (list != null) {
+            for (int i = list.size() - 1; i > 0; i--) {
+                Collections.swap(list, i, random.nextInt(i + 1));
+            }
+        }
     }
 }
@@ -0,0 +1,51 @@
+package engine.util;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This utility class creates the worker threads used to run long tasks without freezing the game.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class ThreadUtility {
+
+    /**
+     * Time in seconds after which a worker thread stops when it has nothing to do.
+     */
+    private static final long WORKER_KEEP_ALIVE_TIME = 30;
+
+    /**
+     * Creates an executor with at most one daemon worker thread, tasks are run one after the other in the order they
+     * are submitted. The thread is created with the first task and stops when it has nothing to do for a while.
+     *
+     * @param threadName the name of the worker thread.
+     * @return the executor.
+     */
+    public static ThreadPoolExecutor createSingleWorker(String threadName) {
+        return new ThreadPoolExecutor(0, 1, WORKER_KEEP_ALIVE_TIME, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Stops an executor once the tasks already submitted have been run, and waits for them.
+     *
+     * @param worker  the executor to stop.
+     * @param timeout the maximum time to wait in ms.
+     * @return true if the tasks have been run before the timeout.
+     */
+    public static boolean shutdownAndWait(ThreadPoolExecutor worker, long timeout) {
+        worker.shutdown();
+        try {
+            return worker.awaitTermination(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -72,7 +72,9 @@ public class PlayerSelection extends GameListener implements MouseListener {
                         //The player select his territory
                         if (playersManager.currentPlayerOwnsBlock(selectedBlock)) {
                             getGameDisplay().showShopPanel();
-                            logger.info("Player [" + playersManager.getCurrentPlayer().getColorName() + "] selected an owned empty block in position " + selectedBlock.positionToString() + ".");
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Player [" + playersManager.getCurrentPlayer().getColorName() + "] selected an owned empty block in position " + selectedBlock.positionToString() + ".");
+                            }
                         }
                     } else {
                         //The selected block contains an Element
@@ -80,7 +82,9 @@ public class PlayerSelection extends GameListener implements MouseListener {
                         if (elementsFinder.elementTypeExistsOnBlock(Soldier.class, selectedBlock)) { // element
 
                             Soldier soldier = (Soldier) elementsFinder.findElementOnBlock(getGameManager().getSelectedBlock());
-                            logger.info("Player [" + playersManager.getCurrentPlayer().getColorName() + "] selected an owned soldier in position " + selectedBlock.positionToString() + ".");
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Player [" + playersManager.getCurrentPlayer().getColorName() + "] selected an owned soldier in position " + selectedBlock.positionToString() + ".");
+                            }
 
                             if (soldier.canMove()) {
                                 getGameManager().setPossibleActionBlocks(
@@ -90,13 +94,19 @@ public class PlayerSelection extends GameListener implements MouseListener {
                                 getGameManager().resetSelection();
                             }
                         } else if (elementsFinder.elementTypeExistsOnBlock(AttackTower.class, selectedBlock)) {
-                            logger.info("Player [" + currentPlayer.getColorName() + "] selected a attack tower in position " + selectedBlock.positionToString() + ".");
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Player [" + currentPlayer.getColorName() + "] selected a attack tower in position " + selectedBlock.positionToString() + ".");
+                            }
 
                         } else if (elementsFinder.elementTypeExistsOnBlock(DefenseTower.class, selectedBlock)) {
-                            logger.info("Player [" + currentPlayer.getColorName() + "] selected a defense tower in position " + selectedBlock.positionToString() + ".");
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Player [" + currentPlayer.getColorName() + "] selected a defense tower in position " + selectedBlock.positionToString() + ".");
+                            }
 
                         } else if (elementsFinder.elementTypeExistsOnBlock(Base.class, selectedBlock)) {
-                            logger.info("Player [" + currentPlayer.getColorName() + "] selected a Base in position " + selectedBlock.positionToString() + ".");
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Player [" + currentPlayer.getColorName() + "] selected a Base in position " + selectedBlock.positionToString() + ".");
+                            }
 
                         } else {
                             logger.error("Player [" + currentPlayer.getColorName() + "] selected an unidentified element in position " + selectedBlock.positionToString() + ".");
@@ -1,11 +1,13 @@
 package ihm.listener;
 
 import main.game.GameManager;
+import engine.util.AutosaveService;
 import engine.util.GameSerializer;
 
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class allows to save a game by giving the {@link  GameManager}.
@@ -23,7 +25,28 @@ public class SaveGame extends GameListener implements ActionListener {
 
     @Override
     public void actionPerformed(ActionEvent e) {
-        GameSerializer.saveGame(GameSerializer.SAVED_GAME_PATH, getGameManager());
-        JOptionPane.showMessageDialog(null, "Game saved !");
+        AutosaveService autosaveService = getGameManager().getAutosaveService();
+        if (autosaveService != null) {
+            //the game is only copied here, the file is written without freezing the display
+            CompletableFuture<Boolean> saving = autosaveService.save(getGameManager());
+            if (saving != null) {
+                saving.thenAccept(saved -> SwingUtilities.invokeLater(() -> showResult(saved)));
+            } else {
+                showResult(false);
+            }
+        } else {
+            showResult(GameSerializer.saveGame(GameSerializer.SAVED_GAME_PATH, getGameManager()));
+        }
+    }
+
+    /**
+     * @param saved true if the game has been saved.
+     */
+    private void showResult(boolean saved) {
+        if (saved) {
+            JOptionPane.showMessageDialog(null, "Game saved !");
+        } else {
+            JOptionPane.showMessageDialog(null, "The game can't be saved.", "Save", JOptionPane.ERROR_MESSAGE);
+        }
     }
 }
@@ -5,9 +5,12 @@ import engine.process.PlayersManager;
 import log.LoggerUtility;
 import main.game.GameManager;
 import engine.process.BotAction;
+import engine.process.BotTurnExecutor;
+import configuration.GameplayConfig;
 import main.game.GameDisplay;
 import org.apache.log4j.Logger;
 
+import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 
@@ -20,14 +23,14 @@ public class SkipTurn extends GameListener implements ActionListener {
 
 
     /**
-     * The algorithm which evaluates what action a {@link Player defines as bot will do.}
+     * Plays turns of {@link Player} defined as bot with the algorithm {@link BotAction} without freezing the display.
      */
-    private BotAction botAction;
+    private BotTurnExecutor botTurnExecutor;
 
     public SkipTurn(GameManager gameManager, GameDisplay gameDisplay) {
         super(gameManager, gameDisplay);
         try {
-            botAction = new BotAction(gameManager);
+            botTurnExecutor = new BotTurnExecutor(gameManager, GameplayConfig.BOT_TURN_TIME_BUDGET);
         } catch (IllegalArgumentException e) {
             LoggerUtility.getLogger(SkipTurn.class).error("Unable to create bot actions in this game");
             e.printStackTrace();
@@ -46,14 +49,12 @@ public class SkipTurn extends GameListener implements ActionListener {
         gameDisplay.hideShopPanel();
         gameManager.resetSelection();
 
-        if (currentPlayer.isBot() && botAction != null) {
-            //Bot player
+        if (currentPlayer.isBot() && botTurnExecutor != null) {
+            //Bot player, the game belongs to the bot worker until the turn is played
             if (!playersManager.playerHasWin() && playersManager.existsHumanPlayerNotLost()) {
                 gameDisplay.disableListeners();
                 gameDisplay.putBotAnimation();
-                botAction.runAction();
-                gameDisplay.disableMoveAllSoldiersInDirectionButton();
-                gameDisplay.refreshDisplay(getGameManager());
+                botTurnExecutor.playTurn(() -> SwingUtilities.invokeLater(this::botTurnPlayed));
 
             } else {
                 gameDisplay.repaint();
@@ -66,6 +67,25 @@ public class SkipTurn extends GameListener implements ActionListener {
         }
     }
 
+    /**
+     * Shows the game once the bot has played its whole turn, called on the Swing event thread.
+     */
+    private void botTurnPlayed() {
+        GameDisplay gameDisplay = getGameDisplay();
+        gameDisplay.disableMoveAllSoldiersInDirectionButton();
+        gameDisplay.refreshDisplay(getGameManager());
+        gameDisplay.botTurnPlayed();
+    }
+
+    /**
+     * Stops playing the turns of bots, waits for the turn being played.
+     */
+    public void shutdown() {
+        if (botTurnExecutor != null) {
+            botTurnExecutor.shutdown();
+        }
+    }
+
     @Override
     public void actionPerformed(ActionEvent e) {
         skipTurn();
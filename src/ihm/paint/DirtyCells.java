@@ -0,0 +1,104 @@
+package ihm.paint;
+
+import configuration.IHMConfig;
+import data.board.Block;
+import data.board.CellChangeListener;
+import data.board.CellSet;
+import engine.util.ConversionUtility;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Collects the cells changed since the last painting, and coalesces them into areas to repaint : consecutive changed
+ * cells of a same line are merged into one area. Cells can be changed by the thread modifying the game while areas are
+ * requested by the Swing event thread.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class DirtyCells implements CellChangeListener {
+
+    private final int columns;
+
+    private final CellSet cells;
+
+    /**
+     * @param columns    the amount of columns of the board.
+     * @param totalCells the amount of cells of the board.
+     * @throws IllegalArgumentException if the board is empty.
+     */
+    public DirtyCells(int columns, int totalCells) throws IllegalArgumentException {
+        if (columns <= 0 || totalCells <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.columns = columns;
+        this.cells = new CellSet(totalCells);
+    }
+
+    @Override
+    public synchronized void cellChanged(int cell) {
+        cells.add(cell);
+    }
+
+    /**
+     * @param block a block to paint again (can be null).
+     */
+    public void markChanged(Block block) {
+        if (block != null) {
+            cellChanged(block.getCell());
+        }
+    }
+
+    /**
+     * @param blocks blocks to paint again (can be null).
+     */
+    public void markChanged(ArrayList<Block> blocks) {
+        if (blocks != null) {
+            for (Block block : blocks) {
+                markChanged(block);
+            }
+        }
+    }
+
+    /**
+     * Forgets all changed cells, used when the whole display is painted again.
+     */
+    public synchronized void clear() {
+        cells.clear();
+    }
+
+    /**
+     * Computes the areas covering the changed cells then forgets them.
+     *
+     * @param margin the distance in pixels added around each cell, so images overflowing their block are covered.
+     * @return the areas to paint again, in pixels.
+     */
+    public synchronized ArrayList<Rectangle> drainAreas(int margin) {
+        int[] changedCells = new int[cells.size()];
+        for (int position = 0; position < changedCells.length; position++) {
+            changedCells[position] = cells.get(position);
+        }
+        cells.clear();
+        Arrays.sort(changedCells);
+
+        ArrayList<Rectangle> areas = new ArrayList<>();
+        int position = 0;
+        while (position < changedCells.length) {
+            int first = changedCells[position];
+            int last = first;
+            //merges the following cells of the same line
+            while (position + 1 < changedCells.length && changedCells[position + 1] == last + 1
+                    && (last + 1) % columns != 0) {
+                position++;
+                last++;
+            }
+            int x = ConversionUtility.IndexToPixel(first % columns);
+            int y = ConversionUtility.IndexToPixel(first / columns);
+            areas.add(new Rectangle(x - margin, y - margin, (last - first + 1) * IHMConfig.BLOCK_SIZE + 2 * margin,
+                    IHMConfig.BLOCK_SIZE + 2 * margin));
+            position++;
+        }
+        return areas;
+    }
+}
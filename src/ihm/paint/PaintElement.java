@@ -1,7 +1,10 @@
 package ihm.paint;
 
 import configuration.IHMConfig;
+import data.board.BoardSnapshot;
+import data.board.BoardStore;
 import data.element.*;
+import engine.util.ConversionUtility;
 import ihm.util.IHMScaling;
 import ihm.util.ImageUtility;
 
@@ -22,134 +25,123 @@ public class PaintElement {
     private final String DEFENSE_TOWER_IMAGE_FILE_PATH = "/res/images/gameplay/defenseTower.png";
     private final String FOREST_TREE_IMAGE_FILE_PATH = "/res/images/gameplay/forestTree.png";
 
-    //Read image before all to ensure reduce performance loss
-    private final Image leftSoldierImage = ImageUtility.readImage(LEFT_SOLDIER_IMAGE_FILE_PATH);
-    private final Image rightSoldierImage = ImageUtility.readImage(RIGHT_SOLDIER_IMAGE_FILE_PATH);
-    private final Image baseImage = ImageUtility.readImage(BASE_IMAGE_FILE_PATH);
-    private final Image houseImage = ImageUtility.readImage(HOUSE_IMAGE_FILE_PATH);
-    private final Image attackTowerImage = ImageUtility.readImage(ATTACK_TOWER_IMAGE_FILE_PATH);
-    private final Image defenseTowerImage = ImageUtility.readImage(DEFENSE_TOWER_IMAGE_FILE_PATH);
-    private final Image forestTreeImage = ImageUtility.readImage(FOREST_TREE_IMAGE_FILE_PATH);
+    private final Font SOLDIER_ATTACK_POINT_FONT = new Font(Font.DIALOG, Font.BOLD, IHMScaling.scale(18));
 
     private final PaintIndicator paintIndicator = new PaintIndicator();
 
     /**
      * This method allows to draw House on block using the following parameters.
      *
-     * @param house The player's House to draw.
-     * @param color The player's color.
-     * @param g     The graphics context in which the drawing will be performed.
+     * @param g              The graphics context in which the drawing will be performed.
+     * @param x              The x-coordinate of the House.
+     * @param y              The y-coordinate of the House.
+     * @param health         The health points of the House.
+     * @param maxHealthPoint The limit of health points of the House.
      */
-    private void paint(Graphics g, House house, String color) {
-        int x = house.getX();
-        int y = house.getY();
-        int health = house.getHealthPoint();
-
-        ImageUtility.drawScaledImage(g, houseImage, x, y, 0, 2, 45, 45);
+    private void paintHouse(Graphics g, int x, int y, int health, int maxHealthPoint) {
+        ImageUtility.drawSprite(g, HOUSE_IMAGE_FILE_PATH, x, y, 0, 2, 45, 45);
 
 //        paintIndicator.paintElementStatistic(g, health, x, y, 37, 44, IHMConfig.STRUCTURE_STATISTICS_FONT,
 //                IHMConfig.ELEMENT_STATISTICS_COLOR);
-        paintIndicator.paintHealthBar(g, house);
+        paintIndicator.paintHealthBar(g, health, maxHealthPoint, x, y);
     }
 
     /**
      * This method allows to draw AttackTower on block using the following parameters.
      *
-     * @param tower The player's AttackTower to draw.
-     * @param color The player's color.
-     * @param g     The graphics context in which the drawing will be performed.
+     * @param g              The graphics context in which the drawing will be performed.
+     * @param x              The x-coordinate of the AttackTower.
+     * @param y              The y-coordinate of the AttackTower.
+     * @param health         The health points of the AttackTower.
+     * @param maxHealthPoint The limit of health points of the AttackTower.
      */
-    private void paint(Graphics g, AttackTower tower, String color) {
-        int x = tower.getX();
-        int y = tower.getY();
-        int health = tower.getHealthPoint();
-
-        ImageUtility.drawScaledImage(g, attackTowerImage, x, y, -6, -22, 56, 75);
+    private void paintAttackTower(Graphics g, int x, int y, int health, int maxHealthPoint) {
+        ImageUtility.drawSprite(g, ATTACK_TOWER_IMAGE_FILE_PATH, x, y, -6, -22, 56, 75);
 
 //        paintIndicator.paintElementStatistic(g, health, x, y, 34, 43, IHMConfig.STRUCTURE_STATISTICS_FONT,
 //                IHMConfig.ELEMENT_STATISTICS_COLOR);
-        paintIndicator.paintHealthBar(g, tower);
+        paintIndicator.paintHealthBar(g, health, maxHealthPoint, x, y);
     }
 
     /**
      * This method allows to draw DefenseTower on block using the following parameters.
      *
-     * @param tower The player's DefenseTower to draw.
-     * @param color The player's color.
-     * @param g     The graphics context in which the drawing will be performed.
+     * @param g              The graphics context in which the drawing will be performed.
+     * @param x              The x-coordinate of the DefenseTower.
+     * @param y              The y-coordinate of the DefenseTower.
+     * @param health         The health points of the DefenseTower.
+     * @param maxHealthPoint The limit of health points of the DefenseTower.
      */
-    private void paint(Graphics g, DefenseTower tower, String color) {
-
-        int x = tower.getX();
-        int y = tower.getY();
-        int health = tower.getHealthPoint();
-
-        ImageUtility.drawScaledImage(g, defenseTowerImage, x, y, -6, -20, 56, 75);
-        paintIndicator.paintHealthBar(g, tower);
+    private void paintDefenseTower(Graphics g, int x, int y, int health, int maxHealthPoint) {
+        ImageUtility.drawSprite(g, DEFENSE_TOWER_IMAGE_FILE_PATH, x, y, -6, -20, 56, 75);
+        paintIndicator.paintHealthBar(g, health, maxHealthPoint, x, y);
     }
 
     /**
      * This method allows to draw Tree on block using the following parameters.
      *
-     * @param tree The Tree to draw.
-     * @param g    The graphics context in which the drawing will be performed.
+     * @param g The graphics context in which the drawing will be performed.
+     * @param x The x-coordinate of the Tree.
+     * @param y The y-coordinate of the Tree.
      */
-    private void paint(Graphics g, ForestTree tree) {
-        ImageUtility.drawScaledImage(g, forestTreeImage, tree.getX(), tree.getY(), -3, -3, 48, 48);
+    private void paintForestTree(Graphics g, int x, int y) {
+        ImageUtility.drawSprite(g, FOREST_TREE_IMAGE_FILE_PATH, x, y, -3, -3, 48, 48);
     }
 
     /**
      * This method allows to draw Base on block using the following parameters.
      *
-     * @param base  The player's Base.
-     * @param color The player's color.
-     * @param g     The graphics context in which the drawing will be performed.
+     * @param g              The graphics context in which the drawing will be performed.
+     * @param x              The x-coordinate of the Base.
+     * @param y              The y-coordinate of the Base.
+     * @param health         The health points of the Base.
+     * @param maxHealthPoint The limit of health points of the Base.
+     * @param color          The player's color.
      */
-    private void paint(Graphics g, Base base, String color) {
-        int x = base.getX();
-        int y = base.getY();
-
+    private void paintBase(Graphics g, int x, int y, int health, int maxHealthPoint, String color) {
         // New style colored style for bases
-        Image coloredBaseImage = ImageUtility.readImage("/res/images/gameplay/base" + color + ".png");
-        if (coloredBaseImage != null) {
-            ImageUtility.drawScaledImage(g, coloredBaseImage, x, y, -22, -21, 88, 66);
+        String coloredBaseImagePath = "/res/images/gameplay/base" + color + ".png";
+        if (ImageUtility.readImage(coloredBaseImagePath) != null) {
+            ImageUtility.drawSprite(g, coloredBaseImagePath, x, y, -22, -21, 88, 66);
         } else {
-            ImageUtility.drawScaledImage(g, baseImage, x, y, -22, -21, 88, 66);
+            ImageUtility.drawSprite(g, BASE_IMAGE_FILE_PATH, x, y, -22, -21, 88, 66);
         }
 
-        paintIndicator.paintHealthBar(g, base);
+        paintIndicator.paintHealthBar(g, health, maxHealthPoint, x, y);
 
     }
 
     /**
      * This method allows to draw Soldier on block using the following parameters.
      *
-     * @param soldier The player's Soldier to draw.
-     * @param color   The player's color.
-     * @param g       The graphics context in which the drawing will be performed.
+     * @param g                          The graphics context in which the drawing will be performed.
+     * @param x                          The x-coordinate of the Soldier.
+     * @param y                          The y-coordinate of the Soldier.
+     * @param health                     The health points of the Soldier.
+     * @param maxHealthPoint             The limit of health points of the Soldier.
+     * @param attackPoint                The attack points of the Soldier.
+     * @param canMove                    true when the Soldier can move.
+     * @param lastMoveWasRight           true when the last move of the Soldier was to the right.
+     * @param withAvailableMoveIndicator true to draw the available move indicator when the Soldier can move.
      */
-    private void paint(Graphics g, Soldier soldier, Boolean withAvailableMoveIndicator, String color) {
-        int x = soldier.getX();
-        int y = soldier.getY();
-        int attackPoint = soldier.getAttackPoint();
-        int health = soldier.getHealthPoint();
-
-        if (soldier.lastMoveWasRight()) {
-            ImageUtility.drawScaledImage(g, rightSoldierImage, x, y, -3, -5, 52, 52);
+    private void paintSoldier(Graphics g, int x, int y, int health, int maxHealthPoint, int attackPoint,
+                              Boolean canMove, Boolean lastMoveWasRight, Boolean withAvailableMoveIndicator) {
+        if (lastMoveWasRight) {
+            ImageUtility.drawSprite(g, RIGHT_SOLDIER_IMAGE_FILE_PATH, x, y, -3, -5, 52, 52);
 
         } else {
-            ImageUtility.drawScaledImage(g, leftSoldierImage, x, y, -3, -5, 52, 52);
+            ImageUtility.drawSprite(g, LEFT_SOLDIER_IMAGE_FILE_PATH, x, y, -3, -5, 52, 52);
         }
 
         //draw health bar
-        paintIndicator.paintHealthBar(g, soldier);
+        paintIndicator.paintHealthBar(g, health, maxHealthPoint, x, y);
 
         // draw canMove indicator
-        if (withAvailableMoveIndicator && soldier.canMove()) {
+        if (withAvailableMoveIndicator && canMove) {
             paintIndicator.paintAvailableMoveIndicator(g, x, y);
         }
         //draw attack points
-        paintIndicator.paintElementStatistic(g, attackPoint, x, y, 37, 15, new Font(Font.DIALOG, Font.BOLD, IHMScaling.scale(18)),
+        paintIndicator.paintElementStatistic(g, attackPoint, x, y, 37, 15, SOLDIER_ATTACK_POINT_FONT,
                 IHMConfig.ELEMENT_STATISTICS_COLOR);
     }
 
@@ -161,31 +153,75 @@ public class PaintElement {
      * @param g       The graphics context in which the drawing will be performed.
      */
     public void paint(Graphics g, Element element, String color, Boolean withIndicator) {
+        int x = element.getX();
+        int y = element.getY();
+        int health = element.getHealthPoint();
+        int maxHealthPoint = element.getMaxHealthPoint();
+
         if (element instanceof Base) {
-            paint(g, (Base) element, color);
+            paintBase(g, x, y, health, maxHealthPoint, color);
 
-        } else if (element instanceof Soldier) {
-            paint(g, (Soldier) element, withIndicator, color);
+        } else if (element instanceof Soldier soldier) {
+            paintSoldier(g, x, y, health, maxHealthPoint, soldier.getAttackPoint(), soldier.canMove(),
+                    soldier.lastMoveWasRight(), withIndicator);
 
         } else if (element instanceof House) {
-            paint(g, (House) element, color);
+            paintHouse(g, x, y, health, maxHealthPoint);
 
         } else if (element instanceof AttackTower) {
-            paint(g, (AttackTower) element, color);
+            paintAttackTower(g, x, y, health, maxHealthPoint);
 
         } else if (element instanceof DefenseTower) {
-            paint(g, (DefenseTower) element, color);
+            paintDefenseTower(g, x, y, health, maxHealthPoint);
 
         } else if (element instanceof ForestTree) {
-            paint(g, (ForestTree) element);
+            paintForestTree(g, x, y);
 
         } else {
             // log
         }
     }
 
+    /**
+     * This method allows to draw an element of a {@link BoardSnapshot} with the color of its owner.
+     *
+     * @param g             The graphics context in which the drawing will be performed.
+     * @param snapshot      The snapshot containing the element.
+     * @param element       The index of the element in the snapshot.
+     * @param withIndicator true to draw the available move indicator on soldiers.
+     */
+    public void paint(Graphics g, BoardSnapshot snapshot, int element, Boolean withIndicator) {
+        int cell = snapshot.getElementCell(element);
+        int x = ConversionUtility.IndexToPixel(cell % snapshot.getColumns());
+        int y = ConversionUtility.IndexToPixel(cell / snapshot.getColumns());
+        int health = snapshot.getHealthPoint(element);
+        int maxHealthPoint = snapshot.getMaxHealthPoint(element);
+
+        byte occupant = snapshot.getOccupant(cell);
+
+        if (occupant == BoardStore.OCCUPANT_BASE) {
+            paintBase(g, x, y, health, maxHealthPoint, snapshot.getPlayerColorName(snapshot.getElementOwner(element)));
+
+        } else if (occupant == BoardStore.OCCUPANT_SOLDIER) {
+            paintSoldier(g, x, y, health, maxHealthPoint, snapshot.getAttackPoint(element), snapshot.canMove(element),
+                    snapshot.lastMoveWasRight(element), withIndicator);
+
+        } else if (occupant == BoardStore.OCCUPANT_HOUSE) {
+            paintHouse(g, x, y, health, maxHealthPoint);
+
+        } else if (occupant == BoardStore.OCCUPANT_ATTACK_TOWER) {
+            paintAttackTower(g, x, y, health, maxHealthPoint);
+
+        } else if (occupant == BoardStore.OCCUPANT_DEFENSE_TOWER) {
+            paintDefenseTower(g, x, y, health, maxHealthPoint);
+
+        } else if (occupant == BoardStore.OCCUPANT_FOREST_TREE) {
+            paintForestTree(g, x, y);
+        }
+    }
+
     public void paint(Graphics g, Element element, String color) {
-        paint(g, element, color,true);
+        paint(g, element, color, true);
     }
 
     public void paint(Graphics g, Element element) {
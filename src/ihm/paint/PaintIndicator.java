@@ -23,15 +23,6 @@ public class PaintIndicator {
     private final String SPECIAL_BLOCK_IMAGE_PATH = "/res/images/gameplay/specialBlockIndicator.png";
     private final String SPECIAL_BLOCK_REDUCED_IMAGE_PATH = "/res/images/gameplay/specialBlockIndicator.png";
 
-    //read image before all to ensure reduce performance loss
-    private final Image possibleActionImage = ImageUtility.readImage(POSSIBLE_ACTION_IMAGE_PATH);
-    private final Image allieIndicatorImage = ImageUtility.readImage(ALLIES_INDICATOR_IMAGE_PATH);
-    private final Image ennemieIndicatorImage = ImageUtility.readImage(ENNEMIES_INDICATOR_IMAGE_PATH);
-    private final Image mergeIndicatorImage = ImageUtility.readImage(MERGE_INDICATOR_IMAGE_PATH);
-    private final Image dieIndicatorImage = ImageUtility.readImage(DIE_INDICATOR_IMAGE_PATH);
-    private final Image specialBlockIndicatorImage = ImageUtility.readImage(SPECIAL_BLOCK_IMAGE_PATH);
-    private final Image specialBlockReducedIndicatorImage = ImageUtility.readImage(SPECIAL_BLOCK_REDUCED_IMAGE_PATH);
-
     /**
      * This method allows to draw special indicator on block define as special using the following parameters.
      *
@@ -39,12 +30,22 @@ public class PaintIndicator {
      * @param block The special block.
      */
     public void paintSpecialBlockIndicator(Graphics g, Block block) {
-        if (block.isEmpty()) {
-            ImageUtility.drawScaledImage(g, specialBlockIndicatorImage, block.getX(),
-                    block.getY(), 13, 13, 20, 20);
+        paintSpecialBlockIndicator(g, block.getX(), block.getY(), block.isEmpty());
+    }
+
+    /**
+     * This method allows to draw special indicator on block define as special using the following parameters.
+     *
+     * @param g       The graphics context in which the drawing will be performed.
+     * @param x       The x-coordinate of the special block.
+     * @param y       The y-coordinate of the special block.
+     * @param isEmpty true when no element is on the special block.
+     */
+    public void paintSpecialBlockIndicator(Graphics g, int x, int y, Boolean isEmpty) {
+        if (isEmpty) {
+            ImageUtility.drawSprite(g, SPECIAL_BLOCK_IMAGE_PATH, x, y, 13, 13, 20, 20);
         } else {
-            ImageUtility.drawScaledImage(g, specialBlockReducedIndicatorImage, block.getX(),
-                    block.getY(), 16, -7, 20, 20);
+            ImageUtility.drawSprite(g, SPECIAL_BLOCK_REDUCED_IMAGE_PATH, x, y, 16, -7, 20, 20);
         }
     }
 
@@ -84,7 +85,7 @@ public class PaintIndicator {
      * @param block The block that contains the soldier that can't be attacked.
      */
     public void paintAlliesIndicator(Graphics g, Block block) {
-        ImageUtility.drawScaledImage(g, allieIndicatorImage, block.getX(), block.getY(), 8, 0, 32, 32);
+        ImageUtility.drawSprite(g, ALLIES_INDICATOR_IMAGE_PATH, block.getX(), block.getY(), 8, 0, 32, 32);
     }
 
     /**
@@ -94,7 +95,7 @@ public class PaintIndicator {
      * @param block The block that contains the soldier that can be attacked.
      */
     public void paintAttackableIndicator(Graphics g, Block block) {
-        ImageUtility.drawScaledImage(g, ennemieIndicatorImage, block.getX(), block.getY(), 10, 0, 32, 32);
+        ImageUtility.drawSprite(g, ENNEMIES_INDICATOR_IMAGE_PATH, block.getX(), block.getY(), 10, 0, 32, 32);
     }
 
     /**
@@ -104,7 +105,7 @@ public class PaintIndicator {
      * @param block The block that contains the soldier that can be merged.
      */
     public void paintMergeIndicator(Graphics g, Block block) {
-        ImageUtility.drawScaledImage(g, mergeIndicatorImage, block.getX(), block.getY(), 8, 6, 32, 32);
+        ImageUtility.drawSprite(g, MERGE_INDICATOR_IMAGE_PATH, block.getX(), block.getY(), 8, 6, 32, 32);
     }
 
     /**
@@ -127,7 +128,7 @@ public class PaintIndicator {
      * @param y The y-coordinate of the element to draw.
      */
     public void paintAvailableMoveIndicator(Graphics g, int x, int y) {
-        ImageUtility.drawScaledImage(g, possibleActionImage, x, y, -3, -4, 18, 18);
+        ImageUtility.drawSprite(g, POSSIBLE_ACTION_IMAGE_PATH, x, y, -3, -4, 18, 18);
     }
 
     /**
@@ -149,10 +150,22 @@ public class PaintIndicator {
     }
 
     public void paintHealthBar(Graphics g, Element element) {
-        int pathIndex = ((6 * element.getHealthPoint()) / element.getMaxHealthPoint()) == 0 ? 1 : (6 * element.getHealthPoint()) / element.getMaxHealthPoint();
+        paintHealthBar(g, element.getHealthPoint(), element.getMaxHealthPoint(), element.getX(), element.getY());
+    }
+
+    /**
+     * This method allows to draw the health bar of an element using the following parameters:
+     *
+     * @param g              The graphics context in which the drawing will be performed.
+     * @param healthPoint    The health points of the element.
+     * @param maxHealthPoint The limit of health points of the element.
+     * @param x              The x-coordinate of the element.
+     * @param y              The y-coordinate of the element.
+     */
+    public void paintHealthBar(Graphics g, int healthPoint, int maxHealthPoint, int x, int y) {
+        int pathIndex = ((6 * healthPoint) / maxHealthPoint) == 0 ? 1 : (6 * healthPoint) / maxHealthPoint;
 
-        ImageUtility.drawScaledImage(g, ImageUtility.readImage("/res/images/gameplay/health" + pathIndex + ".png"),
-                element.getX(), element.getY(), 0, 39, 44, 10);
+        ImageUtility.drawSprite(g, "/res/images/gameplay/health" + pathIndex + ".png", x, y, 0, 39, 44, 10);
     }
 
 }
@@ -0,0 +1,170 @@
+package ihm.paint;
+
+import configuration.IHMConfig;
+import data.board.BoardSnapshot;
+import data.board.BoardStore;
+import data.board.GameMap;
+import ihm.util.ImageUtility;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * This class paints the map of a game in three cached layers drawn one over the other :
+ * <ul>
+ *     <li>the background, scaled once when the layers are created,</li>
+ *     <li>the territory, in which only blocks whose owner changed since the last painting are painted again,</li>
+ *     <li>the sprites of elements, painted again only when a new {@link BoardSnapshot} is published.</li>
+ * </ul>
+ * Painting a frame without change only draws the three cached images.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class PaintLayers {
+
+    /**
+     * Owner painted on a block which has never been painted.
+     */
+    private static final int NOT_PAINTED = Integer.MIN_VALUE;
+
+    /**
+     * Owner painted on a removed block, nothing is painted on it.
+     */
+    private static final int REMOVED = Integer.MIN_VALUE + 1;
+
+    private final PaintMap paintMap = new PaintMap();
+    private final PaintElement paintElement = new PaintElement();
+
+    private final GameMap map;
+
+    private BufferedImage backgroundLayer = null;
+    private BufferedImage territoryLayer = null;
+    private BufferedImage spriteLayer = null;
+
+    /**
+     * Owner of each block as painted in the territory layer.
+     */
+    private int[] paintedOwners = null;
+
+    /**
+     * Snapshot painted in the sprite layer.
+     */
+    private BoardSnapshot paintedSnapshot = null;
+
+    /**
+     * @param map the map to paint.
+     * @throws IllegalArgumentException if map is null.
+     */
+    public PaintLayers(GameMap map) throws IllegalArgumentException {
+        if (map == null) {
+            throw new IllegalArgumentException();
+        }
+        this.map = map;
+    }
+
+    /**
+     * Creates the layers and paints the background in its layer.
+     */
+    private void createLayers() {
+        int width = Math.max(paintMap.getScaledWidth(), (map.getColumns() + 2) * IHMConfig.BLOCK_SIZE);
+        int height = Math.max(paintMap.getScaledHeight(), (map.getLines() + 2) * IHMConfig.BLOCK_SIZE);
+
+        backgroundLayer = ImageUtility.createCompatibleImage(width, height);
+        territoryLayer = ImageUtility.createCompatibleImage(width, height);
+        spriteLayer = ImageUtility.createCompatibleImage(width, height);
+
+        Graphics2D g = backgroundLayer.createGraphics();
+        paintMap.paint(g, map);
+        g.dispose();
+
+        paintedOwners = new int[map.getTotalCells()];
+        Arrays.fill(paintedOwners, NOT_PAINTED);
+        paintedSnapshot = null;
+    }
+
+    /**
+     * Paints again in the territory layer the blocks whose owner is not the same in the snapshot.
+     */
+    private void updateTerritoryLayer(BoardSnapshot snapshot) {
+        int length = IHMConfig.BLOCK_SIZE - IHMConfig.BLOCK_ESCAPEMENT_SIZE;
+        Graphics2D g = null;
+
+        for (int cell = 0; cell < snapshot.getTotalCells(); cell++) {
+            int owner = snapshot.isRemoved(cell) ? REMOVED : snapshot.getOwner(cell);
+            if (owner != paintedOwners[cell]) {
+                if (g == null) {
+                    g = territoryLayer.createGraphics();
+                }
+                int x = map.getBlockByCell(cell).getX();
+                int y = map.getBlockByCell(cell).getY();
+
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(x, y, length, length);
+                g.setComposite(AlphaComposite.SrcOver);
+
+                if (owner != REMOVED) {
+                    Color color = snapshot.getPlayerColor(owner);
+                    paintMap.paint(g, map.getBlockByCell(cell), color != null ? color : IHMConfig.NEUTRAL_BLOCK_COLOR);
+                }
+                paintedOwners[cell] = owner;
+            }
+        }
+
+        if (g != null) {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Paints again all elements of the snapshot in the sprite layer.
+     */
+    private void updateSpriteLayer(BoardSnapshot snapshot) {
+        Graphics2D g = spriteLayer.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, spriteLayer.getWidth(), spriteLayer.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+
+        //Draws trees
+        for (int element = 0; element < snapshot.getTotalElements(); element++) {
+            if (snapshot.getOccupant(snapshot.getElementCell(element)) == BoardStore.OCCUPANT_FOREST_TREE) {
+                paintElement.paint(g, snapshot, element, false);
+            }
+        }
+
+        //Draws all player's Element (from top to bottom)
+        Boolean withIndicator = !snapshot.currentPlayerIsBot();
+        for (int cell = 0; cell < snapshot.getTotalCells(); cell++) {
+            int element = snapshot.getElementAt(cell);
+            if (element != BoardSnapshot.NO_ELEMENT && snapshot.getOccupant(cell) != BoardStore.OCCUPANT_FOREST_TREE) {
+                paintElement.paint(g, snapshot, element, withIndicator);
+            }
+        }
+
+        g.dispose();
+        paintedSnapshot = snapshot;
+    }
+
+    /**
+     * Brings the layers up to date with the snapshot then draws them.
+     *
+     * @param g        The graphics context in which the drawing will be performed.
+     * @param snapshot The snapshot to paint, when null only the background is drawn.
+     */
+    public void paint(Graphics g, BoardSnapshot snapshot) {
+        if (backgroundLayer == null) {
+            createLayers();
+        }
+
+        g.drawImage(backgroundLayer, 0, 0, null);
+
+        if (snapshot != null) {
+            if (snapshot != paintedSnapshot) {
+                updateTerritoryLayer(snapshot);
+                updateSpriteLayer(snapshot);
+            }
+            g.drawImage(territoryLayer, 0, 0, null);
+            g.drawImage(spriteLayer, 0, 0, null);
+        }
+    }
+}
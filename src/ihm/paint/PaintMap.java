@@ -3,6 +3,7 @@ package ihm.paint;
 import configuration.IHMConfig;
 import data.board.Block;
 import data.board.GameMap;
+import ihm.util.IHMScaling;
 import ihm.util.ImageUtility;
 
 import java.awt.*;
@@ -37,6 +38,20 @@ public class PaintMap {
         ImageUtility.drawScaledImage(g, backgroundImage, 0, 0, 0, 0, DEFAULT_MAP_IMAGE_WIDTH, DEFAULT_MAP_IMAGE_HEIGHT);
     }
 
+    /**
+     * @return the width in pixels of the background drawn by this painter.
+     */
+    public int getScaledWidth() {
+        return IHMScaling.scale(DEFAULT_MAP_IMAGE_WIDTH);
+    }
+
+    /**
+     * @return the height in pixels of the background drawn by this painter.
+     */
+    public int getScaledHeight() {
+        return IHMScaling.scale(DEFAULT_MAP_IMAGE_HEIGHT);
+    }
+
     /**
      * This method allows to draw a Block using the following parameters.
      *
@@ -10,7 +10,12 @@ import java.awt.*;
  */
 public final class IHMScaling {
 
-    public static final Dimension SCREEN_SIZE = Toolkit.getDefaultToolkit().getScreenSize();
+    /**
+     * Screen size used when there is no screen (headless environment), the display is then considered as 1080p.
+     */
+    private static final Dimension HEADLESS_SCREEN_SIZE = new Dimension(1920, 1080);
+
+    public static final Dimension SCREEN_SIZE = findScreenSize();
 
     /**
      * The scaling value to adjust elements on screen based on the resolution.
@@ -19,6 +24,16 @@ public final class IHMScaling {
      */
     public static final double SCALING_VALUE = SCREEN_SIZE.width * 1.035 / 2002;
 
+    /**
+     * @return the size of the screen, or HEADLESS_SCREEN_SIZE when the game runs without screen.
+     */
+    private static Dimension findScreenSize() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return HEADLESS_SCREEN_SIZE;
+        }
+        return Toolkit.getDefaultToolkit().getScreenSize();
+    }
+
     /**
      * Scales a double value based on the scaling value.
      *
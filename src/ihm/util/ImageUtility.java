@@ -8,9 +8,11 @@ import org.apache.log4j.Logger;
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This utility class provides several methods for reading and drawing images with scaling factor.
@@ -19,36 +21,124 @@ import java.net.URL;
  */
 public class ImageUtility {
 
+    private static final Logger logger = LoggerUtility.getLogger(ImageUtility.class);
+
+    /**
+     * Key of a scaled image in the cache.
+     */
+    private record ScaledImageKey(String filePath, int width, int height, boolean smooth) {
+    }
 
+    /**
+     * Stands for an image which can't be read in the caches, so the file is read only once.
+     */
+    private static final BufferedImage MISSING_IMAGE = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
 
-    private static final Logger logger = LoggerUtility.getLogger(ImageUtility.class);
+    /**
+     * Images read from files by path, shared by the whole process.
+     */
+    private static final ConcurrentHashMap<String, BufferedImage> IMAGES_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Images scaled once to the size they are drawn, shared by the whole process.
+     */
+    private static final ConcurrentHashMap<ScaledImageKey, BufferedImage> SCALED_IMAGES_CACHE = new ConcurrentHashMap<>();
 
     /**
-     * Reads an image from the specified file path.
+     * Reads an image from the specified file path and converts it in a format compatible with the screen.
+     *
+     * @return the image, MISSING_IMAGE if an exception occurs.
+     */
+    private static BufferedImage loadImage(String filePath) {
+        BufferedImage result = null;
+        try {
+            if (DevConfig.READ_RESOURCE_AS_STREAM) {
+                URL url = IHMConfig.class.getResource(filePath);
+                if (url != null) {
+                    result = ImageIO.read(url);
+                }
+            } else {
+                result = ImageIO.read(new File("src" + filePath));
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            result = null;
+        }
+
+        if (result == null) {
+            logger.error("Attempt to read image " + filePath + " but it failed.");
+            return MISSING_IMAGE;
+        }
+        return scaleImage(result, result.getWidth(), result.getHeight(), false);
+    }
+
+    /**
+     * Draws an image in a new compatible image of the given size.
+     */
+    private static BufferedImage drawInNewImage(Image image, int width, int height, Object interpolation) {
+        BufferedImage result = createCompatibleImage(width, height);
+        Graphics2D g = result.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return result;
+    }
+
+    /**
+     * Scales an image. A smooth scaling halves the size of the image step by step before the last scaling, to get
+     * a result close to an area averaging.
+     */
+    private static BufferedImage scaleImage(BufferedImage image, int width, int height, boolean smooth) {
+        BufferedImage result = image;
+        if (smooth) {
+            int currentWidth = image.getWidth();
+            int currentHeight = image.getHeight();
+            while (currentWidth / 2 >= width && currentHeight / 2 >= height) {
+                currentWidth /= 2;
+                currentHeight /= 2;
+                result = drawInNewImage(result, currentWidth, currentHeight, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            }
+            return drawInNewImage(result, width, height, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return drawInNewImage(result, width, height, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    }
+
+    /**
+     * Reads an image from the specified file path, each file is read once then the image is shared by the whole
+     * process, so the returned image must not be modified.
      *
      * @param filePath the path of the image file to be read.
      * @return the {@link Image} Image object, return null if an exception occurs.
      */
-
     public static Image readImage(String filePath) {
-        Image result = null;
-        if (filePath != null) {
-            try {
-                if (DevConfig.READ_RESOURCE_AS_STREAM) {
-                    URL url = IHMConfig.class.getResource(filePath);
-                    if (url != null) {
-                        result = ImageIO.read(url);
-                    }
-                } else {
-                    result = ImageIO.read(new File("src"+filePath));
-                }
-            } catch (IllegalArgumentException | IOException e) {
-                logger.error("Attempt to read image " + filePath + " but it failed.");
-            }
-        } else {
+        if (filePath == null) {
             logger.error("Bad path given to read image.");
+            return null;
         }
-        return result;
+        BufferedImage result = IMAGES_CACHE.computeIfAbsent(filePath, ImageUtility::loadImage);
+        return result != MISSING_IMAGE ? result : null;
+    }
+
+    /**
+     * Reads an image from the specified file path scaled to the given size, each image is scaled once then shared by
+     * the whole process, so the returned image must not be modified.
+     *
+     * @param filePath the path of the image file to be read.
+     * @param width    the width of the image in pixels.
+     * @param height   the height of the image in pixels.
+     * @param smooth   true for a smooth scaling (icons), false to keep sharp pixels (sprites of the game).
+     * @return the scaled image, return null if an exception occurs.
+     */
+    public static BufferedImage getScaledImage(String filePath, int width, int height, boolean smooth) {
+        if (filePath == null || width <= 0 || height <= 0) {
+            logger.error("Bad path or size given to read image.");
+            return null;
+        }
+        BufferedImage result = SCALED_IMAGES_CACHE.computeIfAbsent(new ScaledImageKey(filePath, width, height, smooth),
+                key -> {
+                    BufferedImage image = (BufferedImage) readImage(filePath);
+                    return image != null ? scaleImage(image, width, height, smooth) : MISSING_IMAGE;
+                });
+        return result != MISSING_IMAGE ? result : null;
     }
 
     /**
@@ -60,28 +150,8 @@ public class ImageUtility {
      * @return the {@link ImageIcon} Image object, return null if an exception occurs.
      */
     public static ImageIcon getIcon(String filePath, int width, int height) {
-        ImageIcon result = null;
-        Image image = null;
-        if (filePath != null) {
-            try {
-                if (DevConfig.READ_RESOURCE_AS_STREAM) {
-                    URL url = IHMConfig.class.getResource(filePath);
-                    if (url != null) {
-                        image = ImageIO.read(url);
-                    }
-                } else {
-                    image = ImageIO.read(new File("src/"+filePath));
-                }
-                if (image != null) {
-                    result = new ImageIcon(image.getScaledInstance(width, height, Image.SCALE_AREA_AVERAGING));
-                }
-            } catch (IllegalArgumentException | IOException e) {
-                logger.error("Attempt to read image " + filePath + " but it failed.");
-            }
-        } else {
-            logger.error("Bad path given to read image.");
-        }
-        return result;
+        BufferedImage image = getScaledImage(filePath, width, height, true);
+        return image != null ? new ImageIcon(image) : null;
     }
 
     /**
@@ -136,4 +206,41 @@ public class ImageUtility {
         g.drawImage(image, x + IHMScaling.scale(xOffset), y + IHMScaling.scale(yOffset),
                 IHMScaling.scale(width), IHMScaling.scale(height), null);
     }
+
+    /**
+     * Draws an image with scaling factor determined by the {@link IHMScaling}, the image is scaled once and kept in
+     * cache, so drawing it is a plain copy of pixels.
+     *
+     * @param g        The graphics context in which the drawing will be performed.
+     * @param filePath The path of the image to draw.
+     * @param x        The x-coordinate of the image to draw.
+     * @param y        The y-coordinate of the image to draw.
+     * @param xOffset  Adding x-offset to correctly placed image on the screen.
+     * @param yOffset  Adding y-offset to correctly placed image on the screen.
+     * @param width    The width of the image that will be scaled.
+     * @param height   The height of the image that will be scaled.
+     */
+    public static void drawSprite(Graphics g, String filePath, int x, int y, int xOffset, int yOffset, int width,
+                                  int height) {
+        BufferedImage sprite = getScaledImage(filePath, IHMScaling.scale(width), IHMScaling.scale(height), false);
+        if (sprite != null) {
+            g.drawImage(sprite, x + IHMScaling.scale(xOffset), y + IHMScaling.scale(yOffset), null);
+        }
+    }
+
+    /**
+     * Creates a transparent image compatible with the screen, so it can be drawn without conversion. In a headless
+     * environment a standard ARGB image is created.
+     *
+     * @param width  the width of the image in pixels.
+     * @param height the height of the image in pixels.
+     * @return the new image, fully transparent.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
 }
@@ -1,17 +1,40 @@
 package log;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Enumeration;
 
+import org.apache.log4j.Appender;
+import org.apache.log4j.AsyncAppender;
+import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.apache.log4j.PropertyConfigurator;
 
 /**
  * Utility class used to generate Log4j logger.
+ * <p>
+ * By default, logs are written synchronously with the location of each line (see log4j-html.properties). When the
+ * system property {@link #LOG_MODE_PROPERTY} is {@link #ASYNC_LOG_MODE}, log4j-async.properties is used instead and its
+ * appenders are moved behind an {@link AsyncAppender} : lines are put in a bounded buffer and written by a background
+ * thread, lines are discarded (and counted) when the buffer is full instead of blocking the game.
  */
 public class LoggerUtility {
     private static final String HTML_LOG_CONFIG = "src/log/log4j-html.properties";
+    private static final String ASYNC_LOG_CONFIG = "src/log/log4j-async.properties";
     private static final String LOG_FILE_TYPE = ".html";
+
+    /**
+     * System property choosing how logs are written, set it before the first logger is created.
+     */
+    public static final String LOG_MODE_PROPERTY = "conquete.log.mode";
+    public static final String ASYNC_LOG_MODE = "async";
+
+    /**
+     * Maximum amount of lines waiting to be written in asynchronous mode.
+     */
+    private static final int ASYNC_BUFFER_SIZE = 1024;
+
     private static String logFilename = null;
 
     public static synchronized Logger getLogger(Class<?> logClass) {
@@ -20,9 +43,50 @@ public class LoggerUtility {
             String timestamp = dateFormat.format(new Date());
             logFilename = "src/log/logs_" + timestamp + LOG_FILE_TYPE;
             System.setProperty("logFilename", logFilename);
-            PropertyConfigurator.configure(HTML_LOG_CONFIG);
+
+            if (ASYNC_LOG_MODE.equals(System.getProperty(LOG_MODE_PROPERTY))) {
+                PropertyConfigurator.configure(ASYNC_LOG_CONFIG);
+                useAsyncAppender();
+            } else {
+                PropertyConfigurator.configure(HTML_LOG_CONFIG);
+            }
         }
         return Logger.getLogger(logClass);
     }
-}
 
+    /**
+     * Selects the asynchronous mode when no mode has been chosen, must be called before the first logger is created.
+     */
+    public static void useAsyncModeByDefault() {
+        if (System.getProperty(LOG_MODE_PROPERTY) == null) {
+            System.setProperty(LOG_MODE_PROPERTY, ASYNC_LOG_MODE);
+        }
+    }
+
+    /**
+     * Moves the appenders of the root logger behind an {@link AsyncAppender}, the lines waiting in its buffer are
+     * written when the JVM stops.
+     */
+    private static void useAsyncAppender() {
+        Logger rootLogger = Logger.getRootLogger();
+
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setBufferSize(ASYNC_BUFFER_SIZE);
+        asyncAppender.setBlocking(false);
+        asyncAppender.setLocationInfo(false);
+
+        ArrayList<Appender> appenders = new ArrayList<>();
+        Enumeration<?> enumeration = rootLogger.getAllAppenders();
+        while (enumeration.hasMoreElements()) {
+            appenders.add((Appender) enumeration.nextElement());
+        }
+        //removeAllAppenders() would close them
+        for (Appender appender : appenders) {
+            rootLogger.removeAppender(appender);
+            asyncAppender.addAppender(appender);
+        }
+        rootLogger.addAppender(asyncAppender);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(LogManager::shutdown, "log-shutdown"));
+    }
+}
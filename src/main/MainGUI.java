@@ -3,6 +3,8 @@ package main;
 import configuration.IHMConfig;
 import data.board.GameMap;
 import engine.exception.InvalidMapFileException;
+import engine.exception.UnsupportedSaveException;
+import engine.util.GameJournal;
 import engine.util.GameSerializer;
 import ihm.menu.MainMenu;
 import ihm.menu.StartMenu;
@@ -11,6 +13,7 @@ import main.game.Game;
 import org.apache.log4j.Logger;
 
 import javax.swing.*;
+import java.io.IOException;
 
 /**
  * This is the Main class, that contains the {@link Game} object to play a game.
@@ -99,7 +102,11 @@ public class MainGUI extends JFrame {
     public void initNewGame(int amountPlayers, int amountBots, int difficultLevel, GameMap map) {
 
         try {
-            game = new Game(amountPlayers, amountBots, difficultLevel, map);
+            Game newGame = new Game(amountPlayers, amountBots, difficultLevel, map);
+            stopGame();
+            game = newGame;
+            game.startAutosave(GameSerializer.SAVED_GAME_PATH);
+            game.startJournal(GameJournal.JOURNAL_PATH);
             logger.info("A new game starts successfully from now.");
         } catch (IllegalArgumentException e) {
             logger.error("An error occurred while launching the game : amount of player/bot is invalid.");
@@ -115,9 +122,33 @@ public class MainGUI extends JFrame {
      * if the saved {@link Game} object was successfully re-created.
      */
     public void loadSavedGame() {
-        game = GameSerializer.getSavedGame(GameSerializer.SAVED_GAME_PATH);
+        Game savedGame;
+        try {
+            savedGame = GameSerializer.loadGame(GameSerializer.SAVED_GAME_PATH);
+        } catch (UnsupportedSaveException e) {
+            JOptionPane.showMessageDialog(this,
+                    "This save was made with another version of the game and can't be loaded.", "Load save",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "The saved game can't be loaded.", "Load save",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        stopGame();
+        game = savedGame;
+        game.startAutosave(GameSerializer.SAVED_GAME_PATH);
+        game.startJournal(GameJournal.JOURNAL_PATH);
+        switchToGameDisplay();
+    }
+
+    /**
+     * Stops the current game before another game replaces it, its journal and save files are then reused.
+     */
+    private void stopGame() {
         if (game != null) {
-            switchToGameDisplay();
+            game.stop();
         }
     }
 
@@ -0,0 +1,47 @@
+package main;
+
+import engine.process.BatchSimulator;
+import engine.util.BatchStatistic;
+import engine.util.GameRandom;
+import log.LoggerUtility;
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+/**
+ * Run games between bots on all maps, difficult levels and amounts of bots using all cores, then prints statistics of
+ * each configuration as CSV. Arguments (optional) : amount of games per configuration, maximum amount of turns of a
+ * game, seed of the batch, path of the CSV file (printed in the console when not given).
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class RunBatchSimulation {
+
+    public static void main(String[] args) throws FileNotFoundException {
+        int gamesPerConfiguration = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : new GameRandom().nextLong();
+
+        //thousands of games are played, bots log many warnings so only errors are logged
+        LoggerUtility.getLogger(RunBatchSimulation.class);
+        LogManager.getRootLogger().setLevel(Level.ERROR);
+
+        BatchSimulator simulator = new BatchSimulator(gamesPerConfiguration, maxTurns, seed);
+        long start = System.currentTimeMillis();
+        ArrayList<BatchStatistic> statistics = simulator.run();
+        simulator.shutdown();
+
+        PrintStream output = args.length > 3 ? new PrintStream(args[3]) : System.out;
+        output.println(BatchStatistic.csvHeader());
+        for (BatchStatistic statistic : statistics) {
+            output.println(statistic.toCsvLine());
+        }
+        if (output != System.out) {
+            output.close();
+        }
+        System.err.println("Batch simulation (seed " + seed + ") done in " + (System.currentTimeMillis() - start) + " ms.");
+    }
+}
@@ -0,0 +1,47 @@
+package main;
+
+import benchmark.BenchmarkResult;
+import benchmark.BenchmarkRunner;
+import benchmark.EngineBenchmarks;
+import log.LoggerUtility;
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+/**
+ * Run benchmarks of the engine on all maps then prints measures of each benchmark as CSV, so measures of two commits can
+ * be compared. Arguments (optional) : regular expression selecting benchmarks by name, path of the CSV file (printed in
+ * the console when not given), amount of measurement iterations, time of an iteration in ms, seed of the games.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class RunBenchmarks {
+
+    public static void main(String[] args) throws FileNotFoundException {
+        String filter = args.length > 0 ? args[0] : "";
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        long iterationTime = args.length > 3 ? Long.parseLong(args[3]) : 500;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 1;
+
+        //bots log many warnings while games are played, so only errors are logged
+        LoggerUtility.getLogger(RunBenchmarks.class);
+        LogManager.getRootLogger().setLevel(Level.ERROR);
+
+        BenchmarkRunner runner = new BenchmarkRunner(iterations, iterations, iterationTime);
+        long start = System.currentTimeMillis();
+        ArrayList<BenchmarkResult> results = new EngineBenchmarks(runner, filter, seed).run();
+
+        PrintStream output = args.length > 1 && !args[1].isEmpty() ? new PrintStream(args[1]) : System.out;
+        output.println(BenchmarkResult.csvHeader());
+        for (BenchmarkResult result : results) {
+            output.println(result.toCsvLine());
+        }
+        if (output != System.out) {
+            output.close();
+        }
+        System.err.println("Benchmarks (seed " + seed + ") done in " + (System.currentTimeMillis() - start) + " ms.");
+    }
+}
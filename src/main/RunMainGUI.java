@@ -1,13 +1,19 @@
 package main;
 
+import log.LoggerUtility;
+
 /**
  * Run the game through the menus.
+ * Logs are written asynchronously, unless another mode is given with the {@link LoggerUtility#LOG_MODE_PROPERTY} property.
  *
  * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
  */
 public class RunMainGUI {
 
     public static void main(String[] args) {
+        //the bots play within a time budget, writing the logs must not slow their turns down
+        LoggerUtility.useAsyncModeByDefault();
+
         MainGUI.getInstance().switchToMainMenu();
     }
 }
@@ -0,0 +1,57 @@
+package main;
+
+import data.player.Player;
+import engine.process.ReplayEngine;
+import engine.util.GameJournal;
+import engine.util.GameJournalReader;
+import log.LoggerUtility;
+import main.game.GameManager;
+
+import java.io.IOException;
+
+/**
+ * Rebuilds a turn of a journaled game without graphical interface and without running the bots, can be used in a
+ * headless environment.
+ * Arguments (optional) : path of the journal (the journal of the last game by default), turn to rebuild (the last turn
+ * of the journal by default).
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class RunReplay {
+
+    public static void main(String[] args) {
+        //the game is replayed as fast as possible, logs are written in the background
+        LoggerUtility.useAsyncModeByDefault();
+
+        String journalPath = args.length > 0 ? args[0] : GameJournal.JOURNAL_PATH;
+
+        try {
+            long start = System.nanoTime();
+            GameJournalReader reader = new GameJournalReader(journalPath);
+            ReplayEngine replayEngine = new ReplayEngine(reader);
+            long duration = System.nanoTime() - start;
+
+            System.out.println("Journal : " + journalPath + " (" + reader.getRecordCount() + " records, turns "
+                    + replayEngine.getFirstTurn() + " to " + replayEngine.getLastTurn() + ", "
+                    + replayEngine.getKeyframeCount() + " keyframes) read in " + duration / 1000000 + " ms");
+            if (replayEngine.getDivergentRecords() > 0) {
+                System.out.println("Divergent records : " + replayEngine.getDivergentRecords());
+            }
+
+            int turn = args.length > 1 ? Integer.parseInt(args[1]) : replayEngine.getLastTurn();
+            start = System.nanoTime();
+            GameManager gameManager = replayEngine.seek(turn);
+            duration = System.nanoTime() - start;
+
+            System.out.println("Turn " + turn + " rebuilt in " + duration / 1000000 + " ms, current player : "
+                    + gameManager.getPlayersManager().getCurrentPlayer().getColorName());
+            for (Player player : gameManager.getPlayersManager().getPlayerList()) {
+                System.out.println(player.getColorName() + " : " + player.getTotalOwnedBlocks() + " blocks, "
+                        + player.getTotalGold() + " gold" + (player.hasLost() ? " (lost)" : ""));
+            }
+
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Can't replay the journal " + journalPath + " : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package main;
+
+import configuration.MapsConfig;
+import data.player.Player;
+import engine.process.GameSimulator;
+import engine.monitoring.TurnProfiler;
+import engine.process.SimulationResult;
+import engine.util.GameRandom;
+import log.LoggerUtility;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Run a game between bots without graphical interface, can be used in a headless environment.
+ * Arguments (optional) : index of the map in {@link MapsConfig#AVAILABLE_MAPS_LIST}, amount of bots, maximum amount of
+ * turns, seed of the game (to replay a game), path of a CSV file in which the time spent in each phase of each turn is
+ * written (the phases are then measured and summarized).
+ * Logs are written asynchronously, unless another mode is given with the {@link LoggerUtility#LOG_MODE_PROPERTY} property.
+ *
+ * @author Eric ADELAIDE-BEAUBRUN, William GABITA, Mya SOUDAIN.
+ */
+public class RunSimulation {
+
+    public static void main(String[] args) {
+        //the game is played as fast as possible, logs are written in the background
+        LoggerUtility.useAsyncModeByDefault();
+
+        int mapIndex = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        int amountBots = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int maxTurns = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        GameSimulator simulator = new GameSimulator(MapsConfig.AVAILABLE_MAPS_LIST[mapIndex], amountBots, 1, maxTurns);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new GameRandom().nextLong();
+        String profilePath = args.length > 4 ? args[4] : null;
+
+        TurnProfiler profiler = profilePath != null ? new TurnProfiler() : TurnProfiler.DISABLED;
+        SimulationResult result = simulator.run(seed, profiler);
+
+        System.out.println("Map : " + result.getMapTitle() + " (seed " + result.getSeed() + ")");
+        System.out.println("Turns : " + result.getTotalTurns() + " in " + result.getTotalDuration() / 1000000 + " ms");
+        System.out.println("Winner : " + (result.hasWinner() ? result.getWinner().getColorName() : "none"));
+        for (Player player : result.getPlayers()) {
+            System.out.println(player.getColorName() + " : " + player.getTotalOwnedBlocks() + " blocks"
+                    + (player.hasLost() ? " (lost)" : ""));
+        }
+        if (result.getBotErrors() > 0) {
+            System.out.println("Bot errors : " + result.getBotErrors());
+        }
+
+        if (profilePath != null) {
+            System.out.println();
+            profiler.printSummary(System.out);
+            try (PrintStream output = new PrintStream(profilePath, StandardCharsets.UTF_8)) {
+                profiler.printTurnsCsv(output);
+            } catch (IOException e) {
+                System.err.println("Can't write the profile of turns in : " + profilePath + ".");
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package main.game;
 import configuration.GameplayConfig;
 import data.board.GameMap;
 import data.player.Player;
+import engine.util.AutosaveService;
+import engine.util.GameJournal;
 import engine.util.GameStatistic;
 import engine.exception.InvalidMapFileException;
 import data.element.ElementsMap;
@@ -11,6 +13,8 @@ import engine.process.PlayersManager;
 import log.LoggerUtility;
 import org.apache.log4j.Logger;
 
+import java.io.IOException;
+
 /**
  * The Game class represents the main object in the game that contains all data and processes related to the game.
  * It manages all data and graphical elements, and performs all necessary actions during the game.
@@ -128,6 +132,44 @@ public class Game {
         logger.info("Game successfully created with " + playersManager.getPlayerAmount() + " players on map : " + map.getTitle() + ".");
     }
 
+    /**
+     * Starts saving the game periodically (see {@link AutosaveService}), the game is not saved until this method is
+     * called.
+     *
+     * @param path the saved game file path, replaced at each save.
+     */
+    public void startAutosave(String path) {
+        gameManager.setAutosaveService(new AutosaveService(path, GameplayConfig.AUTOSAVE_TURNS_PERIOD));
+    }
+
+    /**
+     * Starts writing every change of the game in a {@link GameJournal}, from the current state of the game. The game
+     * is not journaled until this method is called.
+     *
+     * @param path the journal file path, the existing file is replaced.
+     */
+    public void startJournal(String path) {
+        try {
+            gameManager.setJournal(new GameJournal(path, gameManager));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Failed to create game journal, the game is not journaled.");
+        }
+    }
+
+    /**
+     * Stops the game before another game replaces it : bots stop playing, the journal is closed and the last saves are
+     * written before this method returns, so the next game can use the same files.
+     */
+    public void stop() {
+        gameDisplay.stopBots();
+        gameManager.setJournal(null);
+        AutosaveService autosaveService = gameManager.getAutosaveService();
+        if (autosaveService != null) {
+            gameManager.setAutosaveService(null);
+            autosaveService.shutdown();
+        }
+    }
+
     public GameDisplay getGameDisplay() {
         return gameDisplay;
     }
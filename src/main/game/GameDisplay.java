@@ -3,17 +3,19 @@ package main.game;
 import configuration.GameplayConfig;
 import configuration.IHMConfig;
 import data.board.Block;
+import data.board.BoardSnapshot;
+import data.board.BoardStore;
 import data.board.GameMap;
-import data.element.*;
 import data.player.Player;
+import engine.monitoring.RepaintEvent;
 import ihm.listener.*;
 import ihm.listener.shop.BuyAttackTower;
 import ihm.listener.shop.BuyDefenseTower;
 import ihm.listener.shop.BuyHouse;
 import ihm.listener.shop.BuySoldier;
-import ihm.paint.PaintElement;
+import ihm.paint.DirtyCells;
 import ihm.paint.PaintIndicator;
-import ihm.paint.PaintMap;
+import ihm.paint.PaintLayers;
 import ihm.sidepanel.PlayersInformationPanel;
 import ihm.sidepanel.SettingsPanel;
 import ihm.util.IHMScaling;
@@ -23,6 +25,7 @@ import main.MainGUI;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseListener;
 import java.util.ArrayList;
@@ -33,6 +36,8 @@ public class GameDisplay extends JPanel {
     private static final org.apache.log4j.Logger logger = LoggerUtility.getLogger(GameDisplay.class);
 
     private final int TURN_BEFORE_CHARTS_ENABLED = 2;
+    //Distance around a block covered when it is painted again, elements images overflow their block
+    private final int REPAINT_MARGIN = IHMScaling.scale(24);
     private final Dimension QUICK_ACTION_BUTTON_DIMENSION = new Dimension(IHMScaling.scale(75), IHMScaling.scale(75));
 
     //Button images path
@@ -49,17 +54,18 @@ public class GameDisplay extends JPanel {
     public final String SETTINGS_ICON_PATH = "/res/images/hud/echap.png";
 
     //Painters
-    private PaintMap paintMap;
-    private PaintElement paintElement;
+    private PaintLayers paintLayers;
     private PaintIndicator paintIndicator;
 
+    //Blocks changed since the last refresh
+    private final DirtyCells dirtyCells;
+
     //To paint
+    private final GameManager gameManager;
     private final GameMap map;
     private ArrayList<Block> specialBlocks;
-    private Element selectedElement = null;
     private Block selectedBlock = null;
     private ArrayList<Block> possibleActionBlocks = null;
-    private ArrayList<ForestTree> forestTrees;
 
     //To paint with specific color
     private Player currentPlayer;
@@ -208,15 +214,16 @@ public class GameDisplay extends JPanel {
         botLoading.setVisible(false);
         moveAllSoldierInDirection.setEnabled(false);
 
-        paintMap = new PaintMap();
-        paintElement = new PaintElement();
         paintIndicator = new PaintIndicator();
 
+        this.gameManager = gameManager;
         map = gameManager.getMap();
+        paintLayers = new PaintLayers(map);
+        dirtyCells = new DirtyCells(map.getColumns(), map.getTotalCells());
+        map.getBoard().setChangeListener(dirtyCells);
         specialBlocks = gameManager.getSpecialsBlocks();
         playerList = gameManager.getPlayersManager().getPlayerList();
         currentPlayer = gameManager.getPlayersManager().getCurrentPlayer();
-        forestTrees = gameManager.getElementsFinder().elementMapToList(ForestTree.class);
 
         settingsPanel = new SettingsPanel(gameManager);
         playersInformation = new PlayersInformationPanel(playerList, map);
@@ -246,7 +253,9 @@ public class GameDisplay extends JPanel {
     }
 
     /**
-     * Displays all game data according to theirs coordinate.
+     * Displays all game data according to theirs coordinate. Only the last {@link BoardSnapshot} published by the
+     * game is read, so the game can be modified by another thread during the painting. The map is drawn from the
+     * cached layers of {@link PaintLayers}, indicators of the selection are drawn over them.
      *
      * @param g the <code>Graphics</code> object to protect
      */
@@ -254,58 +263,45 @@ public class GameDisplay extends JPanel {
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        ArrayList<Block> coloredBlocks = new ArrayList<Block>();
+        RepaintEvent event = new RepaintEvent();
+        event.begin();
 
-        //Draws background map image
-        paintMap.paint(g, map);
+        paintBoard(g);
 
-        //Color all player's block
-        for (Player player : playerList) {
-            for (Block block : player.getOwnedBlocksList()) {
-                paintMap.paint(g, block, player.getColor());
-                coloredBlocks.add(block);
-            }
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            event.finish(clip.width, clip.height, clip.width >= getWidth() && clip.height >= getHeight());
+        } else {
+            event.finish(getWidth(), getHeight(), true);
         }
+    }
 
-        //Color all neutral blocks (blocks that have not already been colored)
-        for (int i = 0; i < map.getColumns(); i++) {
-            for (int j = 0; j < map.getLines(); j++) {
-                if (!coloredBlocks.contains(map.getBlock(i, j)) && !map.getBlock(i, j).isRemoved()) {
-                    paintMap.paint(g, map.getBlock(i, j), IHMConfig.NEUTRAL_BLOCK_COLOR);
-                }
-            }
-        }
+    /**
+     * Draws the layers of the map from the last {@link BoardSnapshot}, then the indicators of the selection.
+     *
+     * @param g the <code>Graphics</code> object to paint on.
+     */
+    private void paintBoard(Graphics g) {
+        BoardSnapshot snapshot = gameManager.getSnapshot();
 
-        //Draws trees
-        for (ForestTree tree : forestTrees) {
-            paintElement.paint(g, tree);
-        }
+        //Draws background, territory and elements
+        paintLayers.paint(g, snapshot);
 
-        //Draws all player's Element (from top to bottom)
-        for (int line = 0; line < map.getLines(); line++) {
-            for (Player player : playerList) {
-                for (Element element : player.getOwnedElementsList()) {
-                    if (element.getIndexY() == line) {
-                        if (currentPlayer.isBot()) {
-                            paintElement.paint(g, element, player.getColorName(), false);
-                        } else {
-                            paintElement.paint(g, element, player.getColorName());
-                        }
-                    } else if (element.getIndexY() > line) {
-                        continue;
-                    }
-                }
-            }
+        if (snapshot == null) {
+            return;
         }
 
+        Color currentPlayerColor = snapshot.getPlayerColor(snapshot.getCurrentPlayerId());
+
         //Draws selected block
         if (selectedBlock != null) {
-            if (selectedElement != null) {
-                if (selectedElement instanceof AttackTower) {
-                    paintIndicator.paintRange(g, selectedBlock, currentPlayer.getColor(),
+            byte selectedOccupant = snapshot.getOccupant(selectedBlock.getCell());
+            if (selectedOccupant != BoardStore.OCCUPANT_NONE) {
+                if (selectedOccupant == BoardStore.OCCUPANT_ATTACK_TOWER) {
+                    paintIndicator.paintRange(g, selectedBlock, currentPlayerColor,
                             GameplayConfig.ATTACK_TOWER_RAYON);
-                } else if (selectedElement instanceof DefenseTower) {
-                    paintIndicator.paintRange(g, selectedBlock, currentPlayer.getColor(),
+                } else if (selectedOccupant == BoardStore.OCCUPANT_DEFENSE_TOWER) {
+                    paintIndicator.paintRange(g, selectedBlock, currentPlayerColor,
                             GameplayConfig.DEFENSE_TOWER_RAYON);
                 }
             } else {
@@ -315,57 +311,35 @@ public class GameDisplay extends JPanel {
 
         //Draws possible action blocks and indicators
         if (possibleActionBlocks != null) {
-            if (!possibleActionBlocks.isEmpty()) {
-                for (Block block : possibleActionBlocks) {
-                    if (!block.isEmpty()) {
-
-                        Block blockTree = null;
-
-                        for (ForestTree trees : forestTrees) {
-                            if (currentPlayer.ownsBlock(map.getBlock(trees.getIndexX(), trees.getIndexY()))) {
-                                if (block.equals(map.getBlock(trees.getIndexX(), trees.getIndexY()))) {
-                                    blockTree = block;
-                                    break;
-                                }
-                            }
-                        }
-                        Block soldierBlock = null;
-
-                        for (Element element : currentPlayer.getOwnedElementsList()) {
-                            if (element instanceof Soldier) {
-                                if (currentPlayer.ownsBlock(map.getBlock(element.getIndexX(), element.getIndexY()))) {
-                                    if (block.equals(map.getBlock(element.getIndexX(), element.getIndexY()))) {
-                                        soldierBlock = block;
-                                        break;
-                                    }
-                                }
-                            }
-                        }
-
-                        if (!block.equals(selectedBlock)) {
-                            if (blockTree != null) {
-                                paintIndicator.paintAttackableIndicator(g, blockTree);
-
-                            } else if (soldierBlock != null) {
-                                paintIndicator.paintMergeIndicator(g, soldierBlock);
-
-                            } else if (currentPlayer.ownsBlock(block)) {
-                                paintIndicator.paintAlliesIndicator(g, block);
-
-                            } else if (!currentPlayer.ownsBlock(block)) {
-                                paintIndicator.paintAttackableIndicator(g, block);
-                            }
-                        }
+            for (Block block : possibleActionBlocks) {
+                int cell = block.getCell();
+                if (snapshot.isOccupied(cell) && !block.equals(selectedBlock)) {
+                    Boolean ownsBlock = snapshot.getOwner(cell) == snapshot.getCurrentPlayerId();
+                    byte occupant = snapshot.getOccupant(cell);
+
+                    if (ownsBlock && occupant == BoardStore.OCCUPANT_FOREST_TREE) {
+                        paintIndicator.paintAttackableIndicator(g, block);
+
+                    } else if (ownsBlock && occupant == BoardStore.OCCUPANT_SOLDIER
+                            && snapshot.getElementOwner(snapshot.getElementAt(cell)) == snapshot.getCurrentPlayerId()) {
+                        paintIndicator.paintMergeIndicator(g, block);
+
+                    } else if (ownsBlock) {
+                        paintIndicator.paintAlliesIndicator(g, block);
+
+                    } else {
+                        paintIndicator.paintAttackableIndicator(g, block);
                     }
-                    paintIndicator.paintSelectedBlock(g, block);
                 }
+                paintIndicator.paintSelectedBlock(g, block);
             }
         }
 
         //Draws all special blocks
         if (specialBlocks != null) {
             for (Block block : specialBlocks) {
-                paintIndicator.paintSpecialBlockIndicator(g, block);
+                paintIndicator.paintSpecialBlockIndicator(g, block.getX(), block.getY(),
+                        !snapshot.isOccupied(block.getCell()));
             }
         }
     }
@@ -383,9 +357,19 @@ public class GameDisplay extends JPanel {
     }
 
     /**
-     * An animated textual JLabel "Loading..." to show the bot playing turn time.
+     * An animated textual JLabel "Loading..." to show the bot playing turn time, animated by a Swing {@link Timer}
+     * so the label is only modified on the Swing event thread. The animation lasts at least 13 frames and until the
+     * bot has played its turn, then the turn is skipped.
      */
-    public class BotLoadingAnimation extends JLabel implements Runnable {
+    public class BotLoadingAnimation extends JLabel implements ActionListener {
+
+        private static final int MINIMUM_FRAMES = 13;
+
+        private final Timer timer = new Timer((int) GameplayConfig.BOT_PLAYING_ANIMATION_TIME, this);
+
+        private int frame = 0;
+
+        private Boolean turnPlayed = false;
 
         public BotLoadingAnimation() {
             super();
@@ -394,34 +378,44 @@ public class GameDisplay extends JPanel {
                     + IHMConfig.PLAYER_INFORMATION_SIZE / 2 + IHMConfig.PLAYER_INFORMATION_SIZE / 8));
         }
 
+        public void startAnimation() {
+            frame = 0;
+            turnPlayed = false;
+            timer.start();
+        }
+
+        public void setTurnPlayed() {
+            turnPlayed = true;
+        }
+
+        /**
+         * Stops the animation without skipping the turn.
+         */
+        public void cancelAnimation() {
+            timer.stop();
+        }
+
         public void stopAnimation() {
+            timer.stop();
             botLoading.setVisible(false);
             skipTurnButton.setVisible(true);
             getSkipTurnAction().skipTurn();
         }
 
         @Override
-        public void run() {
-            int i = 0;
-            while (i <= 12) {
-
-                if (i % 3 == 0) {
-                    setText("   Bot playing.  ");
-                } else if (i % 3 == 1) {
-                    setText("   Bot playing.. ");
-                } else {
-                    setText("   Bot playing...");
-                }
+        public void actionPerformed(ActionEvent e) {
+            if (frame % 3 == 0) {
+                setText("   Bot playing.  ");
+            } else if (frame % 3 == 1) {
+                setText("   Bot playing.. ");
+            } else {
+                setText("   Bot playing...");
+            }
+            frame++;
 
-                try {
-                    Thread.sleep(GameplayConfig.BOT_PLAYING_ANIMATION_TIME);
-                } catch (InterruptedException e) {
-                    logger.error("An error occurred during bot loading animation.");
-                    e.printStackTrace();
-                }
-                i++;
+            if (frame >= MINIMUM_FRAMES && turnPlayed) {
+                stopAnimation();
             }
-            stopAnimation();
         }
     }
 
@@ -430,14 +424,31 @@ public class GameDisplay extends JPanel {
     }
 
     /**
-     * Sets visible the bot loader animation and starting a new Thread to run animation.
+     * Sets visible the bot loader animation and starts the animation.
      */
     public void putBotAnimation() {
         botLoading.setVisible(true);
         skipTurnButton.setVisible(false);
+        botLoading.startAnimation();
+    }
+
+    /**
+     * Stops the bots of this game, the turn of a bot being played is finished but the next turn is not started.
+     */
+    public void stopBots() {
+        botLoading.cancelAnimation();
+        SkipTurn skipTurn = getSkipTurnAction();
+        if (skipTurn != null) {
+            skipTurn.shutdown();
+        }
+    }
 
-        Thread t = new Thread(botLoading);
-        t.start();
+    /**
+     * Notifies the bot loader animation that the bot has played its turn, the turn is skipped at the end of the
+     * animation.
+     */
+    public void botTurnPlayed() {
+        botLoading.setTurnPlayed();
     }
 
     /**
@@ -505,6 +516,49 @@ public class GameDisplay extends JPanel {
         }
     }
 
+    /**
+     * Paints again the area around a selected block, which contains the range of a selected tower.
+     *
+     * @param block the selected block (can be null).
+     */
+    private void repaintSelection(Block block) {
+        if (block != null) {
+            int range = Math.max(GameplayConfig.ATTACK_TOWER_RAYON, GameplayConfig.DEFENSE_TOWER_RAYON)
+                    * IHMConfig.BLOCK_SIZE + REPAINT_MARGIN;
+            repaint(new Rectangle(block.getX() - range, block.getY() - range, IHMConfig.BLOCK_SIZE + 2 * range,
+                    IHMConfig.BLOCK_SIZE + 2 * range));
+        }
+    }
+
+    /**
+     * Paints again only the blocks changed since the last refresh and the blocks whose selection changed. The whole
+     * display is painted again when the current player changed.
+     *
+     * @param previousPlayer               the current player at the last refresh.
+     * @param previousSelectedBlock        the selected block at the last refresh.
+     * @param previousPossibleActionBlocks the possible action blocks at the last refresh.
+     */
+    private void repaintChanges(Player previousPlayer, Block previousSelectedBlock,
+                                ArrayList<Block> previousPossibleActionBlocks) {
+        if (previousPlayer != currentPlayer) {
+            dirtyCells.clear();
+            repaint();
+
+        } else {
+            if (previousSelectedBlock != selectedBlock) {
+                repaintSelection(previousSelectedBlock);
+                repaintSelection(selectedBlock);
+            }
+            if (previousPossibleActionBlocks != possibleActionBlocks) {
+                dirtyCells.markChanged(previousPossibleActionBlocks);
+                dirtyCells.markChanged(possibleActionBlocks);
+            }
+            for (Rectangle area : dirtyCells.drainAreas(REPAINT_MARGIN)) {
+                repaint(area);
+            }
+        }
+    }
+
     /**
      * Update data to display the game evolution, and show player options when a player has won.
      *
@@ -512,14 +566,18 @@ public class GameDisplay extends JPanel {
      */
     public void refreshDisplay(GameManager gameManager) {
         if (gameManager != null) {
+            //Actions of human players are performed on the Swing event thread before the refresh
+            gameManager.publishSnapshot();
+
             int turn = gameManager.getGameStatistic().getSkipTurnCount(currentPlayer);
 
-            currentPlayer = gameManager.getPlayersManager().getCurrentPlayer();
+            Player previousPlayer = currentPlayer;
+            Block previousSelectedBlock = selectedBlock;
+            ArrayList<Block> previousPossibleActionBlocks = possibleActionBlocks;
 
-            forestTrees = gameManager.getElementsFinder().elementMapToList(ForestTree.class);
+            currentPlayer = gameManager.getPlayersManager().getCurrentPlayer();
 
             selectedBlock = gameManager.getSelectedBlock();
-            selectedElement = gameManager.getElementsFinder().findElementOnBlock(selectedBlock);
             possibleActionBlocks = gameManager.getPossibleActionBlocks();
 
             settingsPanel.setTurnCountLabel(gameManager.getGameStatistic().getSkipTurnCount(currentPlayer));
@@ -537,7 +595,7 @@ public class GameDisplay extends JPanel {
                 showPlayerHasWinOptions();
             }
             playersInformation.updateDisplay(playerList);
-            repaint();
+            repaintChanges(previousPlayer, previousSelectedBlock, previousPossibleActionBlocks);
         }
     }
 
@@ -2,17 +2,25 @@ package main.game;
 
 import configuration.GameplayConfig;
 import data.board.Block;
+import data.board.BoardSnapshot;
+import data.board.BoardStore;
 import data.board.GameMap;
 import data.element.*;
 import data.player.Player;
+import engine.util.GameJournal;
 import engine.util.GameStatistic;
 import engine.datasearch.BlockFinder;
 import engine.datasearch.ElementsFinder;
 import engine.datasearch.GameAnalyzer;
+import engine.monitoring.SkipTurnEvent;
+import engine.monitoring.TurnEvent;
+import engine.monitoring.TurnProfiler;
 import engine.process.EconomyManager;
 import data.element.ElementsMap;
 import engine.process.PlayersManager;
+import engine.util.AutosaveService;
 import engine.util.DistanceCalculator;
+import engine.util.GameRandom;
 import engine.util.RandomUtility;
 import log.LoggerUtility;
 import org.apache.log4j.Logger;
@@ -30,7 +38,7 @@ public class GameManager {
 
     //Map
     private final GameMap map;
-    private final BlockFinder blockFinder;
+    private BlockFinder blockFinder;
 
     //Element
     private ElementsMap elementsMap;
@@ -42,13 +50,43 @@ public class GameManager {
 
     //Global game
     private GameStatistic gameStatistic;
-    private final GameAnalyzer gameAnalyzer;
+    private GameAnalyzer gameAnalyzer;
 
     private Block selectedBlock = null;
     private ArrayList<Block> possibleActionBlocks = null;
     private Boolean gameIsEnded = false;
     private Boolean elementIsSelected = false;
 
+    /**
+     * The last published snapshot of the board, read by the display without synchronization.
+     */
+    private volatile BoardSnapshot snapshot;
+
+    /**
+     * Saves the game at the end of turns, null when the game is not saved automatically.
+     */
+    private AutosaveService autosaveService = null;
+
+    /**
+     * Measures the phases of turns, disabled by default.
+     */
+    private TurnProfiler profiler = TurnProfiler.DISABLED;
+
+    /**
+     * Flight Recorder event of the turn in progress, begun when the turn started.
+     */
+    private TurnEvent turnEvent;
+
+    /**
+     * Amount of turns played by all players since the start of the game.
+     */
+    private int turn = 0;
+
+    /**
+     * Writes every change of the game, null when the game is not journaled.
+     */
+    private GameJournal journal = null;
+
     /**
      * @param map            the map of this game.
      * @param playersManager the player manager of this game.
@@ -74,6 +112,10 @@ public class GameManager {
             gameAnalyzer = new GameAnalyzer(this);
             gameStatistic = new GameStatistic(playersManager.getPlayerList());
             economyManager.recalculateAllPlayersGoldPerTurn();
+            publishSnapshot();
+
+            turnEvent = new TurnEvent();
+            turnEvent.begin();
         } else {
             throw new IllegalArgumentException();
         }
@@ -91,7 +133,7 @@ public class GameManager {
      */
     private void generateRandomForestTree(int probSpawn3Trees, int probSpawn2Trees, int probSpawn1Tree) {
         if (!map.mapIsFull()) {
-            int randomInt = RandomUtility.getRandom(1, 100);
+            int randomInt = RandomUtility.getRandom(getRandom(), 1, 100);
             int amountGenerated = 0;
 
             // Probabilities
@@ -105,9 +147,22 @@ public class GameManager {
 
             // Generate all trees
             for (int i = 0; i < amountGenerated; i++) {
-                Block block = RandomUtility.getRandomEmptyBlock(map);
-                ForestTree tree = new ForestTree(block.getX(), block.getY());
-                elementsMap.putElementOnBlock(block, tree);
+                spawnForestTree(RandomUtility.getRandomEmptyBlock(getRandom(), map));
+            }
+        }
+    }
+
+    /**
+     * Generates a ForestTree on a block.
+     *
+     * @param block the empty block of the tree, nothing is generated if it is null or not empty.
+     */
+    private void spawnForestTree(Block block) {
+        if (block != null && !block.isRemoved() && block.isEmpty()) {
+            ForestTree tree = new ForestTree(block.getX(), block.getY());
+            elementsMap.putElementOnBlock(block, tree);
+            appendToJournal(GameJournal.RECORD_TREE_SPAWN, null, 0, block, null);
+            if (logger.isInfoEnabled()) {
                 logger.info("New tree generated in " + tree.positionToString() + ".");
             }
         }
@@ -141,6 +196,7 @@ public class GameManager {
                         if (player.canPlay()) {
                             if (soldier.getHealthPoint() > soldier.getAttackPoint()) {
                                 soldier.incrementAttackPoint(1);
+                                markChanged(block);
                             }
                         }
 
@@ -161,7 +217,8 @@ public class GameManager {
     private void performAttackTowerEffect(AttackTower tower) {
         Player player = playersManager.getPlayerOwnsElement(tower);
 
-        ArrayList<Block> range = blockFinder.findAdjacentBlocks(tower.getIndexX(), tower.getIndexY(), GameplayConfig.ATTACK_TOWER_RAYON, true);
+        Block[] range = blockFinder.findAdjacentBlocksMask(map.getBlock(tower.getIndexX(), tower.getIndexY()),
+                GameplayConfig.ATTACK_TOWER_RAYON, true);
         if (range != null && player != null) {
             for (Block block : range) {
                 if (!block.isEmpty()) {
@@ -169,8 +226,13 @@ public class GameManager {
                     if (element instanceof Soldier soldier) {
                         if (!player.ownsElement(element)) {
                             soldier.setHealthPoint(element.getHealthPoint() - tower.getDamageDeals());
+                            markChanged(block);
+                            appendToJournal(GameJournal.RECORD_TOWER_EFFECT, player, soldier.getHealthPoint(),
+                                    map.getBlock(tower.getIndexX(), tower.getIndexY()), block);
 
-                            logger.info("Attack tower effect performed on soldier in " + soldier.positionToString() + ".");
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Attack tower effect performed on soldier in " + soldier.positionToString() + ".");
+                            }
 
                             if (soldier.getHealthPoint() <= 0) {
                                 //kill
@@ -178,7 +240,9 @@ public class GameManager {
                                 if (playerOwnSoldier != null) {
                                     playerOwnSoldier.removeOwnedElement(soldier);
                                     getElementsMap().removeElementOnBlock(map.getBlock(soldier.getIndexX(), soldier.getIndexY()));
-                                    logger.info("Soldier killed in " + soldier.positionToString() + ".");
+                                    if (logger.isInfoEnabled()) {
+                                        logger.info("Soldier killed in " + soldier.positionToString() + ".");
+                                    }
                                 }
                             }
                             break;
@@ -197,7 +261,7 @@ public class GameManager {
     private void performDefenseTowerEffect(DefenseTower tower) {
 
         Player player = playersManager.getPlayerOwnsElement(tower);
-        ArrayList<Block> range = blockFinder.findAdjacentBlocks(tower.getIndexX(), tower.getIndexY(),
+        Block[] range = blockFinder.findAdjacentBlocksMask(map.getBlock(tower.getIndexX(), tower.getIndexY()),
                 GameplayConfig.DEFENSE_TOWER_RAYON, true);
 
         if (range != null && player != null) {
@@ -208,7 +272,12 @@ public class GameManager {
                         if (player.ownsElement(soldier)) {
                             if (soldier.getHealthPoint() < GameplayConfig.SOLDIER_HEALTH_LIMIT) {
                                 soldier.setHealthPoint(soldier.getHealthPoint() + tower.getBonusHealthDeals());
-                                logger.info("Defense tower effect performed on soldier in " + soldier.positionToString());
+                                markChanged(block);
+                                appendToJournal(GameJournal.RECORD_TOWER_EFFECT, player, soldier.getHealthPoint(),
+                                        map.getBlock(tower.getIndexX(), tower.getIndexY()), block);
+                                if (logger.isInfoEnabled()) {
+                                    logger.info("Defense tower effect performed on soldier in " + soldier.positionToString());
+                                }
                                 break;
                             }
                         }
@@ -225,25 +294,14 @@ public class GameManager {
      */
     public void performTowersEffect(Player player) {
 
-        ArrayList<AttackTower> attackTowersArray = elementsFinder.elementMapToList(AttackTower.class);
-        ArrayList<DefenseTower> defenseTowersArray = elementsFinder.elementMapToList(DefenseTower.class);
-
         //Perform effect of player's attack towers
-        if (attackTowersArray != null) {
-            for (AttackTower attackTower : attackTowersArray) {
-                if (player.ownsElement(attackTower)) {
-                    performAttackTowerEffect(attackTower);
-                }
-            }
+        for (AttackTower attackTower : elementsFinder.elementMapToList(AttackTower.class, player)) {
+            performAttackTowerEffect(attackTower);
         }
 
         //Perform effect of player's defense towers
-        if (defenseTowersArray != null) {
-            for (DefenseTower defenseTower : defenseTowersArray) {
-                if (player.ownsElement(defenseTower)) {
-                    performDefenseTowerEffect(defenseTower);
-                }
-            }
+        for (DefenseTower defenseTower : elementsFinder.elementMapToList(DefenseTower.class, player)) {
+            performDefenseTowerEffect(defenseTower);
         }
     }
 
@@ -252,37 +310,157 @@ public class GameManager {
      * for the new current Player and perform elements effect.
      */
     public void skipTurn() {
+        skipTurn(null);
+    }
+
+    /**
+     * Perform skip turn action like {@link #skipTurn()}, with the ForestTree generated on the given blocks instead of
+     * random blocks, used to replay a journaled game without the random generator of the game.
+     *
+     * @param forestTreeBlocks the blocks of the generated trees, null to generate them randomly.
+     */
+    public void skipTurn(ArrayList<Block> forestTreeBlocks) {
+        TurnProfiler profiler = this.profiler;
+        Player playedPlayer = playersManager.getCurrentPlayer();
+        int playedPlayerId = playedPlayer != null ? playedPlayer.getId() : -1;
+
+        if (playedPlayer != null) {
+            turnEvent.finish(playedPlayerId, playedPlayer.isBot(), gameStatistic.getSkipTurnCount(playedPlayer));
+        }
+        SkipTurnEvent skipTurnEvent = new SkipTurnEvent();
+        skipTurnEvent.begin();
 
-        gameStatistic.updateStatistics(playersManager.getCurrentPlayer());
+        long start = profiler.start();
+        gameStatistic.updateStatistics(playedPlayer);
+        profiler.stop(TurnProfiler.PHASE_SKIP_STATISTICS, start);
+
+        start = profiler.start();
         playersManager.turnToNextPlayer();
         Player currentPlayer = playersManager.getCurrentPlayer();
+        profiler.stop(TurnProfiler.PHASE_SKIP_NEXT_PLAYER, start);
 
+        start = profiler.start();
         performTowersEffect(currentPlayer);
+        profiler.stop(TurnProfiler.PHASE_SKIP_TOWERS_EFFECT, start);
+
+        start = profiler.start();
         performSpecialBlocksEffect();
+        profiler.stop(TurnProfiler.PHASE_SKIP_SPECIAL_BLOCKS_EFFECT, start);
 
+        start = profiler.start();
         economyManager.giveGoldPerTurn(currentPlayer);
+        profiler.stop(TurnProfiler.PHASE_SKIP_GOLD, start);
 
+        start = profiler.start();
         for (Soldier soldier : elementsFinder.elementMapToList(Soldier.class)) {
+            if (currentPlayer.ownsElement(soldier) != soldier.canMove()) {
+                markChanged(map.getBlock(soldier.getIndexX(), soldier.getIndexY()));
+            }
             if (currentPlayer.ownsElement(soldier)) {
                 soldier.allowToMove();
             } else {
                 soldier.preventToMove();
             }
         }
+        profiler.stop(TurnProfiler.PHASE_SKIP_SOLDIERS_MOVES, start);
 
+        start = profiler.start();
         economyManager.recalculateAllPlayersGoldPerTurn();
+        profiler.stop(TurnProfiler.PHASE_SKIP_GOLD_PER_TURN, start);
 
-        if (elementsFinder.calculateAmountOfElement(ForestTree.class) < GameplayConfig.FOREST_TREE_SPAWN_LIMIT) {
+        start = profiler.start();
+        if (forestTreeBlocks != null) {
+            for (Block block : forestTreeBlocks) {
+                spawnForestTree(block);
+            }
+        } else if (elementsFinder.calculateAmountOfElement(ForestTree.class) < GameplayConfig.FOREST_TREE_SPAWN_LIMIT) {
             generateRandomForestTree(GameplayConfig.PROBABILITIES_OF_SPAWN_1_TREE,
                     GameplayConfig.PROBABILITIES_OF_SPAWN_2_TREE,
                     GameplayConfig.PROBABILITIES_OF_SPAWN_3_TREE);
         } else {
             logger.info("Forest tree spawn limit reached.");
         }
+        profiler.stop(TurnProfiler.PHASE_SKIP_TREE_GENERATION, start);
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Current turn : " + (gameStatistic.getSkipTurnCount(playersManager.getCurrentPlayer()) + 1)
+                    + " / Current player : " + playersManager.getCurrentPlayer().getColorName() + " / Player queue : "
+                    + playersManager.playerQueueToString());
+        }
+
+        start = profiler.start();
+        publishSnapshot();
+        profiler.stop(TurnProfiler.PHASE_SKIP_SNAPSHOT, start);
+
+        if (autosaveService != null) {
+            start = profiler.start();
+            autosaveService.turnSkipped(this);
+            profiler.stop(TurnProfiler.PHASE_SKIP_AUTOSAVE, start);
+        }
+
+        if (journal != null) {
+            journal.append(GameJournal.RECORD_TURN, turn, playedPlayerId, currentPlayer.getId(),
+                    GameJournal.NO_CELL, GameJournal.NO_CELL);
+        }
+        turn++;
+
+        profiler.endTurn(playedPlayerId, blockFinder.getPathFinder());
+        skipTurnEvent.finish(playedPlayerId, currentPlayer.getId());
+
+        turnEvent = new TurnEvent();
+        turnEvent.begin();
+    }
+
+    /**
+     * Notifies the board that the {@link Element} on a block changed (statistics, direction or ability to move), so
+     * the block is painted again.
+     *
+     * @param block the block of the element.
+     */
+    private void markChanged(Block block) {
+        if (block != null && map.getBoard() != null) {
+            map.getBoard().markChanged(block.getCell());
+        }
+    }
+
+    /**
+     * Adds a record of a change of the game in the journal, when the game is journaled.
+     *
+     * @param type        one of GameJournal RECORD_*.
+     * @param player      the player who made the change, null when there is none.
+     * @param value       the value of the record, depending on its type.
+     * @param block       the block of the change, null when there is none.
+     * @param targetBlock the target block of the change, null when there is none.
+     */
+    private void appendToJournal(byte type, Player player, int value, Block block, Block targetBlock) {
+        if (journal != null) {
+            journal.append(type, turn, player != null ? player.getId() : -1, value,
+                    block != null ? block.getCell() : GameJournal.NO_CELL,
+                    targetBlock != null ? targetBlock.getCell() : GameJournal.NO_CELL);
+        }
+    }
 
-        logger.info("Current turn : " + (gameStatistic.getSkipTurnCount(playersManager.getCurrentPlayer()) + 1)
-                + " / Current player : " + playersManager.getCurrentPlayer().getColorName() + " / Player queue : "
-                + playersManager.playerQueueToString());
+    /**
+     * Copies the current state of the board in a new {@link BoardSnapshot} which replaces the last published one.
+     * Must be called by the thread which modifies the game, at the end of an action or a turn.
+     *
+     * @return the published snapshot, null when the map has not been built.
+     */
+    public BoardSnapshot publishSnapshot() {
+        if (map.getBoard() == null) {
+            return null;
+        }
+        BoardSnapshot newSnapshot = new BoardSnapshot(map.getBoard(), elementsMap.getValues(),
+                playersManager.getPlayerList(), playersManager.getCurrentPlayer());
+        snapshot = newSnapshot;
+        return newSnapshot;
+    }
+
+    /**
+     * @return the last published snapshot of the board, it can be read from any thread.
+     */
+    public BoardSnapshot getSnapshot() {
+        return snapshot;
     }
 
     /**
@@ -304,6 +482,7 @@ public class GameManager {
 
                     mergedSoldier.incrementAttackPoint(lostSoldier.getAttackPoint());
                     mergedSoldier.incrementHealthPoint(lostSoldier.getHealthPoint());
+                    markChanged(mergedSoldierBlock);
 
                     Player player = playersManager.getPlayerOwnsElement(lostSoldier);
                     player.removeOwnedElement(lostSoldier);
@@ -311,15 +490,21 @@ public class GameManager {
                     //kill
                     elementsMap.removeElementOnBlock(lostSoldierBlock);
 
-                    logger.info("Soldier [" + player.getColorName() + "] in position" + mergedSoldier.positionToString() + " merged with soldier in position " + lostSoldier.positionToString());
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Soldier [" + player.getColorName() + "] in position" + mergedSoldier.positionToString() + " merged with soldier in position " + lostSoldier.positionToString());
+                    }
 
 
                 } else {
-                    logger.warn("Attempt to merge a soldier who has reached the limit in position " + mergedSoldier.positionToString() + ".");
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Attempt to merge a soldier who has reached the limit in position " + mergedSoldier.positionToString() + ".");
+                    }
                 }
             }
         } else {
-            logger.warn("Attempt to merge a soldier with himself in position " + lostSoldierBlock.positionToString() + ".");
+            if (logger.isDebugEnabled()) {
+                logger.debug("Attempt to merge a soldier with himself in position " + lostSoldierBlock.positionToString() + ".");
+            }
         }
     }
 
@@ -338,6 +523,7 @@ public class GameManager {
         Player playerAtk = playersManager.getPlayerOwnsElement(soldierAtk);
 
         structure.setHealthPoint(structure.getHealthPoint() - soldierAtk.getAttackPoint());
+        markChanged(structureBlock);
 
         // Structure destroyed
         if (structure.getHealthPoint() <= 0) {
@@ -394,7 +580,9 @@ public class GameManager {
                 }
 
                 if (destinationBlock == null || destinationBlock.equals(structureBlock)) {
-                    logger.warn("Attempt to attack structure in position " + structureBlock.positionToString() + " but no blocks are available to move in that direction.");
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Attempt to attack structure in position " + structureBlock.positionToString() + " but no blocks are available to move in that direction.");
+                    }
                     //
 
                 } else {
@@ -402,10 +590,13 @@ public class GameManager {
                 }
 
             } else {
-                logger.warn("Attempt to perform a prohibited attack on structure in position " + structureBlock.positionToString() + ".");
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Attempt to perform a prohibited attack on structure in position " + structureBlock.positionToString() + ".");
+                }
             }
         }
         soldierAtk.preventToMove();
+        markChanged(map.getBlock(soldierAtk.getIndexX(), soldierAtk.getIndexY()));
     }
 
     /**
@@ -427,6 +618,8 @@ public class GameManager {
                 //Deal damage to both
                 attackingSoldier.setHealthPoint(attackingSoldier.getHealthPoint() - defendingSoldier.getAttackPoint());
                 defendingSoldier.setHealthPoint(defendingSoldier.getHealthPoint() - attackingSoldier.getAttackPoint());
+                markChanged(attackingSoldierBlock);
+                markChanged(defendingSoldierBlock);
 
                 if (attackingSoldier.getHealthPoint() <= 0) {
                     //Attacking soldier die
@@ -467,7 +660,9 @@ public class GameManager {
                                 }
                             }
                             if (destinationBlock == null) {
-                                logger.warn("Attempt to attack soldier in position " + defendingSoldierBlock.positionToString() + " but no blocks are available to move in that direction.");
+                                if (logger.isDebugEnabled()) {
+                                    logger.debug("Attempt to attack soldier in position " + defendingSoldierBlock.positionToString() + " but no blocks are available to move in that direction.");
+                                }
                             } else {
                                 //Moves attacking soldier in direction of defending soldier
                                 if (destinationBlock.isEmpty()) {
@@ -501,7 +696,9 @@ public class GameManager {
                 Player player = playersManager.getPlayerOwnsElement(soldier);
 
                 if (destinationBlock.isEmpty() && soldier != null && player != null) {
-                    logger.info("Soldier in " + soldier.positionToString() + " moved in " + destinationBlock.positionToString() + ".");
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Soldier in " + soldier.positionToString() + " moved in " + destinationBlock.positionToString() + ".");
+                    }
                     elementsMap.changeBlock(currentBlock, destinationBlock);
 
                     if (!player.ownsBlock(destinationBlock)) {
@@ -514,8 +711,10 @@ public class GameManager {
                     soldier.preventToMove();
                 }
             } else {
-                logger.warn("Attempts to do prohibited movement from position " + currentBlock.positionToString()
-                        + " to position " + destinationBlock.positionToString() + ".");
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Attempts to do prohibited movement from position " + currentBlock.positionToString()
+                            + " to position " + destinationBlock.positionToString() + ".");
+                }
             }
         } else {
             logger.warn("Attempts to do movement on/from not-existent block.");
@@ -548,14 +747,18 @@ public class GameManager {
                         if (endingBlock.getX() > startingBlock.getX()) {
                             soldier.setLastMoveRight();
                         }
+                        markChanged(startingBlock);
+                        byte action = GameJournal.RECORD_MOVE;
                         if (endingBlock.isEmpty()) {
                             moveToEmptyBlock(startingBlock, endingBlock);
 
                         } else {
                             if (elementsFinder.elementTypeExistsOnBlock(Soldier.class, endingBlock)) {
                                 if (playersManager.currentPlayerOwnsBlock(endingBlock)) {
+                                    action = GameJournal.RECORD_MERGE;
                                     mergeSoldier(startingBlock, endingBlock);
                                 } else {
+                                    action = GameJournal.RECORD_ATTACK_SOLDIER;
                                     attackSoldier(startingBlock, endingBlock);
                                 }
                             } else if ((((elementsFinder.elementTypeExistsOnBlock(House.class, endingBlock)
@@ -564,13 +767,23 @@ public class GameManager {
                                     || elementsFinder.elementTypeExistsOnBlock(Base.class, endingBlock))
                                     && !player.ownsBlock(endingBlock))
                                     || elementsFinder.elementTypeExistsOnBlock(ForestTree.class, endingBlock))) {
+                                action = GameJournal.RECORD_ATTACK_STRUCTURE;
                                 attackStructure(startingBlock, endingBlock);
                             } else {
-                                logger.warn("Attempt to do a prohibited movement on element in position" + endingBlock.positionToString() + ".");
+                                if (logger.isDebugEnabled()) {
+                                    logger.debug("Attempt to do a prohibited movement on element in position" + endingBlock.positionToString() + ".");
+                                }
                             }
                         }
+                        if (journal != null) {
+                            Element targetElement = elementsFinder.findElementOnBlock(endingBlock);
+                            appendToJournal(action, player, targetElement != null ? targetElement.getHealthPoint() : 0,
+                                    startingBlock, endingBlock);
+                        }
                     } else {
-                        logger.warn((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] attempting to do an prohibited move from position " + startingBlock.positionToString() + ".");
+                        if (logger.isDebugEnabled()) {
+                            logger.debug((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] attempting to do an prohibited move from position " + startingBlock.positionToString() + ".");
+                        }
                     }
                     economyManager.recalculateAllPlayersGoldPerTurn();
                 }
@@ -611,16 +824,21 @@ public class GameManager {
                 if (player.getTotalGold() >= GameplayConfig.SOLDIER_PRICE) {
 
                     Soldier soldier = new Soldier(block.getX(), block.getY());
+                    player.addOwnedElement(soldier);
                     elementsMap.putElementOnBlock(block, soldier);
+                    appendToJournal(GameJournal.RECORD_BUY, player, BoardStore.OCCUPANT_SOLDIER, block, null);
                     player.decrementTotalGold(GameplayConfig.SOLDIER_PRICE);
-                    player.addOwnedElement(soldier);
 
-                    logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new soldier in position " + block.positionToString() + ".");
+                    if (logger.isInfoEnabled()) {
+                        logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new soldier in position " + block.positionToString() + ".");
+                    }
 
                 }
                 economyManager.recalculateAllPlayersGoldPerTurn();
             } else {
-                logger.warn("Attempt to buy a soldier in prohibited position " + block.positionToString() + ".");
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Attempt to buy a soldier in prohibited position " + block.positionToString() + ".");
+                }
 
             }
         } else {
@@ -640,15 +858,20 @@ public class GameManager {
             if (!block.isRemoved() && block.isEmpty() && player.ownsBlock(block)) {
                 if (player.getTotalGold() >= GameplayConfig.HOUSE_PRICE) {
                     House house = new House(block.getX(), block.getY());
+                    player.addOwnedElement(house);
                     elementsMap.putElementOnBlock(block, house);
+                    appendToJournal(GameJournal.RECORD_BUY, player, BoardStore.OCCUPANT_HOUSE, block, null);
                     player.decrementTotalGold(GameplayConfig.HOUSE_PRICE);
-                    player.addOwnedElement(house);
 
-                    logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new house in position " + block.positionToString() + ".");
+                    if (logger.isInfoEnabled()) {
+                        logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new house in position " + block.positionToString() + ".");
+                    }
                 }
                 economyManager.recalculateAllPlayersGoldPerTurn();
             } else {
-                logger.warn("Attempt to buy a house in prohibited position " + block.positionToString() + ".");
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Attempt to buy a house in prohibited position " + block.positionToString() + ".");
+                }
             }
         } else {
             logger.warn("Attempt to buy a house on not-existent block / with not-existent player.");
@@ -667,16 +890,21 @@ public class GameManager {
             if (!block.isRemoved() && block.isEmpty() && player.ownsBlock(block)) {
                 if (player.getTotalGold() >= GameplayConfig.ATTACK_TOWER_PRICE) {
                     AttackTower attackTower = new AttackTower(block.getX(), block.getY());
+                    player.addOwnedElement(attackTower);
                     elementsMap.putElementOnBlock(block, attackTower);
+                    appendToJournal(GameJournal.RECORD_BUY, player, BoardStore.OCCUPANT_ATTACK_TOWER, block, null);
                     player.decrementTotalGold(GameplayConfig.ATTACK_TOWER_PRICE);
-                    player.addOwnedElement(attackTower);
 
-                    logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new attack tower in position " + block.positionToString() + ".");
+                    if (logger.isInfoEnabled()) {
+                        logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new attack tower in position " + block.positionToString() + ".");
+                    }
 
                 }
                 economyManager.recalculateAllPlayersGoldPerTurn();
             } else {
-                logger.warn("Attempt to buy a attack tower in prohibited position " + block.positionToString() + ".");
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Attempt to buy a attack tower in prohibited position " + block.positionToString() + ".");
+                }
             }
         } else {
             logger.warn("Attempt to buy a attack tower on not-existent block / with not-existent player.");
@@ -696,16 +924,21 @@ public class GameManager {
                 if (player.getTotalGold() >= GameplayConfig.DEFENSE_TOWER_PRICE) {
 
                     DefenseTower defenseTower = new DefenseTower(block.getX(), block.getY());
+                    player.addOwnedElement(defenseTower);
                     elementsMap.putElementOnBlock(block, defenseTower);
+                    appendToJournal(GameJournal.RECORD_BUY, player, BoardStore.OCCUPANT_DEFENSE_TOWER, block, null);
                     player.decrementTotalGold(GameplayConfig.DEFENSE_TOWER_PRICE);
-                    player.addOwnedElement(defenseTower);
 
-                    logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new defense tower in position " + block.positionToString() + ".");
+                    if (logger.isInfoEnabled()) {
+                        logger.info((player.isBot() ? "Bot" : "Player") + " [" + player.getColorName() + "] bought a new defense tower in position " + block.positionToString() + ".");
+                    }
 
                 }
                 economyManager.recalculateAllPlayersGoldPerTurn();
             } else {
-                logger.warn("Attempt to buy a defense tower in prohibited position " + block.positionToString() + ".");
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Attempt to buy a defense tower in prohibited position " + block.positionToString() + ".");
+                }
             }
         } else {
             logger.warn("Attempt to buy a defense tower on not-existent block / with not-existent player.");
@@ -744,7 +977,7 @@ public class GameManager {
                         blocks = blockFinder.findOwnedBlocks(player, blocks, false);
 
                         if (!blocks.isEmpty()) {
-                            Block destinationBlock = RandomUtility.getRandomBlock(blocks);
+                            Block destinationBlock = RandomUtility.getRandomBlock(getRandom(), blocks);
                             moveSoldierToBlock(soldierBlock, destinationBlock);
                         }
                     }
@@ -796,8 +1029,10 @@ public class GameManager {
                 if (result != null) {
                     moveSoldierToBlock(soldier, result);
                 } else {
-                    logger.warn("Attempt to move a soldier in position " + soldier.positionToString()
-                            + " to direction " + directionBlock.positionToString() + " but no block found.");
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Attempt to move a soldier in position " + soldier.positionToString()
+                                + " to direction " + directionBlock.positionToString() + " but no block found.");
+                    }
                 }
             }
         } else {
@@ -827,6 +1062,13 @@ public class GameManager {
         return playersManager;
     }
 
+    /**
+     * @return the random generator of this game, every random action of the game must use it.
+     */
+    public GameRandom getRandom() {
+        return playersManager.getRandom();
+    }
+
     public GameAnalyzer getGameAnalyzer() {
         return gameAnalyzer;
     }
@@ -871,13 +1113,63 @@ public class GameManager {
         selectedBlock = block;
     }
 
+    public AutosaveService getAutosaveService() {
+        return autosaveService;
+    }
+
+    /**
+     * @param autosaveService saves the game at the end of turns, null to stop saving the game automatically.
+     */
+    public void setAutosaveService(AutosaveService autosaveService) {
+        this.autosaveService = autosaveService;
+    }
+
+    public TurnProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * @param profiler measures the phases of turns, null to stop measuring them.
+     */
+    public void setProfiler(TurnProfiler profiler) {
+        this.profiler = profiler != null ? profiler : TurnProfiler.DISABLED;
+    }
+
+    /**
+     * @return the amount of turns played by all players since the start of the game.
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    public GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * @param journal writes every change of the game, null to stop journaling the game (the previous journal is closed).
+     */
+    public void setJournal(GameJournal journal) {
+        if (this.journal != null && this.journal != journal) {
+            this.journal.close();
+        }
+        this.journal = journal;
+    }
+
     public void setGameStatistic(GameStatistic gameStatistic) {
         this.gameStatistic = gameStatistic;
+        turn = gameStatistic != null ? gameStatistic.getTotalSkipTurnCount() : 0;
     }
 
     public void setElementsMap(ElementsMap elementsMap) {
+        //the bases were put in the previous elements map by the constructor
+        elementsMap.attachElements();
         this.elementsMap = elementsMap;
         this.elementsFinder = new ElementsFinder(elementsMap);
+        //finders created with the previous elements would not see the given elements
+        this.blockFinder = new BlockFinder(map, elementsFinder);
+        this.gameAnalyzer = new GameAnalyzer(this);
+        publishSnapshot();
     }
 
     public Boolean elementExists(Element element) {
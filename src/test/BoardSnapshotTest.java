@@ -0,0 +1,54 @@
+package test;
+
+import configuration.GameplayConfig;
+import data.board.BoardSnapshot;
+import data.board.BoardStore;
+import data.element.Element;
+import data.element.Soldier;
+import engine.util.ConversionUtility;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardSnapshotTest {
+
+    @Test
+    void snapshotIsNotModifiedByTheBoardTest() {
+        BoardStore board = new BoardStore(3, 2);
+        board.setOwner(4, 1);
+        board.setFlag(4, BoardStore.FLAG_OCCUPIED, true);
+        board.setOccupant(4, BoardStore.OCCUPANT_SOLDIER);
+
+        Soldier soldier = new Soldier(ConversionUtility.IndexToPixel(1), ConversionUtility.IndexToPixel(1));
+        soldier.setOwnerId(1);
+        ArrayList<Element> elements = new ArrayList<>();
+        elements.add(soldier);
+
+        BoardSnapshot snapshot = new BoardSnapshot(board, elements, new ArrayList<>(), null);
+
+        board.setOwner(4, 2);
+        board.setOwner(0, 2);
+        board.setFlag(4, BoardStore.FLAG_OCCUPIED, false);
+        soldier.incrementAttackPoint(5);
+
+        assertEquals(1, snapshot.getOwner(4));
+        assertEquals(BoardStore.NO_OWNER, snapshot.getOwner(0));
+        assertTrue(snapshot.isOccupied(4));
+        assertEquals(1, snapshot.countOwnedCells(1));
+
+        int element = snapshot.getElementAt(4);
+        assertEquals(0, element);
+        assertEquals(4, snapshot.getElementCell(element));
+        assertEquals(1, snapshot.getElementOwner(element));
+        assertEquals(GameplayConfig.SOLDIER_INITIAL_ATTACK_POINTS, snapshot.getAttackPoint(element));
+        assertEquals(BoardSnapshot.NO_ELEMENT, snapshot.getElementAt(0));
+    }
+
+    @Test
+    void invalidSnapshotTest() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardSnapshot(null, new ArrayList<>(), List.of(), null));
+    }
+}
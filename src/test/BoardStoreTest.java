@@ -0,0 +1,59 @@
+package test;
+
+import data.board.BoardStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardStoreTest {
+
+    @Test
+    void freeCellsTest() {
+        BoardStore board = new BoardStore(3, 2);
+        assertEquals(6, board.getFreeCellsCount());
+
+        board.setFlag(1, BoardStore.FLAG_REMOVED, true);
+        board.setFlag(4, BoardStore.FLAG_OCCUPIED, true);
+        board.setFlag(4, BoardStore.FLAG_SPECIAL, true);
+        assertEquals(4, board.getFreeCellsCount());
+        for (int i = 0; i < board.getFreeCellsCount(); i++) {
+            assertTrue(board.isFree(board.getFreeCell(i)));
+        }
+
+        board.setFlag(4, BoardStore.FLAG_OCCUPIED, false);
+        assertEquals(5, board.getFreeCellsCount());
+        assertTrue(board.isFree(4));
+        assertFalse(board.isFree(1));
+    }
+
+    @Test
+    void fullBoardTest() {
+        BoardStore board = new BoardStore(2, 2);
+        for (int cell = 0; cell < board.getTotalCells(); cell++) {
+            board.setFlag(cell, BoardStore.FLAG_OCCUPIED, true);
+        }
+        assertEquals(0, board.getFreeCellsCount());
+    }
+
+    @Test
+    void changeListenerTest() {
+        BoardStore board = new BoardStore(3, 2);
+        ArrayList<Integer> changedCells = new ArrayList<>();
+        board.setChangeListener(changedCells::add);
+
+        board.setOwner(2, 0);
+        board.setOwner(2, 0);
+        board.setFlag(3, BoardStore.FLAG_OCCUPIED, true);
+        board.setFlag(3, BoardStore.FLAG_OCCUPIED, true);
+        board.setOccupant(3, BoardStore.OCCUPANT_HOUSE);
+        board.markChanged(5);
+
+        assertEquals(4, changedCells.size());
+        assertEquals(2, (int) changedCells.get(0));
+        assertEquals(3, (int) changedCells.get(1));
+        assertEquals(3, (int) changedCells.get(2));
+        assertEquals(5, (int) changedCells.get(3));
+    }
+}
@@ -0,0 +1,61 @@
+package test;
+
+import data.element.Element;
+import data.element.ElementsGrid;
+import data.element.Soldier;
+import engine.util.ConversionUtility;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementsGridTest {
+
+    private static Soldier createSoldier(ElementsGrid grid, int indexX, int indexY) {
+        Soldier soldier = new Soldier(ConversionUtility.IndexToPixel(indexX), ConversionUtility.IndexToPixel(indexY));
+        grid.add(soldier, indexX, indexY);
+        return soldier;
+    }
+
+    @Test
+    void findNearestTest() {
+        ElementsGrid grid = new ElementsGrid();
+        Soldier near = createSoldier(grid, 2, 2);
+        Soldier far = createSoldier(grid, 20, 20);
+        Soldier middle = createSoldier(grid, 7, 3);
+
+        List<Element> result = ElementsGrid.findNearest(List.of(grid), 1, 1, 2, null);
+        assertEquals(2, result.size());
+        assertSame(near, result.get(0));
+        assertSame(middle, result.get(1));
+
+        result = ElementsGrid.findNearest(List.of(grid), 1, 1, 5, near);
+        assertEquals(2, result.size());
+        assertSame(far, result.get(1));
+    }
+
+    @Test
+    void tieTest() {
+        ElementsGrid grid = new ElementsGrid();
+        Soldier right = createSoldier(grid, 9, 5);
+        Soldier left = createSoldier(grid, 1, 5);
+        Soldier top = createSoldier(grid, 5, 1);
+
+        List<Element> result = ElementsGrid.findNearest(List.of(grid), 5, 5, 3, null);
+        assertSame(top, result.get(0));
+        assertSame(left, result.get(1));
+        assertSame(right, result.get(2));
+    }
+
+    @Test
+    void removeTest() {
+        ElementsGrid grid = new ElementsGrid();
+        Soldier soldier = createSoldier(grid, 3, 3);
+
+        assertFalse(grid.remove(soldier, 10, 10));
+        assertTrue(grid.remove(soldier, 3, 3));
+        assertEquals(0, grid.size());
+        assertTrue(ElementsGrid.findNearest(List.of(grid), 3, 3, 1, null).isEmpty());
+    }
+}
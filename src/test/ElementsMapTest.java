@@ -0,0 +1,67 @@
+package test;
+
+import configuration.GameplayConfig;
+import data.board.Block;
+import data.board.BoardStore;
+import data.element.ElementsMap;
+import data.element.House;
+import data.element.Soldier;
+import data.player.Player;
+import engine.util.ConversionUtility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementsMapTest {
+
+    @Test
+    void typeAndOwnerIndexesTest() {
+        BoardStore board = new BoardStore(4, 4);
+        Block soldierBlock = new Block(board, 1, 1);
+        Block houseBlock = new Block(board, 3, 3);
+        Player player = new Player(0, soldierBlock, GameplayConfig.POSSIBLE_PLAYER_COLORS[0], false);
+        Player enemy = new Player(1, houseBlock, GameplayConfig.POSSIBLE_PLAYER_COLORS[1], false);
+
+        ElementsMap elementsMap = new ElementsMap();
+        Soldier soldier = new Soldier(soldierBlock.getX(), soldierBlock.getY());
+        House house = new House(houseBlock.getX(), houseBlock.getY());
+
+        //put before having an owner
+        elementsMap.putElementOnBlock(soldierBlock, soldier);
+        elementsMap.putElementOnBlock(houseBlock, house);
+        assertEquals(1, elementsMap.getElements(BoardStore.OCCUPANT_SOLDIER).size());
+        assertEquals(1, elementsMap.getElements(BoardStore.OCCUPANT_HOUSE).size());
+        assertTrue(elementsMap.getOwnedElements(player.getId(), BoardStore.OCCUPANT_SOLDIER).isEmpty());
+
+        player.addOwnedElement(soldier);
+        enemy.addOwnedElement(house);
+        assertTrue(elementsMap.getOwnedElements(player.getId(), BoardStore.OCCUPANT_SOLDIER).contains(soldier));
+        assertTrue(elementsMap.getOwnedElements(enemy.getId(), BoardStore.OCCUPANT_HOUSE).contains(house));
+        assertSame(soldier, elementsMap.findNearestSoldiers(3, 3, enemy.getId(), false, 1, null).get(0));
+
+        //owner change
+        player.removeOwnedElement(soldier);
+        enemy.addOwnedElement(soldier);
+        assertTrue(elementsMap.getOwnedElements(player.getId(), BoardStore.OCCUPANT_SOLDIER).isEmpty());
+        assertTrue(elementsMap.getOwnedElements(enemy.getId(), BoardStore.OCCUPANT_SOLDIER).contains(soldier));
+        assertTrue(elementsMap.findNearestSoldiers(3, 3, enemy.getId(), false, 1, null).isEmpty());
+        assertSame(soldier, elementsMap.findNearestSoldiers(3, 3, enemy.getId(), true, 1, null).get(0));
+
+        //move then remove
+        Block movedBlock = new Block(board, 2, 1);
+        elementsMap.changeBlock(soldierBlock, movedBlock);
+        assertEquals(ConversionUtility.IndexToPixel(2), soldier.getX());
+        assertSame(soldier, elementsMap.findNearestSoldiers(2, 1, enemy.getId(), true, 1, null).get(0));
+
+        elementsMap.removeElementOnBlock(movedBlock);
+        assertTrue(elementsMap.getElements(BoardStore.OCCUPANT_SOLDIER).isEmpty());
+        assertTrue(elementsMap.getOwnedElements(enemy.getId(), BoardStore.OCCUPANT_SOLDIER).isEmpty());
+        assertTrue(elementsMap.findNearestSoldiers(2, 1, enemy.getId(), true, 1, null).isEmpty());
+
+        //an element which is no longer on the map is not indexed again when its owner changes
+        enemy.removeOwnedElement(soldier);
+        player.addOwnedElement(soldier);
+        assertTrue(elementsMap.getOwnedElements(player.getId(), BoardStore.OCCUPANT_SOLDIER).isEmpty());
+        assertEquals(1, elementsMap.getOwnedElements(enemy.getId(), BoardStore.OCCUPANT_HOUSE).size());
+    }
+}
@@ -0,0 +1,34 @@
+package test;
+
+import data.board.BoardStore;
+import data.player.Frontier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrontierTest {
+
+    @Test
+    void frontierTest() {
+        //3x3 board, the cell at the top right corner is removed
+        BoardStore board = new BoardStore(3, 3);
+        board.setFlag(2, BoardStore.FLAG_REMOVED, true);
+        Frontier frontier = new Frontier(board);
+
+        frontier.addOwnedCell(4);
+        assertEquals(1, frontier.getInnerCells().size());
+        assertEquals(4, frontier.getOuterCells().size());
+        assertFalse(frontier.getOuterCells().contains(2));
+
+        frontier.addOwnedCell(1);
+        assertEquals(2, frontier.getInnerCells().size());
+        assertEquals(4, frontier.getOuterCells().size());
+        assertTrue(frontier.getOuterCells().contains(0));
+
+        frontier.removeOwnedCell(4);
+        assertEquals(1, frontier.getInnerCells().size());
+        assertEquals(2, frontier.getOuterCells().size());
+        assertTrue(frontier.getOuterCells().contains(4));
+        assertFalse(frontier.getOuterCells().contains(7));
+    }
+}
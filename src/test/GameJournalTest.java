@@ -0,0 +1,95 @@
+package test;
+
+import configuration.GameplayConfig;
+import configuration.MapsConfig;
+import data.board.GameMap;
+import engine.exception.InvalidMapFileException;
+import engine.process.BotAction;
+import engine.process.GameSimulator;
+import engine.util.GameJournal;
+import engine.util.GameJournalReader;
+import main.game.Game;
+import main.game.GameManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    @Test
+    void writeAndReadJournalTest() throws IOException {
+        File file = File.createTempFile("conquete", ".journal");
+        file.deleteOnExit();
+
+        GameManager gameManager = new GameSimulator(MapsConfig.AVAILABLE_MAPS_LIST[0], 4, 1, 30).createGame(42);
+        GameJournal journal = new GameJournal(file.getPath(), gameManager);
+        gameManager.setJournal(journal);
+        BotAction botAction = new BotAction(gameManager);
+        for (int turn = 0; turn < 30; turn++) {
+            botAction.runAction();
+            gameManager.skipTurn();
+        }
+        assertEquals(30, gameManager.getTurn());
+
+        //records are written at each turn change
+        GameJournalReader reader = new GameJournalReader(file.getPath());
+        assertEquals(journal.getRecordCount(), reader.getRecordCount());
+        assertTrue(reader.getInitialState().remaining() > 0);
+
+        int turns = 0;
+        int moves = 0;
+        for (int i = 0; i < reader.getRecordCount(); i++) {
+            assertEquals(turns, reader.getTurn(i));
+            if (reader.getType(i) == GameJournal.RECORD_TURN) {
+                turns++;
+            } else if (reader.getType(i) == GameJournal.RECORD_MOVE) {
+                assertTrue(reader.getCell(i) >= 0 && reader.getTargetCell(i) >= 0);
+                moves++;
+            }
+        }
+        assertEquals(30, turns);
+        assertTrue(moves > 0);
+
+        //an incomplete record at the end of the file is ignored
+        journal.close();
+        try (FileOutputStream output = new FileOutputStream(file, true)) {
+            output.write(new byte[GameJournal.RECORD_SIZE / 2]);
+        }
+        assertEquals(journal.getRecordCount(), new GameJournalReader(file.getPath()).getRecordCount());
+
+    }
+
+    @Test
+    void startGameJournalTest() throws IOException, InvalidMapFileException {
+        File file = File.createTempFile("conquete", ".journal");
+        file.deleteOnExit();
+
+        Game game = new Game(GameplayConfig.MAX_PLAYERS, 0, 0, new GameMap());
+        //a game is not journaled until its journal is started
+        assertNull(game.getGameManager().getJournal());
+
+        game.startJournal(file.getPath());
+        GameJournal journal = game.getGameManager().getJournal();
+        assertNotNull(journal);
+        assertEquals(file.getPath(), journal.getPath());
+        game.getGameManager().skipTurn();
+        journal.close();
+        assertTrue(new GameJournalReader(file.getPath()).getRecordCount() > 0);
+
+    }
+
+    @Test
+    void readInvalidJournalTest() throws IOException {
+        File file = File.createTempFile("conquete", ".journal");
+        file.deleteOnExit();
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(new byte[64]);
+        }
+
+        assertThrows(IOException.class, () -> new GameJournalReader(file.getPath()));
+    }
+}
@@ -0,0 +1,39 @@
+package test;
+
+import engine.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void sameSeedTest() {
+        GameRandom random1 = new GameRandom(42);
+        GameRandom random2 = new GameRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random1.nextLong(), random2.nextLong());
+        }
+
+        GameRandom split1 = random1.split();
+        GameRandom split2 = random2.split();
+        assertEquals(split1.getSeed(), split2.getSeed());
+        assertEquals(split1.nextLong(), split2.nextLong());
+    }
+
+    @Test
+    void nextIntTest() {
+        GameRandom random = new GameRandom(7);
+        int[] counts = new int[5];
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(5);
+            assertTrue(value >= 0 && value < 5);
+            counts[value]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 800);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+    }
+}
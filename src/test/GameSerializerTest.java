@@ -0,0 +1,188 @@
+package test;
+
+import configuration.GameplayConfig;
+import data.board.Block;
+import data.board.GameMap;
+import data.element.AttackTower;
+import data.element.Base;
+import data.element.Element;
+import data.element.Soldier;
+import data.player.Player;
+import engine.datasearch.ElementsFinder;
+import engine.exception.InvalidMapFileException;
+import engine.exception.UnsupportedSaveException;
+import engine.util.AutosaveService;
+import engine.util.GameSerializer;
+import main.game.Game;
+import main.game.GameManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSerializerTest {
+
+    private static Block findEmptyOwnedBlock(Player player) {
+        for (Block ownedBlock : player.getOwnedBlocksList()) {
+            if (ownedBlock.isEmpty()) {
+                return ownedBlock;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void saveAndLoadGameTest() throws IOException, InvalidMapFileException {
+        File file = File.createTempFile("conquete", ".save");
+        file.deleteOnExit();
+
+        GameManager gameManager = new Game(GameplayConfig.MAX_PLAYERS, 0, 0, new GameMap()).getGameManager();
+        //a game is not saved until its autosave is started
+        assertNull(gameManager.getAutosaveService());
+        Player player = gameManager.getPlayersManager().getCurrentPlayer();
+        Block block = findEmptyOwnedBlock(player);
+        assertNotNull(block);
+        Soldier soldier = new Soldier(block.getX(), block.getY());
+        soldier.setAttackPoint(GameplayConfig.SOLDIER_INITIAL_ATTACK_POINTS + 1);
+        soldier.preventToMove();
+        player.addOwnedElement(soldier);
+        gameManager.getElementsMap().putElementOnBlock(block, soldier);
+        player.setTotalGold(42);
+
+        Block towerBlock = findEmptyOwnedBlock(player);
+        AttackTower tower = new AttackTower(towerBlock.getX(), towerBlock.getY());
+        player.addOwnedElement(tower);
+        gameManager.getElementsMap().putElementOnBlock(towerBlock, tower);
+        Player enemy = gameManager.getPlayersManager().getPlayerList().get(1);
+        Block enemyBlock = findEmptyOwnedBlock(enemy);
+        Soldier enemySoldier = new Soldier(enemyBlock.getX(), enemyBlock.getY());
+        enemy.addOwnedElement(enemySoldier);
+        gameManager.getElementsMap().putElementOnBlock(enemyBlock, enemySoldier);
+        for (int turn = 0; turn < 6; turn++) {
+            gameManager.skipTurn();
+        }
+
+        GameSerializer.saveGame(file.getPath(), gameManager);
+        Game game = GameSerializer.getSavedGame(file.getPath());
+        assertNotNull(game);
+        GameManager loadedManager = game.getGameManager();
+
+        ArrayList<Player> players = gameManager.getPlayersManager().getPlayerList();
+        ArrayList<Player> loadedPlayers = loadedManager.getPlayersManager().getPlayerList();
+        assertEquals(players.size(), loadedPlayers.size());
+        for (int index = 0; index < players.size(); index++) {
+            assertEquals(players.get(index).getId(), loadedPlayers.get(index).getId());
+            assertEquals(players.get(index).getTotalGold(), loadedPlayers.get(index).getTotalGold());
+            assertEquals(players.get(index).getTotalOwnedBlocks(), loadedPlayers.get(index).getTotalOwnedBlocks());
+            assertEquals(players.get(index).getTotalOwnedElements(), loadedPlayers.get(index).getTotalOwnedElements());
+        }
+        assertEquals(gameManager.getElementsMap().getValues().size(), loadedManager.getElementsMap().getValues().size());
+
+        Element loadedElement = loadedManager.getElementsMap().get(loadedManager.getMap().getBlockByCell(block.getCell()));
+        assertTrue(loadedElement instanceof Soldier);
+        Soldier loadedSoldier = (Soldier) loadedElement;
+        assertEquals(soldier.getAttackPoint(), loadedSoldier.getAttackPoint());
+        assertEquals(soldier.getHealthPoint(), loadedSoldier.getHealthPoint());
+        assertEquals(player.getId(), loadedSoldier.getOwnerId());
+
+        //queries by owner use the indexes of the loaded elements map
+        ElementsFinder elementsFinder = gameManager.getElementsFinder();
+        ElementsFinder loadedElementsFinder = loadedManager.getElementsFinder();
+        Player loadedPlayer = loadedManager.getPlayersManager().getPlayerById(player.getId());
+        assertEquals(1, loadedElementsFinder.elementMapToList(AttackTower.class, loadedPlayer).size());
+        for (Player originalPlayer : players) {
+            Player samePlayer = loadedManager.getPlayersManager().getPlayerById(originalPlayer.getId());
+            assertEquals(elementsFinder.countElementType(Soldier.class, originalPlayer),
+                    loadedElementsFinder.countElementType(Soldier.class, samePlayer));
+            assertEquals(elementsFinder.countElementType(Base.class, originalPlayer),
+                    loadedElementsFinder.countElementType(Base.class, samePlayer));
+        }
+        Soldier nearestEnemy = elementsFinder.findNearestEnemySoldier(block, player);
+        Soldier loadedNearestEnemy = loadedElementsFinder.findNearestEnemySoldier(
+                loadedManager.getMap().getBlockByCell(block.getCell()), loadedPlayer);
+        assertNotNull(nearestEnemy);
+        assertNotNull(loadedNearestEnemy);
+        assertEquals(nearestEnemy.getIndexX(), loadedNearestEnemy.getIndexX());
+        assertEquals(nearestEnemy.getIndexY(), loadedNearestEnemy.getIndexY());
+
+        for (int cell = 0; cell < gameManager.getMap().getTotalCells(); cell++) {
+            assertEquals(gameManager.getMap().getBoard().getOwner(cell), loadedManager.getMap().getBoard().getOwner(cell));
+        }
+        assertEquals(gameManager.getPlayersManager().getRandom().nextLong(),
+                loadedManager.getPlayersManager().getRandom().nextLong());
+
+    }
+
+    @Test
+    void autosaveTest() throws IOException, InvalidMapFileException, ExecutionException, InterruptedException,
+            TimeoutException {
+        File file = File.createTempFile("conquete", ".save");
+        file.deleteOnExit();
+
+        GameManager gameManager = new Game(GameplayConfig.MAX_PLAYERS, 0, 0, new GameMap()).getGameManager();
+        AutosaveService autosaveService = new AutosaveService(file.getPath(), 2);
+        gameManager.setAutosaveService(autosaveService);
+        gameManager.skipTurn();
+        gameManager.skipTurn();
+        Player currentPlayer = gameManager.getPlayersManager().getCurrentPlayer();
+        CompletableFuture<Boolean> saving = autosaveService.save(gameManager);
+        assertNotNull(saving);
+        assertTrue(saving.get(10, TimeUnit.SECONDS));
+        autosaveService.shutdown();
+        assertNull(autosaveService.save(gameManager));
+
+        //the writing completes with false when the file can't be written
+        AutosaveService failingService = new AutosaveService(
+                new File(file.getPath() + ".missing", GameSerializer.SAVED_GAME_PATH).getPath(), 1);
+        assertFalse(failingService.save(gameManager).get(10, TimeUnit.SECONDS));
+        failingService.shutdown();
+
+        //each writing uses its own temporary file, which doesn't remain
+        File[] temporaryFiles = file.getParentFile().listFiles(
+                (directory, name) -> name.startsWith(file.getName() + ".") && name.endsWith(".tmp"));
+        assertNotNull(temporaryFiles);
+        assertEquals(0, temporaryFiles.length);
+        Game game = GameSerializer.getSavedGame(file.getPath());
+        assertNotNull(game);
+        assertEquals(currentPlayer.getId(), game.getGameManager().getPlayersManager().getCurrentPlayer().getId());
+
+    }
+
+    @Test
+    void loadMissingGameTest() {
+        assertNull(GameSerializer.getSavedGame("missing" + File.separator + GameSerializer.SAVED_GAME_PATH));
+        assertThrows(IOException.class,
+                () -> GameSerializer.loadGame("missing" + File.separator + GameSerializer.SAVED_GAME_PATH));
+    }
+
+    @Test
+    void loadUnsupportedGameTest() throws IOException, InvalidMapFileException {
+        File file = File.createTempFile("conquete", ".save");
+        file.deleteOnExit();
+
+        //the first versions of the game saved the map first with Java serialization
+        try (ObjectOutputStream output = new ObjectOutputStream(new FileOutputStream(file))) {
+            output.writeObject(new GameMap());
+        }
+        assertThrows(UnsupportedSaveException.class, () -> GameSerializer.loadGame(file.getPath()));
+        assertNull(GameSerializer.getSavedGame(file.getPath()));
+
+        //a save written in a newer format version
+        GameManager gameManager = new Game(GameplayConfig.MAX_PLAYERS, 0, 0, new GameMap()).getGameManager();
+        ByteBuffer saved = ByteBuffer.allocate(GameSerializer.captureGame(gameManager).remaining());
+        saved.put(GameSerializer.captureGame(gameManager)).flip();
+        saved.putInt(Integer.BYTES, GameSerializer.FORMAT_VERSION + 1);
+        GameSerializer.writeSave(file.getPath(), saved);
+        assertThrows(UnsupportedSaveException.class, () -> GameSerializer.loadGame(file.getPath()));
+    }
+}
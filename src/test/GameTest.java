@@ -3,9 +3,13 @@ package test;
 import configuration.GameplayConfig;
 import data.board.GameMap;
 import engine.exception.InvalidMapFileException;
+import engine.util.GameSerializer;
 import main.game.Game;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameTest {
@@ -42,4 +46,27 @@ class GameTest {
             assert true;
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void stopGameTest() throws IOException, InvalidMapFileException {
+        File saveFile = File.createTempFile("conquete", ".save");
+        saveFile.deleteOnExit();
+        File journalFile = File.createTempFile("conquete", ".journal");
+        journalFile.deleteOnExit();
+        assertTrue(saveFile.delete());
+
+        Game game = new Game(GameplayConfig.MAX_PLAYERS, 0, 0, new GameMap());
+        game.startAutosave(saveFile.getPath());
+        game.startJournal(journalFile.getPath());
+        for (int turn = 0; turn < GameplayConfig.AUTOSAVE_TURNS_PERIOD; turn++) {
+            game.getGameManager().skipTurn();
+        }
+
+        //the last save is written when the game is stopped
+        game.stop();
+        assertNull(game.getGameManager().getAutosaveService());
+        assertNull(game.getGameManager().getJournal());
+        assertTrue(saveFile.exists());
+        assertNotNull(GameSerializer.getSavedGame(saveFile.getPath()));
+    }
+}
@@ -0,0 +1,81 @@
+package test;
+
+import data.board.Block;
+import data.board.GameMap;
+import data.element.ElementsMap;
+import data.player.Player;
+import data.player.PlayerColor;
+import engine.datasearch.ElementsFinder;
+import engine.datasearch.pathfinder.BlockNode;
+import engine.datasearch.pathfinder.PathFinder;
+import engine.process.MapBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathFinderTest {
+
+    private GameMap map;
+    private PathFinder pathFinder;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        map = new GameMap();
+        MapBuilder.buildRectMap(map, 10, 10);
+        pathFinder = new PathFinder(new ElementsFinder(new ElementsMap()), map);
+        player = new Player(0, map.getBlock(0, 1), new PlayerColor("Test", 0, 0, 0), false);
+    }
+
+    @Test
+    void straightPathTest() {
+        ArrayList<BlockNode> path = pathFinder.findDirectionAStar(player, map.getBlock(1, 1), map.getBlock(6, 1));
+        assertNotNull(path);
+        assertEquals(6, path.size());
+        assertSame(map.getBlock(6, 1), pathFinder.blockNodeToBlock(path.get(0)));
+        assertSame(map.getBlock(1, 1), pathFinder.blockNodeToBlock(path.get(path.size() - 1)));
+        for (int i = 0; i < path.size() - 1; i++) {
+            assertSame(path.get(i + 1), path.get(i).getParentNode());
+        }
+        assertNull(path.get(path.size() - 1).getParentNode());
+    }
+
+    @Test
+    void pathAroundRemovedBlocksTest() {
+        for (int indexY = 1; indexY < 9; indexY++) {
+            map.getBlock(5, indexY).remove();
+        }
+        ArrayList<BlockNode> path = pathFinder.findDirectionAStar(player, map.getBlock(4, 1), map.getBlock(6, 1));
+        assertNotNull(path);
+        assertEquals(19, path.size());
+        for (BlockNode node : path) {
+            assertFalse(pathFinder.blockNodeToBlock(node).isRemoved());
+        }
+
+        // Searches are repeated on the same arena
+        assertNotNull(pathFinder.findDirectionAStar(player, map.getBlock(6, 1), map.getBlock(4, 1)));
+    }
+
+    @Test
+    void noPathTest() {
+        for (int indexY = 1; indexY < 10; indexY++) {
+            map.getBlock(5, indexY).remove();
+        }
+        assertNull(pathFinder.findDirectionAStar(player, map.getBlock(4, 1), map.getBlock(6, 1)));
+        assertNull(pathFinder.findBlockToDirection(player, new ArrayList<>(), map.getBlock(4, 1), map.getBlock(6, 1)));
+    }
+
+    @Test
+    void findBlockToDirectionTest() {
+        ArrayList<Block> possibleMoves = new ArrayList<>();
+        possibleMoves.add(map.getBlock(2, 1));
+        possibleMoves.add(map.getBlock(3, 1));
+        possibleMoves.add(map.getBlock(1, 2));
+
+        Block direction = pathFinder.findBlockToDirection(player, possibleMoves, map.getBlock(1, 1), map.getBlock(8, 1));
+        assertSame(map.getBlock(3, 1), direction);
+    }
+}
@@ -1,6 +1,7 @@
 package test;
 
 import configuration.GameplayConfig;
+import data.board.Block;
 import data.board.GameMap;
 import data.player.Player;
 import engine.process.MapBuilder;
@@ -89,4 +90,24 @@ class PlayersManagerTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void playerOwnsBlockTest() {
+        playersManager.addNewPlayerToQueue();
+        playersManager.addNewPlayerToQueue();
+
+        Player player = playersManager.getCurrentPlayer();
+        for (Block block : player.getOwnedBlocksList()) {
+            assertSame(player, playersManager.getPlayerOwnsBlock(block));
+        }
+
+        Block baseBlock = player.getBaseBlock();
+        player.removeOwnedBlock(baseBlock);
+        assertFalse(player.ownsBlock(baseBlock));
+        assertNull(playersManager.getPlayerOwnsBlock(baseBlock));
+
+        Player otherPlayer = playersManager.getPlayerList().get(1);
+        otherPlayer.addOwnedBlock(baseBlock);
+        assertSame(otherPlayer, playersManager.getPlayerOwnsBlock(baseBlock));
+    }
+}
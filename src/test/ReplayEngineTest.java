@@ -0,0 +1,146 @@
+package test;
+
+import configuration.GameplayConfig;
+import configuration.MapsConfig;
+import data.board.Block;
+import data.board.BoardStore;
+import data.element.AttackTower;
+import data.element.DefenseTower;
+import data.element.Element;
+import data.element.Soldier;
+import data.player.Player;
+import engine.process.BotAction;
+import engine.process.GameSimulator;
+import engine.process.ReplayEngine;
+import engine.util.GameJournal;
+import engine.util.GameJournalReader;
+import main.game.GameManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayEngineTest {
+
+    /**
+     * @return the owner, the occupant and the health of the element of each cell, then the gold of each player and the
+     * amount of soldiers and towers found for him by the elements finder.
+     */
+    private static String describeGame(GameManager gameManager) {
+        StringBuilder description = new StringBuilder();
+        BoardStore board = gameManager.getMap().getBoard();
+        for (int cell = 0; cell < board.getTotalCells(); cell++) {
+            Element element = gameManager.getElementsFinder().findElementOnBlock(gameManager.getMap().getBlockByCell(cell));
+            description.append(board.getOwner(cell)).append(',').append(board.getOccupant(cell)).append(',')
+                    .append(element != null ? element.getHealthPoint() : 0).append(';');
+        }
+        for (Player player : gameManager.getPlayersManager().getPlayerList()) {
+            description.append(player.getId()).append(':').append(player.getTotalGold())
+                    .append(player.hasLost() ? "L" : "").append(':')
+                    .append(gameManager.getElementsFinder().countElementType(Soldier.class, player)).append(':')
+                    .append(gameManager.getElementsFinder().elementMapToList(AttackTower.class, player).size()).append(':')
+                    .append(gameManager.getElementsFinder().elementMapToList(DefenseTower.class, player).size()).append(';');
+        }
+        return description.append(gameManager.getPlayersManager().getCurrentPlayer().getId()).toString();
+    }
+
+    @Test
+    void seekReplayedTurnTest() throws IOException {
+        File file = File.createTempFile("conquete", ".journal");
+        file.deleteOnExit();
+
+        GameManager gameManager = new GameSimulator(MapsConfig.AVAILABLE_MAPS_LIST[0], 4, 1, 100).createGame(7);
+        GameJournal journal = new GameJournal(file.getPath(), gameManager);
+        gameManager.setJournal(journal);
+        BotAction botAction = new BotAction(gameManager);
+
+        HashMap<Integer, String> descriptions = new HashMap<>();
+        descriptions.put(0, describeGame(gameManager));
+        for (int turn = 1; turn <= 100; turn++) {
+            botAction.runAction();
+            gameManager.skipTurn();
+            if (turn % 15 == 0 || turn == 100) {
+                descriptions.put(turn, describeGame(gameManager));
+            }
+        }
+        journal.close();
+
+        ReplayEngine replayEngine = new ReplayEngine(new GameJournalReader(file.getPath()), 20);
+        assertEquals(0, replayEngine.getFirstTurn());
+        assertEquals(100, replayEngine.getLastTurn());
+        assertEquals(5, replayEngine.getKeyframeCount());
+        assertEquals(0, replayEngine.getDivergentRecords());
+
+        //turns before, on and after keyframes are rebuilt as they were played
+        for (int turn : descriptions.keySet()) {
+            GameManager replayed = replayEngine.seek(turn);
+            assertEquals(turn, replayed.getTurn());
+            assertEquals(descriptions.get(turn), describeGame(replayed));
+        }
+    }
+
+    @Test
+    void seekEveryTurnTest() throws IOException {
+        for (long seed : new long[]{2, 3, 7, 11}) {
+            File file = File.createTempFile("conquete", ".journal");
+            file.deleteOnExit();
+
+            GameManager gameManager = new GameSimulator(MapsConfig.AVAILABLE_MAPS_LIST[0], 4, 1, 100).createGame(seed);
+            //the bots don't buy attack towers, each player gets one at the first turn
+            for (Player player : gameManager.getPlayersManager().getPlayerList()) {
+                player.setTotalGold(player.getTotalGold() + GameplayConfig.ATTACK_TOWER_PRICE);
+            }
+            GameJournal journal = new GameJournal(file.getPath(), gameManager);
+            gameManager.setJournal(journal);
+            String[] descriptions = new String[101];
+            descriptions[0] = describeGame(gameManager);
+            for (Player player : gameManager.getPlayersManager().getPlayerList()) {
+                Block block = gameManager.getBlockFinder().findEmptyBlocks(player.getOwnedBlocksList()).get(0);
+                gameManager.buyAttackTower(player, block);
+            }
+            BotAction botAction = new BotAction(gameManager);
+
+            boolean keyframeWithTowers = false;
+            for (int turn = 1; turn <= 100; turn++) {
+                botAction.runAction();
+                gameManager.skipTurn();
+                descriptions[turn] = describeGame(gameManager);
+
+                if (turn % 20 == 0) {
+                    for (Player player : gameManager.getPlayersManager().getPlayerList()) {
+                        if (gameManager.getElementsFinder().countElementType(Soldier.class, player) > 0
+                                && gameManager.getElementsFinder().countElementType(AttackTower.class, player) > 0) {
+                            keyframeWithTowers = true;
+                        }
+                    }
+                }
+            }
+            journal.close();
+            //the owner indexes of the keyframes are only used when they contain owned soldiers and towers
+            assertTrue(keyframeWithTowers, "seed " + seed);
+
+            ReplayEngine replayEngine = new ReplayEngine(new GameJournalReader(file.getPath()), 20);
+            assertEquals(0, replayEngine.getDivergentRecords(), "seed " + seed);
+            for (int turn = 0; turn <= 100; turn++) {
+                assertEquals(descriptions[turn], describeGame(replayEngine.seek(turn)), "seed " + seed + ", turn " + turn);
+            }
+        }
+    }
+
+    @Test
+    void seekTurnOutOfJournalTest() throws IOException {
+        File file = File.createTempFile("conquete", ".journal");
+        file.deleteOnExit();
+
+        GameManager gameManager = new GameSimulator(MapsConfig.AVAILABLE_MAPS_LIST[0], 2, 1, 10).createGame(7);
+        new GameJournal(file.getPath(), gameManager).close();
+
+        ReplayEngine replayEngine = new ReplayEngine(new GameJournalReader(file.getPath()));
+        assertEquals(replayEngine.getFirstTurn(), replayEngine.getLastTurn());
+        assertThrows(IllegalArgumentException.class, () -> replayEngine.seek(replayEngine.getLastTurn() + 1));
+        assertThrows(IllegalArgumentException.class, () -> replayEngine.seek(replayEngine.getFirstTurn() - 1));
+    }
+}
@@ -0,0 +1,44 @@
+package test;
+
+import configuration.MapsConfig;
+import engine.monitoring.TurnProfile;
+import engine.monitoring.TurnProfiler;
+import engine.process.GameSimulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnProfilerTest {
+
+    @Test
+    void profileGameTest() {
+        TurnProfiler profiler = new TurnProfiler();
+        GameSimulator simulator = new GameSimulator(MapsConfig.AVAILABLE_MAPS_LIST[0], 4, 1, 30);
+        simulator.run(42, profiler);
+
+        ArrayList<TurnProfile> turns = profiler.getTurns();
+        assertEquals(30, turns.size());
+        long pathSearches = 0;
+        for (TurnProfile turn : turns) {
+            assertEquals(1, turn.getPhaseCalls(TurnProfiler.PHASE_SKIP_NEXT_PLAYER));
+            assertEquals(1, turn.getPhaseCalls(TurnProfiler.PHASE_BOT_UPDATE_DATA));
+            assertTrue(turn.getTotalTime() > 0);
+            assertTrue(turn.getExpandedNodes() >= turn.getPathSearches());
+            pathSearches += turn.getPathSearches();
+        }
+        assertTrue(pathSearches > 0);
+    }
+
+    @Test
+    void disabledProfilerTest() {
+        TurnProfiler profiler = TurnProfiler.DISABLED;
+        long start = profiler.start();
+        profiler.stop(TurnProfiler.PHASE_SKIP_STATISTICS, start);
+        profiler.endTurn(0, null);
+
+        assertFalse(profiler.isEnabled());
+        assertTrue(profiler.getTurns().isEmpty());
+    }
+}